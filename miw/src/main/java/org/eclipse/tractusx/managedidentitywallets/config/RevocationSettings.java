@@ -25,6 +25,20 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.net.URI;
 
+/**
+ * Settings of the revocation service.
+ *
+ * @param url                   the url the revocation service is called with
+ * @param statusList2021Context the context of status list 2021 credentials
+ * @param statusListUrl         the public base url of the revocation service in the status list credential
+ *                              urls of issued credentials; defaults to url
+ */
 @ConfigurationProperties(prefix = "miw.revocation")
-public record RevocationSettings(URI url, URI statusList2021Context) {
+public record RevocationSettings(URI url, URI statusList2021Context, URI statusListUrl) {
+
+    public RevocationSettings {
+        if (statusListUrl == null) {
+            statusListUrl = url;
+        }
+    }
 }
@@ -0,0 +1,47 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the pool of status list entries reserved ahead of credential issuance.
+ *
+ * @param enabled      take status list entries of issued credentials from the pool instead of reserving each one
+ * @param batchSize    number of entries reserved with one request to the revocation service
+ * @param lowWatermark number of entries left in the pool of an issuer at which it is refilled in the background
+ */
+@ConfigurationProperties(prefix = "miw.revocation.status-entry-pool")
+public record StatusEntryPoolSettings(@DefaultValue("false") boolean enabled,
+                                      @DefaultValue("100") int batchSize,
+                                      @DefaultValue("20") int lowWatermark) {
+
+    public StatusEntryPoolSettings {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        if (lowWatermark < 0 || lowWatermark >= batchSize) {
+            throw new IllegalArgumentException("lowWatermark must be between 0 and batchSize - 1");
+        }
+    }
+}
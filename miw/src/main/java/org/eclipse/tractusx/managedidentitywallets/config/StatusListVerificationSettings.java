@@ -0,0 +1,40 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the local verification of credential statuses.
+ *
+ * @param enabled verify credential statuses against cached status lists instead of asking the revocation service
+ * @param ttl     time after which a cached status list is revalidated with the revocation service
+ * @param maxSize maximum number of status lists kept in memory
+ */
+@ConfigurationProperties(prefix = "miw.revocation.local-verification")
+public record StatusListVerificationSettings(@DefaultValue("false") boolean enabled,
+                                             @DefaultValue("PT1M") Duration ttl,
+                                             @DefaultValue("1000") int maxSize) {
+}
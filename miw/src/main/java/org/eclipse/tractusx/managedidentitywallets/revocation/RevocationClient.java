@@ -22,18 +22,22 @@
 package org.eclipse.tractusx.managedidentitywallets.revocation;
 
 import io.swagger.v3.oas.annotations.Parameter;
+import org.eclipse.tractusx.managedidentitywallets.dto.CredentialStatusBatchRequest;
 import org.eclipse.tractusx.managedidentitywallets.dto.StatusListRequest;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialStatus;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -57,6 +61,22 @@ public interface RevocationClient {
                                                  @PathVariable(name = "index") String index,
                                                  @RequestHeader(name = HttpHeaders.AUTHORIZATION) String token);
 
+    /**
+     * Gets status list credential unless it has not been modified since the given version.
+     *
+     * @param issuerBpn   the issuer BPN
+     * @param status      the status
+     * @param index       the index
+     * @param ifNoneMatch the entity tag of the known version, may be null
+     * @return the status list credential with its entity tag; a 304 response is raised as
+     * {@link org.eclipse.tractusx.managedidentitywallets.exception.RevocationException}
+     */
+    @GetMapping(path = "/api/v1/revocations/credentials/{issuerBpn}/{status}/{index}", produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<VerifiableCredential> getStatusListCredentialIfNoneMatch(@PathVariable(name = "issuerBpn") String issuerBpn,
+                                                                            @PathVariable(name = "status") String status,
+                                                                            @PathVariable(name = "index") String index,
+                                                                            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
+
 
     /**
      * Gets status list entry.
@@ -70,6 +90,20 @@ public interface RevocationClient {
                                            @RequestHeader(name = HttpHeaders.AUTHORIZATION) String token);
 
 
+    /**
+     * Reserves several status list entries with a single request.
+     *
+     * @param statusListRequest the status list request
+     * @param count             the number of entries
+     * @param token             the token
+     * @return the status list entries
+     */
+    @PostMapping(path = "/api/v1/revocations/status-entry/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    List<Map<String, Object>> getStatusListEntries(@RequestBody StatusListRequest statusListRequest,
+                                                   @RequestParam(name = "count") int count,
+                                                   @RequestHeader(name = HttpHeaders.AUTHORIZATION) String token);
+
+
     /**
      * Revoke credential.
      *
@@ -92,4 +126,16 @@ public interface RevocationClient {
     Map<String, String> verifyCredentialStatus(@RequestBody VerifiableCredentialStatus verifiableCredentialStatus,
                                                @Parameter(hidden = true) @RequestHeader(name = HttpHeaders.AUTHORIZATION) String token);
 
+
+    /**
+     * Verify the status of several credentials with a single request.
+     *
+     * @param credentialStatusBatchRequest the verifiable credential statuses
+     * @param token                        the token
+     * @return the statuses, in the order of the request
+     */
+    @PostMapping(path = "/api/v1/revocations/verify/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    List<Map<String, String>> verifyCredentialStatuses(@RequestBody CredentialStatusBatchRequest credentialStatusBatchRequest,
+                                                       @Parameter(hidden = true) @RequestHeader(name = HttpHeaders.AUTHORIZATION) String token);
+
 }
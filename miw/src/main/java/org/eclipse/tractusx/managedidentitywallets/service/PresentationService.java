@@ -29,6 +29,7 @@ import com.smartsensesolutions.commons.dao.base.BaseService;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.managedidentitywallets.commons.constant.CredentialStatus;
 import org.eclipse.tractusx.managedidentitywallets.commons.constant.StringPool;
 import org.eclipse.tractusx.managedidentitywallets.commons.constant.SupportedAlgorithms;
 import org.eclipse.tractusx.managedidentitywallets.commons.exception.BadDataException;
@@ -44,6 +45,7 @@ import org.eclipse.tractusx.managedidentitywallets.domain.SigningServiceType;
 import org.eclipse.tractusx.managedidentitywallets.domain.VerifiableEncoding;
 import org.eclipse.tractusx.managedidentitywallets.exception.MissingVcTypesException;
 import org.eclipse.tractusx.managedidentitywallets.exception.PermissionViolationException;
+import org.eclipse.tractusx.managedidentitywallets.service.revocation.RevocationService;
 import org.eclipse.tractusx.managedidentitywallets.signing.SignerResult;
 import org.eclipse.tractusx.managedidentitywallets.signing.SigningService;
 import org.eclipse.tractusx.ssi.lib.did.resolver.DidResolver;
@@ -96,6 +98,8 @@ public class PresentationService extends BaseService<HoldersCredential, Long> {
 
     private final JtiRepository jtiRepository;
 
+    private final RevocationService revocationService;
+
 
     @Override
     protected BaseRepository<HoldersCredential, Long> getRepository() {
@@ -164,10 +168,11 @@ public class PresentationService extends BaseService<HoldersCredential, Long> {
      * @param asJwt                    the as jwt
      * @param withCredentialExpiryDate the with credential expiry date
      * @param audience                 the audience
+     * @param token                    the token
      * @return the map
      */
     @SneakyThrows
-    public Map<String, Object> validatePresentation(Map<String, Object> vp, boolean asJwt, boolean withCredentialExpiryDate, String audience) {
+    public Map<String, Object> validatePresentation(Map<String, Object> vp, boolean asJwt, boolean withCredentialExpiryDate, String audience, String token) {
 
         Map<String, Object> response = new HashMap<>();
         if (asJwt) {
@@ -204,6 +209,9 @@ public class PresentationService extends BaseService<HoldersCredential, Long> {
                         validCredential = false;
                     }
                 }
+                if (!validateCredentialStatuses(presentation.getVerifiableCredentials(), token)) {
+                    validCredential = false;
+                }
             } catch (InvalidJsonLdException e) {
                 throw new BadDataException(String.format("Invalid Json-LD: %s", e.getMessage()));
             }
@@ -271,6 +279,15 @@ public class PresentationService extends BaseService<HoldersCredential, Long> {
         return isValid;
     }
 
+    /**
+     * Checks the revocation status of all credentials of a presentation with a single request to the
+     * revocation service.
+     */
+    private boolean validateCredentialStatuses(List<VerifiableCredential> credentials, String token) {
+        List<CredentialStatus> credentialStatuses = revocationService.checkRevocations(credentials, token);
+        return credentialStatuses.stream().allMatch(CredentialStatus.ACTIVE::equals);
+    }
+
     @SneakyThrows
     public Map<String, Object> createVpWithRequiredScopes(SignedJWT innerJWT, boolean asJwt) {
 
@@ -34,18 +34,26 @@ import org.eclipse.tractusx.managedidentitywallets.commons.exception.BadDataExce
 import org.eclipse.tractusx.managedidentitywallets.commons.exception.ForbiddenException;
 import org.eclipse.tractusx.managedidentitywallets.commons.utils.Validate;
 import org.eclipse.tractusx.managedidentitywallets.dao.entity.Wallet;
+import org.eclipse.tractusx.managedidentitywallets.dto.CredentialStatusBatchRequest;
 import org.eclipse.tractusx.managedidentitywallets.dto.CredentialVerificationRequest;
 import org.eclipse.tractusx.managedidentitywallets.dto.StatusListRequest;
+import org.eclipse.tractusx.managedidentitywallets.exception.CredentialAlreadyRevokedProblem;
 import org.eclipse.tractusx.managedidentitywallets.exception.RevocationException;
 import org.eclipse.tractusx.managedidentitywallets.revocation.RevocationClient;
 import org.eclipse.tractusx.managedidentitywallets.service.CommonService;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialStatus;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialStatusList2021Entry;
 import org.eclipse.tractusx.ssi.lib.serialization.SerializeUtil;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * The `RevocationService` class is a Java service that handles the revocation of credentials and
@@ -62,6 +70,10 @@ public class RevocationService {
 
     private final ObjectMapper objectMapper;
 
+    private final StatusListVerifier statusListVerifier;
+
+    private final StatusEntryPool statusEntryPool;
+
 
     @SneakyThrows
     public void revokeCredential(CredentialVerificationRequest verificationRequest, String callerBpn, String token) {
@@ -84,24 +96,30 @@ public class RevocationService {
         //check caller must be issuer of VC
         Validate.isFalse(issuerWallet.getBpn().equals(callerBpn)).launch(new ForbiddenException("Invalid credential access"));
 
-        //check if VC is already Revoked
-        CredentialStatus credentialStatus = checkRevocation(verifiableCredential, token);
-
-        if (credentialStatus.getName().equals(CredentialStatus.REVOKED.getName())) {
-            throw new RevocationException(HttpStatus.CONFLICT.value(), "Credential is already revoked", Map.of("message", "Credential is already revoked"));
+        //the revocation service sets the bit atomically and answers with a conflict if it is already set
+        try {
+            revocationClient.revokeCredential(verifiableCredential.getVerifiableCredentialStatus(), token);
+        } catch (RevocationException e) {
+            if (e.getStatus() == HttpStatus.CONFLICT.value()) {
+                throw new CredentialAlreadyRevokedProblem("Credential is already revoked", e);
+            }
+            throw e;
         }
-        revocationClient.revokeCredential(verifiableCredential.getVerifiableCredentialStatus(), token);
         log.info("Credential with id {} is revoked by caller bpn {}", verifiableCredential.getId(), callerBpn);
     }
 
     /**
-     * Gets status list entry.
+     * Gets status list entry. With the status entry pool enabled the entry is taken from the entries
+     * reserved ahead for the issuer.
      *
      * @param issuerId the issuer id
      * @param token    the token
      * @return the status list entry
      */
     public VerifiableCredentialStatusList2021Entry getStatusListEntry(@NotNull String issuerId, String token) {
+        if (statusEntryPool.isEnabled()) {
+            return new VerifiableCredentialStatusList2021Entry(statusEntryPool.take(issuerId, token));
+        }
         StatusListRequest statusListRequest = StatusListRequest.builder()
                 .issuerId(issuerId)
                 .purpose(RevocationPurpose.REVOCATION.name().toLowerCase())
@@ -111,15 +129,58 @@ public class RevocationService {
     }
 
     /**
-     * Check revocation credential status.
+     * Check revocation credential status. With local verification enabled the status is looked up in
+     * a cached status list instead of asking the revocation service.
      *
      * @param verifiableCredential the verifiable credential
      * @param token                the token
      * @return the credential status
      */
     public CredentialStatus checkRevocation(@NotNull VerifiableCredential verifiableCredential, String token) {
+        if (statusListVerifier.isEnabled()) {
+            CredentialStatus credentialStatus = statusListVerifier.checkStatus(verifiableCredential.getVerifiableCredentialStatus());
+            log.debug("Revocation status for VC id->{}  -> {}", verifiableCredential.getId(), credentialStatus.getName());
+            return credentialStatus;
+        }
         Map<String, String> response = revocationClient.verifyCredentialStatus(verifiableCredential.getVerifiableCredentialStatus(), token);
         log.debug("Revocation status for VC id->{}  -> {}", verifiableCredential.getId(), response.get("status"));
         return CredentialStatus.valueOf(response.get("status").toUpperCase());
     }
+
+    /**
+     * Check revocation status of several credentials with a single request to the revocation service.
+     * Credentials without credential status are reported as active.
+     *
+     * @param verifiableCredentials the verifiable credentials
+     * @param token                 the token
+     * @return the credential statuses, in the order of the given credentials
+     */
+    public List<CredentialStatus> checkRevocations(@NotNull List<VerifiableCredential> verifiableCredentials, String token) {
+        if (statusListVerifier.isEnabled()) {
+            return verifiableCredentials.stream()
+                    .map(verifiableCredential -> verifiableCredential.getVerifiableCredentialStatus() == null
+                            ? CredentialStatus.ACTIVE
+                            : checkRevocation(verifiableCredential, token))
+                    .toList();
+        }
+        List<VerifiableCredentialStatus> credentialStatuses = verifiableCredentials.stream()
+                .map(VerifiableCredential::getVerifiableCredentialStatus)
+                .filter(Objects::nonNull)
+                .toList();
+        Iterator<Map<String, String>> responses = credentialStatuses.isEmpty()
+                ? Collections.emptyIterator()
+                : revocationClient.verifyCredentialStatuses(new CredentialStatusBatchRequest(credentialStatuses), token).iterator();
+
+        List<CredentialStatus> result = new ArrayList<>(verifiableCredentials.size());
+        for (VerifiableCredential verifiableCredential : verifiableCredentials) {
+            if (verifiableCredential.getVerifiableCredentialStatus() == null) {
+                result.add(CredentialStatus.ACTIVE);
+                continue;
+            }
+            String status = responses.next().get("status");
+            log.debug("Revocation status for VC id->{}  -> {}", verifiableCredential.getId(), status);
+            result.add(CredentialStatus.valueOf(status.toUpperCase()));
+        }
+        return result;
+    }
 }
@@ -0,0 +1,256 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.service.revocation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.managedidentitywallets.commons.constant.RevocationPurpose;
+import org.eclipse.tractusx.managedidentitywallets.config.StatusEntryPoolSettings;
+import org.eclipse.tractusx.managedidentitywallets.dto.StatusListRequest;
+import org.eclipse.tractusx.managedidentitywallets.revocation.RevocationClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of status list entries reserved ahead of credential issuance, per issuer. Entries are
+ * reserved in batches; once the pool of an issuer runs low it is refilled in the background with
+ * the token of the caller that took the entry, so issuance usually does not wait for the revocation
+ * service. Only when the pool is empty a batch is reserved on the caller's thread.
+ *
+ * <p>Every entry is handed out at most once. Entries that are still pooled when the application
+ * shuts down are never used; they are logged and counted as burnt. Their bits stay unset, so they
+ * do not affect the status of any credential. Entries are taken within the transaction of the
+ * issuance. If it does not commit, the entry is burnt as well: the credential holding it may have
+ * been signed and escaped, so its index is never handed out again.
+ */
+@Slf4j
+@Component
+public class StatusEntryPool {
+
+    private final RevocationClient revocationClient;
+
+    private final StatusEntryPoolSettings settings;
+
+    private final ExecutorService executor;
+
+    public static final String BURNT_METRIC = "miw.status_entry_pool.burnt";
+
+    public static final String ROLLED_BACK_METRIC = "miw.status_entry_pool.rolled_back";
+
+    private final Map<String, IssuerPool> pools = new ConcurrentHashMap<>();
+
+    private final Counter burnt;
+
+    private final Counter rolledBack;
+
+    private volatile boolean closed;
+
+    @Autowired
+    public StatusEntryPool(RevocationClient revocationClient, StatusEntryPoolSettings settings,
+                           MeterRegistry meterRegistry) {
+        this(revocationClient, settings, meterRegistry, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "status-entry-pool");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    StatusEntryPool(RevocationClient revocationClient, StatusEntryPoolSettings settings, MeterRegistry meterRegistry,
+                    ExecutorService executor) {
+        this.revocationClient = revocationClient;
+        this.settings = settings;
+        this.executor = executor;
+        this.burnt = Counter.builder(BURNT_METRIC)
+                .description("Status list entries reserved but never used")
+                .register(meterRegistry);
+        this.rolledBack = Counter.builder(ROLLED_BACK_METRIC)
+                .description("Status list entries burnt because their issuance rolled back")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether status list entries are taken from the pool.
+     *
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+        return settings.enabled();
+    }
+
+    /**
+     * Takes a status list entry of an issuer from the pool. Within a transaction, the entry is burnt if
+     * the transaction does not commit.
+     *
+     * @param issuerId the issuer id
+     * @param token    the token
+     * @return the status list entry
+     */
+    public Map<String, Object> take(String issuerId, String token) {
+        Map<String, Object> entry = closed
+                ? revocationClient.getStatusListEntry(statusListRequest(issuerId), token)
+                : takePooled(issuerId, token);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        rolledBack.increment();
+                        burn(issuerId, List.of(entry));
+                    }
+                }
+            });
+        }
+        return entry;
+    }
+
+    private Map<String, Object> takePooled(String issuerId, String token) {
+        IssuerPool pool = pools.computeIfAbsent(issuerId, id -> new IssuerPool());
+        Map<String, Object> entry;
+        boolean refill = false;
+        synchronized (pool) {
+            entry = pool.entries.poll();
+            if (entry != null && !pool.refilling && pool.entries.size() <= settings.lowWatermark()) {
+                pool.refilling = true;
+                refill = true;
+            }
+        }
+        if (entry == null) {
+            // the pool ran dry, reserve a batch on the caller's thread
+            List<Map<String, Object>> batch = reserve(issuerId, token);
+            entry = batch.get(0);
+            offer(issuerId, pool, batch.subList(1, batch.size()));
+        } else if (refill) {
+            executor.execute(() -> refill(issuerId, pool, token));
+        }
+        return entry;
+    }
+
+    /**
+     * Number of entries currently pooled for an issuer.
+     *
+     * @param issuerId the issuer id
+     * @return the number of pooled entries
+     */
+    public int size(String issuerId) {
+        IssuerPool pool = pools.get(issuerId);
+        if (pool == null) {
+            return 0;
+        }
+        synchronized (pool) {
+            return pool.entries.size();
+        }
+    }
+
+    /**
+     * Stops refilling and reports the entries left in the pools as burnt.
+     */
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+        pools.forEach((issuerId, pool) -> {
+            List<Map<String, Object>> unused;
+            synchronized (pool) {
+                unused = new ArrayList<>(pool.entries);
+                pool.entries.clear();
+            }
+            burn(issuerId, unused);
+        });
+    }
+
+    private void refill(String issuerId, IssuerPool pool, String token) {
+        try {
+            offer(issuerId, pool, reserve(issuerId, token));
+        } catch (RuntimeException e) {
+            log.warn("Could not refill status list entries of issuer {}: {}", issuerId, e.getMessage());
+        } finally {
+            synchronized (pool) {
+                pool.refilling = false;
+            }
+        }
+    }
+
+    private List<Map<String, Object>> reserve(String issuerId, String token) {
+        List<Map<String, Object>> batch = revocationClient.getStatusListEntries(statusListRequest(issuerId), settings.batchSize(), token);
+        if (batch == null || batch.isEmpty()) {
+            throw new IllegalStateException("Revocation service did not reserve any status list entry");
+        }
+        log.debug("Reserved {} status list entries for issuer {}", batch.size(), issuerId);
+        return batch;
+    }
+
+    private void offer(String issuerId, IssuerPool pool, List<Map<String, Object>> entries) {
+        synchronized (pool) {
+            // checked under the lock, shutdown drains the pool only after setting the flag
+            if (!closed) {
+                pool.entries.addAll(entries);
+                return;
+            }
+        }
+        burn(issuerId, entries);
+    }
+
+    private void burn(String issuerId, List<Map<String, Object>> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        burnt.increment(entries.size());
+        log.warn("Burnt {} unused status list entries of issuer {}: {}", entries.size(), issuerId,
+                entries.stream().map(entry -> entry.get("id")).toList());
+    }
+
+    private static StatusListRequest statusListRequest(String issuerId) {
+        return StatusListRequest.builder()
+                .issuerId(issuerId)
+                .purpose(RevocationPurpose.REVOCATION.name().toLowerCase())
+                .build();
+    }
+
+    private static final class IssuerPool {
+
+        private final Deque<Map<String, Object>> entries = new ArrayDeque<>();
+
+        private boolean refilling;
+    }
+}
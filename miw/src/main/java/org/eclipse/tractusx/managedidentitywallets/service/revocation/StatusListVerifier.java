@@ -0,0 +1,262 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.service.revocation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.managedidentitywallets.commons.constant.CredentialStatus;
+import org.eclipse.tractusx.managedidentitywallets.commons.exception.BadDataException;
+import org.eclipse.tractusx.managedidentitywallets.config.RevocationSettings;
+import org.eclipse.tractusx.managedidentitywallets.config.StatusListVerificationSettings;
+import org.eclipse.tractusx.managedidentitywallets.exception.RevocationException;
+import org.eclipse.tractusx.managedidentitywallets.revocation.RevocationClient;
+import org.eclipse.tractusx.managedidentitywallets.service.DidDocumentResolverService;
+import org.eclipse.tractusx.ssi.lib.did.resolver.DidResolver;
+import org.eclipse.tractusx.ssi.lib.exception.did.DidParseException;
+import org.eclipse.tractusx.ssi.lib.exception.json.TransformJsonLdException;
+import org.eclipse.tractusx.ssi.lib.exception.key.InvalidPublicKeyFormatException;
+import org.eclipse.tractusx.ssi.lib.exception.proof.NoVerificationKeyFoundException;
+import org.eclipse.tractusx.ssi.lib.exception.proof.SignatureParseException;
+import org.eclipse.tractusx.ssi.lib.exception.proof.SignatureVerificationFailedException;
+import org.eclipse.tractusx.ssi.lib.exception.proof.UnsupportedSignatureTypeException;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialStatus;
+import org.eclipse.tractusx.ssi.lib.proof.LinkedDataProofValidation;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Verifies credential statuses against status list credentials cached in memory, instead of asking
+ * the revocation service for every credential. A status list credential is fetched once, its proof
+ * is verified and the decoded bits are kept until the ttl expired; it is then revalidated with a
+ * conditional request. Concurrent verifications against a status list that is not cached wait for a
+ * single fetch. Only status lists under the public status list url of the revocation service are
+ * verified, credentials pointing to status lists of other hosts are rejected. The status lists are
+ * fetched through the revocation client, which may call the service under an internal url.
+ */
+@Slf4j
+@Component
+public class StatusListVerifier {
+
+    private static final Pattern STATUS_LIST_PATH =
+            Pattern.compile("/api/v1/revocations/credentials/([^/]+)/([^/]+)/([^/]+)$");
+
+    private static final String STATUS_LIST_CREDENTIAL = "statusListCredential";
+
+    private static final String STATUS_LIST_INDEX = "statusListIndex";
+
+    private static final String ENCODED_LIST = "encodedList";
+
+    private final RevocationClient revocationClient;
+
+    private final StatusListVerificationSettings settings;
+
+    private final URI revocationServiceUrl;
+
+    private final DidResolver didResolver;
+
+    private final Map<String, StatusList> statusLists;
+
+    private final Map<String, CompletableFuture<StatusList>> loading = new ConcurrentHashMap<>();
+
+    public StatusListVerifier(RevocationClient revocationClient, StatusListVerificationSettings settings,
+                              RevocationSettings revocationSettings,
+                              DidDocumentResolverService didDocumentResolverService) {
+        this.revocationClient = revocationClient;
+        this.settings = settings;
+        this.revocationServiceUrl = revocationSettings.statusListUrl();
+        this.didResolver = didDocumentResolverService.getCompositeDidResolver();
+        this.statusLists = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StatusList> eldest) {
+                return size() > settings.maxSize();
+            }
+        };
+    }
+
+    /**
+     * Whether credential statuses are verified locally.
+     *
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+        return settings.enabled();
+    }
+
+    /**
+     * Check the status of a credential.
+     *
+     * @param credentialStatus the credential status
+     * @return the credential status
+     */
+    public CredentialStatus checkStatus(VerifiableCredentialStatus credentialStatus) {
+        String url = String.valueOf(credentialStatus.get(STATUS_LIST_CREDENTIAL));
+        int index;
+        try {
+            index = Integer.parseInt(String.valueOf(credentialStatus.get(STATUS_LIST_INDEX)));
+        } catch (NumberFormatException e) {
+            throw new BadDataException("Invalid status list index");
+        }
+        StatusList statusList = getStatusList(url);
+        if (index < 0) {
+            throw new BadDataException("Invalid status list index");
+        }
+        // encoded lists end at the last revoked entry, entries beyond are active
+        return statusList.bits().get(index) ? CredentialStatus.REVOKED : CredentialStatus.ACTIVE;
+    }
+
+    private StatusList getStatusList(String url) {
+        StatusList cached;
+        synchronized (statusLists) {
+            cached = statusLists.get(url);
+        }
+        if (cached != null && System.nanoTime() - cached.loadedAt() < settings.ttl().toNanos()) {
+            return cached;
+        }
+        CompletableFuture<StatusList> future = new CompletableFuture<>();
+        CompletableFuture<StatusList> pending = loading.putIfAbsent(url, future);
+        if (pending != null) {
+            return await(pending);
+        }
+        try {
+            StatusList statusList = load(url, cached);
+            synchronized (statusLists) {
+                statusLists.put(url, statusList);
+            }
+            future.complete(statusList);
+            return statusList;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(url, future);
+        }
+    }
+
+    private static StatusList await(CompletableFuture<StatusList> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private StatusList load(String url, StatusList cached) {
+        URI uri;
+        try {
+            uri = URI.create(url);
+        } catch (IllegalArgumentException e) {
+            throw new BadDataException("Invalid status list credential " + url);
+        }
+        if (!isRevocationServiceUrl(uri)) {
+            throw new BadDataException("Status list credential " + url + " is not issued by the revocation service");
+        }
+        Matcher matcher = STATUS_LIST_PATH.matcher(uri.getPath());
+        if (!matcher.find()) {
+            throw new BadDataException("Unknown status list credential " + url);
+        }
+        ResponseEntity<VerifiableCredential> response;
+        try {
+            response = revocationClient.getStatusListCredentialIfNoneMatch(matcher.group(1), matcher.group(2),
+                    matcher.group(3), cached == null ? null : cached.eTag());
+        } catch (RevocationException e) {
+            if (cached != null && e.getStatus() == HttpStatus.NOT_MODIFIED.value()) {
+                log.debug("Status list {} not modified", url);
+                return cached.revalidated();
+            }
+            throw e;
+        }
+        VerifiableCredential statusListCredential = response.getBody();
+        if (statusListCredential == null) {
+            throw new BadDataException("Status list credential " + url + " not found");
+        }
+        if (!isProofValid(statusListCredential)) {
+            throw new BadDataException("Invalid proof of status list credential " + url);
+        }
+        String encodedList = (String) statusListCredential.getCredentialSubject().get(0).get(ENCODED_LIST);
+        BitSet bits = decode(encodedList);
+        log.debug("Loaded status list {}", url);
+        return new StatusList(bits, response.getHeaders().getETag(), System.nanoTime());
+    }
+
+    private boolean isRevocationServiceUrl(URI uri) {
+        return uri.getScheme() != null && uri.getHost() != null
+                && uri.getScheme().equalsIgnoreCase(revocationServiceUrl.getScheme())
+                && uri.getHost().equalsIgnoreCase(revocationServiceUrl.getHost())
+                && port(uri) == port(revocationServiceUrl);
+    }
+
+    private static int port(URI uri) {
+        if (uri.getPort() != -1) {
+            return uri.getPort();
+        }
+        return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+    }
+
+    private boolean isProofValid(VerifiableCredential statusListCredential) {
+        LinkedDataProofValidation proofValidation = LinkedDataProofValidation.newInstance(didResolver);
+        try {
+            return proofValidation.verify(statusListCredential);
+        } catch (UnsupportedSignatureTypeException | SignatureParseException | DidParseException |
+                 InvalidPublicKeyFormatException | SignatureVerificationFailedException |
+                 NoVerificationKeyFoundException | TransformJsonLdException e) {
+            log.error("Verification of status list credential failed with error -> {}", e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private static BitSet decode(String encodedList) {
+        if (encodedList == null) {
+            throw new BadDataException("Status list credential without encoded list");
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(encodedList)))) {
+            return BitSet.valueOf(in.readAllBytes());
+        } catch (IOException | IllegalArgumentException e) {
+            throw new BadDataException("Invalid encoded list of status list credential");
+        }
+    }
+
+    private record StatusList(BitSet bits, String eTag, long loadedAt) {
+
+        StatusList revalidated() {
+            return new StatusList(bits, eTag, System.nanoTime());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.service.revocation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.tractusx.managedidentitywallets.commons.constant.CredentialStatus;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.Wallet;
+import org.eclipse.tractusx.managedidentitywallets.dto.CredentialVerificationRequest;
+import org.eclipse.tractusx.managedidentitywallets.exception.CredentialAlreadyRevokedProblem;
+import org.eclipse.tractusx.managedidentitywallets.exception.RevocationException;
+import org.eclipse.tractusx.managedidentitywallets.revocation.RevocationClient;
+import org.eclipse.tractusx.managedidentitywallets.service.CommonService;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.mockito.Mockito;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RevocationServiceTest {
+
+    private static final String ISSUER_BPN = "BPNL000000000000";
+
+    private static final String ISSUER_DID = "did:web:localhost:BPNL000000000000";
+
+    private RevocationClient revocationClient;
+
+    private VerifiableCredentialStatus credentialStatus;
+
+    private RevocationService revocationService;
+
+    private MockedConstruction<VerifiableCredential> credentials;
+
+    @BeforeEach
+    void setUp() {
+        revocationClient = Mockito.mock(RevocationClient.class);
+        credentialStatus = Mockito.mock(VerifiableCredentialStatus.class);
+        CommonService commonService = Mockito.mock(CommonService.class);
+        when(commonService.getWalletByIdentifier(ISSUER_DID)).thenReturn(Wallet.builder().bpn(ISSUER_BPN).did(ISSUER_DID).build());
+        revocationService = new RevocationService(revocationClient, commonService, new ObjectMapper(),
+                Mockito.mock(StatusListVerifier.class), Mockito.mock(StatusEntryPool.class));
+        credentials = Mockito.mockConstruction(VerifiableCredential.class, (credential, context) -> {
+            when(credential.getVerifiableCredentialStatus()).thenReturn(credentialStatus);
+            when(credential.getIssuer()).thenReturn(URI.create(ISSUER_DID));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        credentials.close();
+    }
+
+    @Test
+    void shouldRevokeWithSingleRequest() {
+        revocationService.revokeCredential(new CredentialVerificationRequest(), ISSUER_BPN, "token");
+
+        verify(revocationClient).revokeCredential(credentialStatus, "token");
+        verify(revocationClient, never()).verifyCredentialStatus(any(), any());
+    }
+
+    @Test
+    void shouldMapConflictToAlreadyRevoked() {
+        doThrow(new RevocationException(409, "Credential already revoked", Map.of()))
+                .when(revocationClient).revokeCredential(credentialStatus, "token");
+
+        CredentialVerificationRequest request = new CredentialVerificationRequest();
+        assertThrows(CredentialAlreadyRevokedProblem.class,
+                () -> revocationService.revokeCredential(request, ISSUER_BPN, "token"));
+        verify(revocationClient, never()).verifyCredentialStatus(any(), any());
+    }
+
+    @Test
+    void shouldPassOtherRevocationErrorsOn() {
+        doThrow(new RevocationException(500, "Error in revocation service", Map.of()))
+                .when(revocationClient).revokeCredential(credentialStatus, "token");
+
+        CredentialVerificationRequest request = new CredentialVerificationRequest();
+        RevocationException exception = assertThrows(RevocationException.class,
+                () -> revocationService.revokeCredential(request, ISSUER_BPN, "token"));
+        assertEquals(500, exception.getStatus());
+    }
+
+    @Test
+    void shouldCheckRevocationsWithSingleRequest() {
+        VerifiableCredential first = new VerifiableCredential(Map.of());
+        VerifiableCredential withoutStatus = Mockito.mock(VerifiableCredential.class);
+        VerifiableCredential second = new VerifiableCredential(Map.of());
+        when(revocationClient.verifyCredentialStatuses(any(), eq("token")))
+                .thenReturn(List.of(Map.of("status", "revoked"), Map.of("status", "active")));
+
+        List<CredentialStatus> statuses = revocationService.checkRevocations(List.of(first, withoutStatus, second), "token");
+
+        assertEquals(List.of(CredentialStatus.REVOKED, CredentialStatus.ACTIVE, CredentialStatus.ACTIVE), statuses);
+        verify(revocationClient).verifyCredentialStatuses(
+                argThat(request -> request.getCredentialStatuses().size() == 2), eq("token"));
+        verify(revocationClient, never()).verifyCredentialStatus(any(), any());
+    }
+
+    @Test
+    void shouldNotRequestStatusesOfCredentialsWithoutStatus() {
+        List<CredentialStatus> statuses = revocationService.checkRevocations(
+                List.of(Mockito.mock(VerifiableCredential.class)), "token");
+
+        assertEquals(List.of(CredentialStatus.ACTIVE), statuses);
+        verify(revocationClient, never()).verifyCredentialStatuses(any(), any());
+    }
+}
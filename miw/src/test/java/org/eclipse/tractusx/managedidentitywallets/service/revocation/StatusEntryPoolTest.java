@@ -0,0 +1,200 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.service.revocation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.managedidentitywallets.config.StatusEntryPoolSettings;
+import org.eclipse.tractusx.managedidentitywallets.dto.StatusListRequest;
+import org.eclipse.tractusx.managedidentitywallets.revocation.RevocationClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StatusEntryPoolTest {
+
+    private static final String ISSUER = "BPNL000000000000";
+
+    private RevocationClient revocationClient;
+
+    private ExecutorService executor;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private StatusEntryPool pool;
+
+    private int nextIndex;
+
+    @BeforeEach
+    void setUp() {
+        revocationClient = Mockito.mock(RevocationClient.class);
+        executor = Mockito.mock(ExecutorService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        pool = new StatusEntryPool(revocationClient, new StatusEntryPoolSettings(true, 4, 1), meterRegistry, executor);
+        when(revocationClient.getStatusListEntries(any(StatusListRequest.class), anyInt(), any()))
+                .thenAnswer(invocation -> batch(invocation.getArgument(1)));
+    }
+
+    @Test
+    void shouldServeEntriesFromMemory() {
+        Map<String, Object> first = pool.take(ISSUER, "token");
+        Map<String, Object> second = pool.take(ISSUER, "token");
+
+        assertEquals("0", first.get("statusListIndex"));
+        assertEquals("1", second.get("statusListIndex"));
+        assertEquals(2, pool.size(ISSUER));
+        verify(revocationClient, times(1)).getStatusListEntries(any(), eq(4), eq("token"));
+        verify(revocationClient, never()).getStatusListEntry(any(), any());
+    }
+
+    @Test
+    void shouldRefillInBackgroundAtLowWatermark() {
+        pool.take(ISSUER, "token");
+        pool.take(ISSUER, "token");
+        verify(executor, never()).execute(any());
+
+        pool.take(ISSUER, "fresh-token");
+        ArgumentCaptor<Runnable> refill = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor, times(1)).execute(refill.capture());
+
+        // no second refill while the first one is pending
+        pool.take(ISSUER, "fresh-token");
+        verify(executor, times(1)).execute(any());
+
+        refill.getValue().run();
+        assertEquals(4, pool.size(ISSUER));
+        verify(revocationClient, times(1)).getStatusListEntries(any(), eq(4), eq("fresh-token"));
+    }
+
+    @Test
+    void shouldNeverHandOutAnEntryTwice() {
+        Mockito.doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(executor).execute(any());
+
+        Set<Object> indices = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            assertTrue(indices.add(pool.take(ISSUER, "token").get("statusListIndex")));
+        }
+    }
+
+    @Test
+    void shouldBurnPooledEntriesOnShutdown() {
+        pool.take(ISSUER, "token");
+        assertEquals(3, pool.size(ISSUER));
+
+        pool.shutdown();
+
+        assertEquals(0, pool.size(ISSUER));
+        assertEquals(3, meterRegistry.counter(StatusEntryPool.BURNT_METRIC).count());
+        verify(executor).shutdown();
+        when(revocationClient.getStatusListEntry(any(StatusListRequest.class), any())).thenReturn(entry(100));
+        assertEquals("100", pool.take(ISSUER, "token").get("statusListIndex"));
+        assertEquals(0, pool.size(ISSUER));
+    }
+
+    @Test
+    void shouldBurnEntryOfRolledBackIssuance() {
+        Map<String, Object> rolledBack;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            rolledBack = pool.take(ISSUER, "token");
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(
+                            TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(3, pool.size(ISSUER));
+        assertEquals(1, meterRegistry.counter(StatusEntryPool.ROLLED_BACK_METRIC).count());
+        assertEquals(1, meterRegistry.counter(StatusEntryPool.BURNT_METRIC).count());
+        assertNotEquals(rolledBack, pool.take(ISSUER, "token"));
+    }
+
+    @Test
+    void shouldBurnEntryOfIssuanceWithUnknownOutcome() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            pool.take(ISSUER, "token");
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(
+                            TransactionSynchronization.STATUS_UNKNOWN));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(3, pool.size(ISSUER));
+        assertEquals(1, meterRegistry.counter(StatusEntryPool.BURNT_METRIC).count());
+    }
+
+    @Test
+    void shouldKeepEntryOfCommittedIssuance() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            pool.take(ISSUER, "token");
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(
+                            TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(3, pool.size(ISSUER));
+        assertEquals(0, meterRegistry.counter(StatusEntryPool.ROLLED_BACK_METRIC).count());
+        assertEquals(0, meterRegistry.counter(StatusEntryPool.BURNT_METRIC).count());
+    }
+
+    private List<Map<String, Object>> batch(int count) {
+        return IntStream.range(0, count).mapToObj(i -> entry(nextIndex++)).toList();
+    }
+
+    private static Map<String, Object> entry(int index) {
+        return Map.of(
+                "id", "https://example.com/api/v1/revocations/credentials/" + ISSUER + "/revocation/1#" + index,
+                "type", "StatusList2021Entry",
+                "statusPurpose", "revocation",
+                "statusListIndex", String.valueOf(index),
+                "statusListCredential", "https://example.com/api/v1/revocations/credentials/" + ISSUER + "/revocation/1");
+    }
+}
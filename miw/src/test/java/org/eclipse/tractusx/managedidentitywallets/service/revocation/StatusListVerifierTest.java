@@ -0,0 +1,237 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.service.revocation;
+
+import org.eclipse.tractusx.managedidentitywallets.commons.constant.CredentialStatus;
+import org.eclipse.tractusx.managedidentitywallets.commons.exception.BadDataException;
+import org.eclipse.tractusx.managedidentitywallets.config.RevocationSettings;
+import org.eclipse.tractusx.managedidentitywallets.config.StatusListVerificationSettings;
+import org.eclipse.tractusx.managedidentitywallets.exception.RevocationException;
+import org.eclipse.tractusx.managedidentitywallets.revocation.RevocationClient;
+import org.eclipse.tractusx.managedidentitywallets.service.DidDocumentResolverService;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialStatus;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialSubject;
+import org.eclipse.tractusx.ssi.lib.proof.LinkedDataProofValidation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StatusListVerifierTest {
+
+    private static final String STATUS_LIST_URL =
+            "https://revocation.example.com/api/v1/revocations/credentials/BPNL000000000000/revocation/1";
+
+    private static final URI REVOCATION_SERVICE_URL = URI.create("https://revocation.example.com");
+
+    private RevocationClient revocationClient;
+
+    private LinkedDataProofValidation proofValidation;
+
+    private MockedStatic<LinkedDataProofValidation> proofValidationFactory;
+
+    @BeforeEach
+    void setUp() {
+        revocationClient = Mockito.mock(RevocationClient.class);
+        proofValidation = Mockito.mock(LinkedDataProofValidation.class);
+        proofValidationFactory = Mockito.mockStatic(LinkedDataProofValidation.class);
+        proofValidationFactory.when(() -> LinkedDataProofValidation.newInstance(any())).thenReturn(proofValidation);
+    }
+
+    @AfterEach
+    void tearDown() {
+        proofValidationFactory.close();
+    }
+
+    @Test
+    void shouldCheckStatusesAgainstCachedStatusList() throws Exception {
+        when(proofValidation.verify(any())).thenReturn(true);
+        when(revocationClient.getStatusListCredentialIfNoneMatch("BPNL000000000000", "revocation", "1", null))
+                .thenReturn(statusListResponse(3));
+        StatusListVerifier verifier = verifier(Duration.ofMinutes(1));
+
+        assertEquals(CredentialStatus.REVOKED, verifier.checkStatus(credentialStatus("3")));
+        assertEquals(CredentialStatus.ACTIVE, verifier.checkStatus(credentialStatus("4")));
+        assertEquals(CredentialStatus.ACTIVE, verifier.checkStatus(credentialStatus("100000")));
+
+        verify(revocationClient, times(1)).getStatusListCredentialIfNoneMatch(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldRevalidateExpiredStatusList() throws Exception {
+        when(proofValidation.verify(any())).thenReturn(true);
+        when(revocationClient.getStatusListCredentialIfNoneMatch(any(), any(), any(), isNull()))
+                .thenReturn(statusListResponse(3));
+        when(revocationClient.getStatusListCredentialIfNoneMatch(any(), any(), any(), Mockito.eq("\"1\"")))
+                .thenThrow(new RevocationException(304, "Error in revocation service", Map.of()));
+        StatusListVerifier verifier = verifier(Duration.ZERO);
+
+        assertEquals(CredentialStatus.REVOKED, verifier.checkStatus(credentialStatus("3")));
+        assertEquals(CredentialStatus.REVOKED, verifier.checkStatus(credentialStatus("3")));
+
+        verify(revocationClient).getStatusListCredentialIfNoneMatch(any(), any(), any(), Mockito.eq("\"1\""));
+        verify(proofValidation, times(1)).verify(any());
+    }
+
+    @Test
+    void shouldFetchStatusListOnceForConcurrentChecks() throws Exception {
+        when(proofValidation.verify(any())).thenReturn(true);
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(revocationClient.getStatusListCredentialIfNoneMatch(any(), any(), any(), any())).thenAnswer(invocation -> {
+            fetching.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return statusListResponse(3);
+        });
+        StatusListVerifier verifier = verifier(Duration.ofMinutes(1));
+        VerifiableCredentialStatus credentialStatus = credentialStatus("3");
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<CredentialStatus>> waiting = new ArrayList<>();
+            Future<?> checks = Executors.newSingleThreadExecutor().submit(() -> {
+                assertTrue(fetching.await(5, TimeUnit.SECONDS));
+                for (int i = 0; i < 3; i++) {
+                    waiting.add(executor.submit(() -> verifier.checkStatus(credentialStatus)));
+                }
+                // give the waiting checks time to find the pending fetch
+                Thread.sleep(100);
+                release.countDown();
+                return null;
+            });
+
+            // the fetch runs on this thread, the proof validation is only mocked here
+            assertEquals(CredentialStatus.REVOKED, verifier.checkStatus(credentialStatus));
+            checks.get(5, TimeUnit.SECONDS);
+            for (Future<CredentialStatus> result : waiting) {
+                assertEquals(CredentialStatus.REVOKED, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(revocationClient, times(1)).getStatusListCredentialIfNoneMatch(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldRejectStatusListWithInvalidProof() throws Exception {
+        when(proofValidation.verify(any())).thenReturn(false);
+        when(revocationClient.getStatusListCredentialIfNoneMatch(any(), any(), any(), any()))
+                .thenReturn(statusListResponse(3));
+        StatusListVerifier verifier = verifier(Duration.ofMinutes(1));
+
+        VerifiableCredentialStatus credentialStatus = credentialStatus("3");
+        assertThrows(BadDataException.class, () -> verifier.checkStatus(credentialStatus));
+    }
+
+    @Test
+    void shouldRejectStatusListOfForeignHost() {
+        StatusListVerifier verifier = verifier(Duration.ofMinutes(1));
+
+        VerifiableCredentialStatus foreignHost = credentialStatus("3",
+                "https://evil.example/api/v1/revocations/credentials/BPNL000000000000/revocation/1");
+        VerifiableCredentialStatus foreignPort = credentialStatus("3",
+                "https://revocation.example.com:8443/api/v1/revocations/credentials/BPNL000000000000/revocation/1");
+        VerifiableCredentialStatus foreignScheme = credentialStatus("3",
+                "http://revocation.example.com/api/v1/revocations/credentials/BPNL000000000000/revocation/1");
+        assertThrows(BadDataException.class, () -> verifier.checkStatus(foreignHost));
+        assertThrows(BadDataException.class, () -> verifier.checkStatus(foreignPort));
+        assertThrows(BadDataException.class, () -> verifier.checkStatus(foreignScheme));
+
+        verify(revocationClient, never()).getStatusListCredentialIfNoneMatch(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldVerifyStatusListsUnderPublicUrlWhenCallingInternalUrl() throws Exception {
+        when(proofValidation.verify(any())).thenReturn(true);
+        when(revocationClient.getStatusListCredentialIfNoneMatch("BPNL000000000000", "revocation", "1", null))
+                .thenReturn(statusListResponse(3));
+        StatusListVerifier verifier = new StatusListVerifier(revocationClient,
+                new StatusListVerificationSettings(true, Duration.ofMinutes(1), 10),
+                new RevocationSettings(URI.create("http://revocation-service:8081"), null, REVOCATION_SERVICE_URL),
+                Mockito.mock(DidDocumentResolverService.class));
+
+        assertEquals(CredentialStatus.REVOKED, verifier.checkStatus(credentialStatus("3")));
+        VerifiableCredentialStatus internalUrl = credentialStatus("3",
+                "http://revocation-service:8081/api/v1/revocations/credentials/BPNL000000000000/revocation/1");
+        assertThrows(BadDataException.class, () -> verifier.checkStatus(internalUrl));
+        verify(revocationClient, times(1)).getStatusListCredentialIfNoneMatch(any(), any(), any(), any());
+    }
+
+    private StatusListVerifier verifier(Duration ttl) {
+        return new StatusListVerifier(revocationClient, new StatusListVerificationSettings(true, ttl, 10),
+                new RevocationSettings(REVOCATION_SERVICE_URL, null, null), Mockito.mock(DidDocumentResolverService.class));
+    }
+
+    private static VerifiableCredentialStatus credentialStatus(String index) {
+        return credentialStatus(index, STATUS_LIST_URL);
+    }
+
+    private static VerifiableCredentialStatus credentialStatus(String index, String url) {
+        VerifiableCredentialStatus credentialStatus = Mockito.mock(VerifiableCredentialStatus.class);
+        when(credentialStatus.get("statusListCredential")).thenReturn(url);
+        when(credentialStatus.get("statusListIndex")).thenReturn(index);
+        return credentialStatus;
+    }
+
+    private static ResponseEntity<VerifiableCredential> statusListResponse(int revokedIndex) throws IOException {
+        BitSet bitSet = new BitSet();
+        bitSet.set(revokedIndex);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(bitSet.toByteArray());
+        }
+        VerifiableCredentialSubject subject = Mockito.mock(VerifiableCredentialSubject.class);
+        when(subject.get("encodedList")).thenReturn(Base64.getEncoder().encodeToString(bytes.toByteArray()));
+        VerifiableCredential statusListCredential = Mockito.mock(VerifiableCredential.class);
+        when(statusListCredential.getCredentialSubject()).thenReturn(List.of(subject));
+        return ResponseEntity.ok().eTag("\"1\"").body(statusListCredential);
+    }
+}
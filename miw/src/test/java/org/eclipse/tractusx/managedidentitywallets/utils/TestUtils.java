@@ -44,6 +44,7 @@ import org.eclipse.tractusx.managedidentitywallets.dao.entity.Wallet;
 import org.eclipse.tractusx.managedidentitywallets.dao.repository.WalletRepository;
 import org.eclipse.tractusx.managedidentitywallets.domain.SigningServiceType;
 import org.eclipse.tractusx.managedidentitywallets.dto.CreateWalletRequest;
+import org.eclipse.tractusx.managedidentitywallets.dto.CredentialStatusBatchRequest;
 import org.eclipse.tractusx.managedidentitywallets.dto.StatusListRequest;
 import org.eclipse.tractusx.managedidentitywallets.revocation.RevocationClient;
 import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
@@ -311,6 +312,12 @@ public class TestUtils {
 
     public static void mockRevocationVerification(RevocationClient revocationClient, CredentialStatus credentialStatus) {
         Mockito.when(revocationClient.verifyCredentialStatus(Mockito.any(), Mockito.anyString())).thenReturn(Map.of("status", credentialStatus.getName().toLowerCase()));
+        Mockito.when(revocationClient.verifyCredentialStatuses(Mockito.any(), Mockito.anyString())).thenAnswer(invocation -> {
+            CredentialStatusBatchRequest request = invocation.getArgument(0);
+            return request.getCredentialStatuses().stream()
+                    .map(status -> Map.of("status", credentialStatus.getName().toLowerCase()))
+                    .toList();
+        });
     }
 
     @SneakyThrows
@@ -148,7 +148,7 @@ class PresentationTest {
         ResponseEntity<Map> vpResponse = createBpnVCAsJwt(bpn, audience);
         Map body = vpResponse.getBody();
 
-        ResponseEntity<Map<String, Object>> mapResponseEntity = presentationController.validatePresentation(body, null, true, false);
+        ResponseEntity<Map<String, Object>> mapResponseEntity = presentationController.validatePresentation(body, null, true, false, "dummy token");
 
         Map map = mapResponseEntity.getBody();
         Assertions.assertTrue(Boolean.parseBoolean(map.get(StringPool.VALID).toString()));
@@ -158,6 +158,22 @@ class PresentationTest {
         Assertions.assertTrue(Boolean.parseBoolean(map.get(StringPool.VALIDATE_JWT_EXPIRY_DATE).toString()));
     }
 
+    @Test
+    void validateVPAsJwtWithRevokedCredential() throws JsonProcessingException, JSONException {
+        String bpn = TestUtils.getRandomBpmNumber();
+        String audience = "companyA";
+        ResponseEntity<Map> vpResponse = createBpnVCAsJwt(bpn, audience);
+        Map body = vpResponse.getBody();
+        TestUtils.mockRevocationVerification(revocationClient, CredentialStatus.REVOKED);
+
+        ResponseEntity<Map<String, Object>> mapResponseEntity = presentationController.validatePresentation(body, null, true, false, "dummy token");
+
+        Map map = mapResponseEntity.getBody();
+        Assertions.assertFalse(Boolean.parseBoolean(map.get(StringPool.VALID).toString()));
+        Mockito.verify(revocationClient).verifyCredentialStatuses(Mockito.any(), Mockito.eq("dummy token"));
+        Mockito.verify(revocationClient, Mockito.never()).verifyCredentialStatus(Mockito.any(), Mockito.any());
+    }
+
     @Test
     @SneakyThrows
     void validateVPAsJwtWithInvalidSignatureAndInValidAudienceAndExpiryDateValidation() {
@@ -176,7 +192,7 @@ class PresentationTest {
 
             Thread.sleep(62000L); // need to remove this??? Can not mock 2 object creation using new
 
-            ResponseEntity<Map<String, Object>> mapResponseEntity = presentationController.validatePresentation(body, "no valid", true, true);
+            ResponseEntity<Map<String, Object>> mapResponseEntity = presentationController.validatePresentation(body, "no valid", true, true, "dummy token");
 
             Map map = mapResponseEntity.getBody();
 
@@ -196,7 +212,7 @@ class PresentationTest {
         ResponseEntity<Map> vpResponse = createBpnVCAsJwt(bpn, audience);
         Map body = vpResponse.getBody();
 
-        ResponseEntity<Map<String, Object>> mapResponseEntity = presentationController.validatePresentation(body, audience, true, true);
+        ResponseEntity<Map<String, Object>> mapResponseEntity = presentationController.validatePresentation(body, audience, true, true, "dummy token");
 
         Map map = mapResponseEntity.getBody();
         Assertions.assertTrue(Boolean.parseBoolean(map.get(StringPool.VALID).toString()));
@@ -214,7 +230,7 @@ class PresentationTest {
         ResponseEntity<Map> vpResponse = getIssueVPRequestWithShortExpiry(bpn, audience);
         Map body = vpResponse.getBody();
 
-        ResponseEntity<Map<String, Object>> mapResponseEntity = presentationController.validatePresentation(body, audience, true, true);
+        ResponseEntity<Map<String, Object>> mapResponseEntity = presentationController.validatePresentation(body, audience, true, true, "dummy token");
 
         Map map = mapResponseEntity.getBody();
         Assertions.assertFalse(Boolean.parseBoolean(map.get(StringPool.VALID).toString()));
@@ -0,0 +1,178 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.benchmark;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.MappedBitSetStoreSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListCacheSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.repository.StatusListCredentialRepository;
+import org.eclipse.tractusx.managedidentitywallets.revocation.services.BitSetStore;
+import org.eclipse.tractusx.managedidentitywallets.revocation.services.MappedBitSetStore;
+import org.eclipse.tractusx.managedidentitywallets.revocation.services.StatusListBitSetCache;
+import org.eclipse.tractusx.managedidentitywallets.revocation.utils.BitSetManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the heap and the memory-mapped {@link BitSetStore} holding 10000 status lists of 131072
+ * entries each: reading a bit of a stored list and storing a list again after a miss.
+ *
+ * <p>Run with -prof gc to see the heap the stores occupy, the mapped store keeps the bits off the
+ * heap. The time to open a mapped store of the same size is measured by
+ * MappedBitSetStoreStartupBenchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class BitSetStoreBenchmark {
+
+    static final int STATUS_BITS_LENGTH = BitSetManager.BITSET_SIZE / Byte.SIZE;
+
+    @Param({ "heap", "mapped" })
+    public String type;
+
+    @Param({ "10000" })
+    public int statusLists;
+
+    /**
+     * Number of revocations drawn at random per list.
+     */
+    @Param({ "100" })
+    public int revoked;
+
+    private BitSetStore store;
+
+    private Path directory;
+
+    private String[] ids;
+
+    private byte[][] statusBits;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        StatusListCacheSettings cacheSettings = new StatusListCacheSettings(statusLists, Duration.ofHours(1));
+        if (type.equals("mapped")) {
+            directory = Files.createTempDirectory("bit-set-store");
+            MappedBitSetStore mapped = new MappedBitSetStore(
+                    new MappedBitSetStoreSettings(directory.resolve("status-bits.dat"), statusLists),
+                    cacheSettings, repository(1));
+            mapped.reconcile();
+            store = mapped;
+        } else {
+            store = new StatusListBitSetCache(cacheSettings);
+        }
+        statusBits = fill(store, statusLists, revoked);
+        ids = new String[statusLists];
+        for (int list = 0; list < statusLists; list++) {
+            ids[list] = "list#" + list;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (store instanceof MappedBitSetStore mapped) {
+            mapped.close();
+            Files.delete(directory.resolve("status-bits.dat"));
+            Files.delete(directory);
+        }
+    }
+
+    /**
+     * Stores random status bits of the given number of status lists, with ids list#0 to list#n-1 and
+     * version 1.
+     */
+    static byte[][] fill(BitSetStore store, int statusLists, int revoked) {
+        Random random = new Random(42);
+        byte[][] statusBits = new byte[statusLists][];
+        for (int list = 0; list < statusLists; list++) {
+            statusBits[list] = new byte[STATUS_BITS_LENGTH];
+            for (int i = 0; i < revoked; i++) {
+                int index = random.nextInt(BitSetManager.BITSET_SIZE);
+                statusBits[list][index >>> 3] |= (byte) (1 << (index & 7));
+            }
+            store.putStatusBits("list#" + list, statusBits[list], 1, store.generation());
+        }
+        return statusBits;
+    }
+
+    /**
+     * A repository reporting the same status bits version for every status list asked for.
+     */
+    static StatusListCredentialRepository repository(long version) {
+        return (StatusListCredentialRepository) Proxy.newProxyInstance(
+                StatusListCredentialRepository.class.getClassLoader(),
+                new Class<?>[]{ StatusListCredentialRepository.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findStatusBitsVersions")) {
+                        return ((Collection<?>) args[0]).stream()
+                                .map(id -> new StatusListCredentialRepository.StatusBitsVersion() {
+                                    @Override
+                                    public String getId() {
+                                        return (String) id;
+                                    }
+
+                                    @Override
+                                    public long getStatusBitsVersion() {
+                                        return version;
+                                    }
+                                })
+                                .toList();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    @Benchmark
+    public int getBit() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return store.getBit(ids[random.nextInt(statusLists)], random.nextInt(BitSetManager.BITSET_SIZE));
+    }
+
+    @Benchmark
+    public void putStatusBits() {
+        int list = ThreadLocalRandom.current().nextInt(statusLists);
+        store.putStatusBits(ids[list], statusBits[list], 1, store.generation());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.benchmark;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.MappedBitSetStoreSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListCacheSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.services.MappedBitSetStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures opening a memory-mapped bitset store holding 10000 status lists: mapping the file,
+ * checking every slot and comparing the versions with the database, which is an in-memory stub here
+ * reporting all versions as unchanged.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappedBitSetStoreStartupBenchmark {
+
+    @Param({ "10000" })
+    public int statusLists;
+
+    private Path directory;
+
+    private MappedBitSetStoreSettings settings;
+
+    private StatusListCacheSettings cacheSettings;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("bit-set-store");
+        settings = new MappedBitSetStoreSettings(directory.resolve("status-bits.dat"), statusLists);
+        cacheSettings = new StatusListCacheSettings(statusLists, Duration.ofHours(1));
+        MappedBitSetStore store = new MappedBitSetStore(settings, cacheSettings, BitSetStoreBenchmark.repository(1));
+        store.reconcile();
+        BitSetStoreBenchmark.fill(store, statusLists, 100);
+        store.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.delete(settings.path());
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public MappedBitSetStore open() throws IOException {
+        MappedBitSetStore store = new MappedBitSetStore(settings, cacheSettings, BitSetStoreBenchmark.repository(1));
+        store.reconcile();
+        store.close();
+        return store;
+    }
+}
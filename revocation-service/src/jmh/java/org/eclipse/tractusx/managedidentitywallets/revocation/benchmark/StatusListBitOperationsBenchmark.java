@@ -0,0 +1,105 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.benchmark;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.utils.BitSetManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the in-memory bit operations on a status list of 131072 entries: setting a revocation
+ * bit in the status bits column as done for batch revocations, and reading a bit from the status
+ * bits column on a cache miss or from a cached bitset.
+ *
+ * <p>Encoding and decoding of the same lists is covered by StatusListCodecBenchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class StatusListBitOperationsBenchmark {
+
+    private static final int INDICES = 1024;
+
+    /**
+     * Number of revocations drawn at random, 65536 sets about 40% of the bits of a list.
+     */
+    @Param({ "0", "100", "65536" })
+    public int revoked;
+
+    private byte[] statusBits;
+
+    private BitSet bitSet;
+
+    private int[] indices;
+
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        bitSet = new BitSet(BitSetManager.BITSET_SIZE);
+        for (int i = 0; i < revoked; i++) {
+            bitSet.set(random.nextInt(BitSetManager.BITSET_SIZE));
+        }
+        statusBits = BitSetManager.toStatusBits(bitSet);
+        indices = random.ints(INDICES, 0, BitSetManager.BITSET_SIZE).toArray();
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (INDICES - 1);
+        return indices[next];
+    }
+
+    @Benchmark
+    public byte[] revokeBit() {
+        BitSet bits = BitSet.valueOf(statusBits);
+        bits.set(nextIndex());
+        return BitSetManager.toStatusBits(bits);
+    }
+
+    @Benchmark
+    public boolean verifyBit() {
+        return BitSet.valueOf(statusBits).get(nextIndex());
+    }
+
+    @Benchmark
+    public boolean verifyCachedBit() {
+        return bitSet.get(nextIndex());
+    }
+}
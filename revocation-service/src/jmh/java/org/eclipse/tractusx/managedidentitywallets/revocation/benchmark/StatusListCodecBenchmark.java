@@ -0,0 +1,98 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.benchmark;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.utils.BitSetManager;
+import org.eclipse.tractusx.managedidentitywallets.revocation.utils.StatusListCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encoding and decoding of status lists through the gzip streams of BitSetManager, as
+ * done before, with StatusListCodec. Both start from and end at the same representation the
+ * service uses: the status bits column for encoding, the encoded list for decoding.
+ *
+ * <p>Run with -prof gc to compare the allocation rate per operation as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class StatusListCodecBenchmark {
+
+    /**
+     * Number of revocations drawn at random, 65536 sets about 40% of the bits of a list.
+     */
+    @Param({ "0", "100", "10000", "65536" })
+    public int revoked;
+
+    private byte[] statusBits;
+
+    private String encodedList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        BitSet bitSet = new BitSet(BitSetManager.BITSET_SIZE);
+        for (int i = 0; i < revoked; i++) {
+            bitSet.set(random.nextInt(BitSetManager.BITSET_SIZE));
+        }
+        statusBits = BitSetManager.toStatusBits(bitSet);
+        encodedList = BitSetManager.encodeToString(BitSetManager.compress(bitSet));
+    }
+
+    @Benchmark
+    public String encodeBitSetManager() {
+        return BitSetManager.encodeToString(BitSetManager.compress(BitSet.valueOf(statusBits)));
+    }
+
+    @Benchmark
+    public String encodeStatusListCodec() {
+        return StatusListCodec.encode(statusBits);
+    }
+
+    @Benchmark
+    public BitSet decodeBitSetManager() {
+        return BitSetManager.decompress(BitSetManager.decodeFromString(encodedList));
+    }
+
+    @Benchmark
+    public BitSet decodeStatusListCodec() {
+        return StatusListCodec.decode(encodedList);
+    }
+}
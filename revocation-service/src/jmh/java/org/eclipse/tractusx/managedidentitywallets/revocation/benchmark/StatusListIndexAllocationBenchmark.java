@@ -0,0 +1,226 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares status list index allocation by locking all status lists of an issuer, as done before,
+ * with the atomic counter increment of StatusListIndexRepository#reserveIndices. The statements
+ * mirror the ones issued through JPA.
+ *
+ * <p>Runs against an in-memory H2 database by default, pass a PostgreSQL url as jdbcUrl parameter
+ * for numbers closer to production. Compare the throughput of the 1, 4 and 16 thread variants.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatusListIndexAllocationBenchmark {
+
+    private static final String ISSUER_BPN_STATUS = "BPNL000000000000-revocation";
+
+    @State(Scope.Benchmark)
+    public static class Database {
+
+        @Param({ "jdbc:h2:mem:" })
+        public String jdbcUrl;
+
+        /**
+         * Number of open status lists of the issuer, the counter allocation spreads over them.
+         */
+        @Param({ "1", "4" })
+        public int openLists;
+
+        String url;
+
+        private Connection keepAlive;
+
+        @Setup(Level.Trial)
+        public void setUp() throws SQLException {
+            url = jdbcUrl.startsWith("jdbc:h2:mem:")
+                    ? jdbcUrl + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=60000"
+                    : jdbcUrl;
+            keepAlive = DriverManager.getConnection(url);
+            try (Statement statement = keepAlive.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS status_list_index");
+                statement.execute("CREATE TABLE status_list_index (id VARCHAR(256) PRIMARY KEY, "
+                        + "issuer_bpn_status VARCHAR(27), current_index VARCHAR(16), next_index INTEGER DEFAULT 0 NOT NULL)");
+            }
+            try (PreparedStatement insert = keepAlive.prepareStatement(
+                    "INSERT INTO status_list_index (id, issuer_bpn_status, current_index, next_index) VALUES (?, ?, '0', 1)")) {
+                for (int i = 1; i <= openLists; i++) {
+                    insert.setString(1, ISSUER_BPN_STATUS + "#" + i);
+                    insert.setString(2, ISSUER_BPN_STATUS);
+                    insert.executeUpdate();
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            try (Statement statement = keepAlive.createStatement()) {
+                statement.execute("DROP TABLE status_list_index");
+            }
+            keepAlive.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Session {
+
+        private Connection connection;
+
+        private PreparedStatement selectForUpdate;
+
+        private PreparedStatement updateCurrentIndex;
+
+        private PreparedStatement selectOpenLists;
+
+        private PreparedStatement reserveIndices;
+
+        private PreparedStatement selectNextIndex;
+
+        @Setup(Level.Trial)
+        public void setUp(Database database) throws SQLException {
+            connection = DriverManager.getConnection(database.url);
+            connection.setAutoCommit(false);
+            selectForUpdate = connection.prepareStatement(
+                    "SELECT id, current_index FROM status_list_index WHERE issuer_bpn_status = ? FOR UPDATE");
+            updateCurrentIndex = connection.prepareStatement(
+                    "UPDATE status_list_index SET current_index = ? WHERE id = ?");
+            selectOpenLists = connection.prepareStatement(
+                    "SELECT id, next_index FROM status_list_index WHERE issuer_bpn_status = ?");
+            reserveIndices = connection.prepareStatement(
+                    "UPDATE status_list_index SET next_index = next_index + ? WHERE id = ? AND next_index + ? <= ?");
+            selectNextIndex = connection.prepareStatement(
+                    "SELECT next_index FROM status_list_index WHERE id = ?");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            connection.close();
+        }
+
+        int allocateLocked() throws SQLException {
+            selectForUpdate.setString(1, ISSUER_BPN_STATUS);
+            String id;
+            int currentIndex;
+            try (ResultSet resultSet = selectForUpdate.executeQuery()) {
+                resultSet.next();
+                id = resultSet.getString(1);
+                currentIndex = Integer.parseInt(resultSet.getString(2));
+            }
+            updateCurrentIndex.setString(1, String.valueOf(currentIndex + 1));
+            updateCurrentIndex.setString(2, id);
+            updateCurrentIndex.executeUpdate();
+            connection.commit();
+            return currentIndex + 1;
+        }
+
+        int allocateCounter() throws SQLException {
+            selectOpenLists.setString(1, ISSUER_BPN_STATUS);
+            int lists = 0;
+            String[] ids = new String[8];
+            try (ResultSet resultSet = selectOpenLists.executeQuery()) {
+                while (resultSet.next() && lists < ids.length) {
+                    ids[lists++] = resultSet.getString(1);
+                }
+            }
+            connection.commit();
+            String id = ids[ThreadLocalRandom.current().nextInt(lists)];
+            reserveIndices.setInt(1, 1);
+            reserveIndices.setString(2, id);
+            reserveIndices.setInt(3, 1);
+            reserveIndices.setInt(4, Integer.MAX_VALUE);
+            reserveIndices.executeUpdate();
+            selectNextIndex.setString(1, id);
+            int nextIndex;
+            try (ResultSet resultSet = selectNextIndex.executeQuery()) {
+                resultSet.next();
+                nextIndex = resultSet.getInt(1);
+            }
+            connection.commit();
+            return nextIndex - 1;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int lockedAllocation1Thread(Session session) throws SQLException {
+        return session.allocateLocked();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int lockedAllocation4Threads(Session session) throws SQLException {
+        return session.allocateLocked();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public int lockedAllocation16Threads(Session session) throws SQLException {
+        return session.allocateLocked();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int counterAllocation1Thread(Session session) throws SQLException {
+        return session.allocateCounter();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int counterAllocation4Threads(Session session) throws SQLException {
+        return session.allocateCounter();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public int counterAllocation16Threads(Session session) throws SQLException {
+        return session.allocateCounter();
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.HttpClientSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.LocalSignerSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.security.SecurityConfigProperties;
+import org.eclipse.tractusx.managedidentitywallets.revocation.dto.StatusListCredentialSubject;
+import org.eclipse.tractusx.managedidentitywallets.revocation.services.HttpClientService;
+import org.eclipse.tractusx.managedidentitywallets.revocation.services.HttpStatusListSigner;
+import org.eclipse.tractusx.managedidentitywallets.revocation.services.LocalStatusListSigner;
+import org.eclipse.tractusx.managedidentitywallets.revocation.services.StatusListSigner;
+import org.eclipse.tractusx.managedidentitywallets.revocation.utils.BitSetManager;
+import org.eclipse.tractusx.managedidentitywallets.revocation.utils.StatusListCodec;
+import org.eclipse.tractusx.ssi.lib.crypt.x25519.X25519Generator;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialBuilder;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialSubject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestClient;
+
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the signing step of a revocation with the HTTP signer, which issues the status list
+ * credential through MIW, and the local signer. Both sign the same status list credential.
+ *
+ * <p>The HTTP variant talks to a stub of MIW on localhost that answers with a credential signed in
+ * advance, after the configured delay standing in for MIW's own signing and persistence. With the
+ * default of 0 the numbers are a lower bound of the HTTP signer: request, serialization and parsing
+ * only. The access token is passed in, as done for revocations requested by a caller.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class StatusListSigningBenchmark {
+
+    private static final String ISSUER = "did:web:localhost:BPNL000000000000";
+
+    /**
+     * Time the MIW stub takes to answer, in milliseconds.
+     */
+    @Param({ "0" })
+    public int miwDelayMillis;
+
+    private VerifiableCredential statusListCredential;
+
+    private StatusListSigner localSigner;
+
+    private StatusListSigner httpSigner;
+
+    private HttpServer miw;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BitSet bitSet = new BitSet(BitSetManager.BITSET_SIZE);
+        bitSet.set(42);
+        statusListCredential = new VerifiableCredentialBuilder()
+                .context(List.of(URI.create("https://www.w3.org/2018/credentials/v1"),
+                        URI.create("https://w3id.org/vc/status-list/2021/v1")))
+                .id(URI.create(ISSUER + "#1"))
+                .type(List.of("VerifiableCredential", "StatusList2021Credential"))
+                .issuer(URI.create(ISSUER))
+                .issuanceDate(Instant.now())
+                .credentialSubject(new VerifiableCredentialSubject(Map.of(
+                        StatusListCredentialSubject.SUBJECT_ID, ISSUER + "#list",
+                        StatusListCredentialSubject.SUBJECT_TYPE, "StatusList2021",
+                        StatusListCredentialSubject.SUBJECT_STATUS_PURPOSE, "revocation",
+                        StatusListCredentialSubject.SUBJECT_ENCODED_LIST,
+                        StatusListCodec.encode(bitSet.toByteArray()))))
+                .build();
+
+        String privateKey = Base64.getEncoder().encodeToString(new X25519Generator().generateKey().getPrivateKey().asByte());
+        localSigner = new LocalStatusListSigner(new LocalSignerSettings(Map.of(ISSUER,
+                new LocalSignerSettings.IssuerKey(URI.create(ISSUER + "#key-1"), privateKey))));
+
+        byte[] signed = localSigner.sign(statusListCredential, null).toJson().getBytes(StandardCharsets.UTF_8);
+        miw = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        miw.createContext("/api/credentials", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            if (miwDelayMillis > 0) {
+                try {
+                    Thread.sleep(miwDelayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, signed.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(signed);
+            }
+        });
+        miw.start();
+
+        HttpClientService httpClientService = new HttpClientService(
+                new SecurityConfigProperties(true, null, null, null, null, null),
+                new HttpClientSettings(Duration.ofSeconds(5), Duration.ofSeconds(30), Duration.ofSeconds(30)),
+                RestClient.builder());
+        Field miwUrl = HttpClientService.class.getDeclaredField("miwUrl");
+        miwUrl.setAccessible(true);
+        miwUrl.set(httpClientService, "http://127.0.0.1:" + miw.getAddress().getPort());
+        httpSigner = new HttpStatusListSigner(httpClientService);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        miw.stop(0);
+    }
+
+    @Benchmark
+    public VerifiableCredential localSigner() {
+        return localSigner.sign(statusListCredential, null);
+    }
+
+    @Benchmark
+    public VerifiableCredential httpSigner() {
+        return httpSigner.sign(statusListCredential, "Bearer token");
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.HttpClientSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.MIWSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.MetricsSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListCacheSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.security.SecurityConfigProperties;
+import org.eclipse.tractusx.managedidentitywallets.revocation.constant.RevocationApiEndpoints;
+import org.eclipse.tractusx.managedidentitywallets.revocation.dto.CredentialStatusDto;
+import org.eclipse.tractusx.managedidentitywallets.revocation.dto.StatusListCredentialSubject;
+import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.StatusListCredential;
+import org.eclipse.tractusx.managedidentitywallets.revocation.repository.StatusListCredentialRepository;
+import org.eclipse.tractusx.managedidentitywallets.revocation.services.HttpClientService;
+import org.eclipse.tractusx.managedidentitywallets.revocation.services.RevocationMetrics;
+import org.eclipse.tractusx.managedidentitywallets.revocation.services.RevocationService;
+import org.eclipse.tractusx.managedidentitywallets.revocation.services.StatusListBitSetCache;
+import org.eclipse.tractusx.managedidentitywallets.revocation.services.StatusListVersionCache;
+import org.eclipse.tractusx.managedidentitywallets.revocation.utils.BitSetManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestClient;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures RevocationService#verifyStatus end to end: validation of the credential status, the
+ * bitset cache, loading the status bits and recording the metrics. The status lists live in an
+ * in-memory repository, so the numbers exclude the database round trip of a cache miss.
+ *
+ * <p>With a cache size of 0 every verification loads and converts the status bits, otherwise every
+ * verification after the first one per list is a cache hit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StatusListVerificationBenchmark {
+
+    private static final String DOMAIN_URL = "http://localhost";
+
+    private static final String ISSUER_BPN = "BPNL000000000000";
+
+    private static final int STATUSES = 1024;
+
+    /**
+     * Number of revocations drawn at random per list, 65536 sets about 40% of the bits of a list.
+     */
+    @Param({ "0", "100", "65536" })
+    public int revoked;
+
+    @Param({ "0", "1000" })
+    public int cacheSize;
+
+    @Param({ "1", "100" })
+    public int statusLists;
+
+    private RevocationService revocationService;
+
+    private CredentialStatusDto[] statuses;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        int next;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        Map<String, StatusListCredential> store = new ConcurrentHashMap<>();
+        for (int list = 1; list <= statusLists; list++) {
+            BitSet bitSet = new BitSet(BitSetManager.BITSET_SIZE);
+            for (int i = 0; i < revoked; i++) {
+                bitSet.set(random.nextInt(BitSetManager.BITSET_SIZE));
+            }
+            String id = ISSUER_BPN + "-revocation#" + list;
+            store.put(id, StatusListCredential.builder()
+                    .id(id)
+                    .issuerBpn(ISSUER_BPN)
+                    .statusBits(BitSetManager.toStatusBits(bitSet))
+                    .build());
+        }
+
+        HttpClientService httpClientService = new HttpClientService(
+                new SecurityConfigProperties(true, null, null, null, null, null),
+                new HttpClientSettings(Duration.ofSeconds(5), Duration.ofSeconds(30), Duration.ofSeconds(30)),
+                RestClient.builder());
+        httpClientService.domainUrl = DOMAIN_URL;
+        StatusListCacheSettings cacheSettings = new StatusListCacheSettings(cacheSize, Duration.ofHours(1));
+        revocationService = new RevocationService(inMemoryRepository(store), null, httpClientService,
+                new MIWSettings(List.of()), new StatusListBitSetCache(cacheSettings), null,
+                new StatusListVersionCache(cacheSettings), null,
+                new StatusListSettings(false, new StatusListSettings.WriteBehind(false), Duration.ofMinutes(1),
+                        new StatusListSettings.EventLog(false, 100), new StatusListSettings.Provisioning(0.9)),
+                null, null, null, null,
+                new RevocationMetrics(new SimpleMeterRegistry(), new MetricsSettings(false, 0)));
+
+        statuses = new CredentialStatusDto[STATUSES];
+        for (int i = 0; i < STATUSES; i++) {
+            int list = 1 + random.nextInt(statusLists);
+            String index = String.valueOf(random.nextInt(BitSetManager.BITSET_SIZE));
+            String url = DOMAIN_URL + RevocationApiEndpoints.REVOCATION_API + "/credentials/" + ISSUER_BPN
+                    + "/revocation/" + list;
+            statuses[i] = new CredentialStatusDto(url + "#" + index, "revocation", index, url,
+                    StatusListCredentialSubject.TYPE_ENTRY);
+        }
+    }
+
+    private static StatusListCredentialRepository inMemoryRepository(Map<String, StatusListCredential> store) {
+        return (StatusListCredentialRepository) Proxy.newProxyInstance(
+                StatusListCredentialRepository.class.getClassLoader(),
+                new Class<?>[]{ StatusListCredentialRepository.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findById")) {
+                        return Optional.ofNullable(store.get((String) args[0]));
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    @Benchmark
+    public Map<String, String> verifyStatus(Cursor cursor) {
+        cursor.next = (cursor.next + 1) & (STATUSES - 1);
+        return revocationService.verifyStatus(statuses[cursor.next]);
+    }
+}
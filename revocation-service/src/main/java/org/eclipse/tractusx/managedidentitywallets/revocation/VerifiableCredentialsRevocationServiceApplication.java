@@ -24,9 +24,11 @@ package org.eclipse.tractusx.managedidentitywallets.revocation;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @ConfigurationPropertiesScan
+@EnableScheduling
 public class VerifiableCredentialsRevocationServiceApplication {
 
     public static void main(String[] args) {
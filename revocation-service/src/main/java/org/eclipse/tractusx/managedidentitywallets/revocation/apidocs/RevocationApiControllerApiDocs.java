@@ -92,6 +92,77 @@ public class RevocationApiControllerApiDocs {
     public @interface verifyCredentialDocs {
     }
 
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Status per credential status, in the order of the request",
+                            content = { @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    examples = {
+                                            @ExampleObject(name = "statuses", value = """
+                                                    [
+                                                        {
+                                                            "id": "https://977d-203-129-213-107.ngrok-free.app/api/v1/revocations/credentials/BPNL000000000000/revocation/1#12",
+                                                            "status": "revoked"
+                                                        },
+                                                        {
+                                                            "id": "https://977d-203-129-213-107.ngrok-free.app/api/v1/revocations/credentials/BPNL000000000000/revocation/1#13",
+                                                            "status": "active"
+                                                        }
+                                                    ]
+                                                    """) }) }),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "IllegalArgumentException: invalid credential status or too many credential statuses",
+                            content = @Content()),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "UnauthorizedException: invalid token",
+                            content = @Content()),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "ForbiddenException: invalid caller",
+                            content = @Content()),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "RevocationServiceException: Internal Server Error",
+                            content = @Content())
+            })
+    @RequestBody(
+            content = {
+                    @Content(
+                            examples =
+                            @ExampleObject(
+                                    value = """
+                                            {
+                                                "credentialStatuses": [
+                                                    {
+                                                        "id": "https://977d-203-129-213-107.ngrok-free.app/api/v1/revocations/credentials/BPNL000000000000/revocation/1#12",
+                                                        "statusPurpose": "revocation",
+                                                        "statusListIndex": "12",
+                                                        "statusListCredential": "https://977d-203-129-213-107.ngrok-free.app/api/v1/revocations/credentials/BPNL000000000000/revocation/1",
+                                                        "type": "StatusList2021Entry"
+                                                    },
+                                                    {
+                                                        "id": "https://977d-203-129-213-107.ngrok-free.app/api/v1/revocations/credentials/BPNL000000000000/revocation/1#13",
+                                                        "statusPurpose": "revocation",
+                                                        "statusListIndex": "13",
+                                                        "statusListCredential": "https://977d-203-129-213-107.ngrok-free.app/api/v1/revocations/credentials/BPNL000000000000/revocation/1",
+                                                        "type": "StatusList2021Entry"
+                                                    }
+                                                ]
+                                            }
+                                            """),
+                            mediaType = "application/json")
+            })
+    @Operation(
+            summary = "Verify Revocation statuses",
+            description = "Verify revocation status of several Credentials at once. Every referenced status list is decoded only once.")
+    public @interface verifyCredentialBatchDocs {
+    }
+
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
     @ApiResponses(
@@ -153,6 +224,78 @@ public class RevocationApiControllerApiDocs {
     public @interface revokeCredentialDocs {
     }
 
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Outcome per credential status, in the order of the request",
+                            content = {
+                                    @Content(
+                                            examples =
+                                            @ExampleObject(
+                                                    value = """
+                                                            [
+                                                                {
+                                                                    "id": "https://977d-203-129-213-107.ngrok-free.app/api/v1/revocations/credentials/BPNL000000000000/revocation/1#12",
+                                                                    "status": "REVOKED"
+                                                                },
+                                                                {
+                                                                    "id": "https://977d-203-129-213-107.ngrok-free.app/api/v1/revocations/credentials/BPNL000000000000/revocation/1#13",
+                                                                    "status": "ALREADY_REVOKED"
+                                                                },
+                                                                {
+                                                                    "id": "https://977d-203-129-213-107.ngrok-free.app/api/v1/revocations/credentials/BPNL000000000000/revocation/2#0",
+                                                                    "status": "NOT_FOUND"
+                                                                }
+                                                            ]
+                                                            """),
+                                            mediaType = "application/json")
+                            }),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "IllegalArgumentException: invalid credential status or too many credential statuses",
+                            content = @Content()),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "UnauthorizedException: invalid token",
+                            content = @Content()),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "ForbiddenException: invalid caller",
+                            content = @Content()),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "RevocationServiceException: Internal Server Error",
+                            content = @Content())
+            })
+    @RequestBody(
+            content = {
+                    @Content(
+                            examples =
+                            @ExampleObject(
+                                    value = """
+                                            {
+                                                "credentialStatuses": [
+                                                    {
+                                                        "id": "https://977d-203-129-213-107.ngrok-free.app/api/v1/revocations/credentials/BPNL000000000000/revocation/1#12",
+                                                        "statusPurpose": "revocation",
+                                                        "statusListIndex": "12",
+                                                        "statusListCredential": "https://977d-203-129-213-107.ngrok-free.app/api/v1/revocations/credentials/BPNL000000000000/revocation/1",
+                                                        "type": "StatusList2021Entry"
+                                                    }
+                                                ]
+                                            }
+                                            """),
+                            mediaType = "application/json")
+            })
+    @Operation(
+            summary = "Revoke VerifiableCredentials",
+            description = "Revoke several VerifiableCredentials at once. Every affected status list is signed only once.")
+    public @interface revokeCredentialBatchDocs {
+    }
+
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
     @ApiResponses(
@@ -207,6 +350,73 @@ public class RevocationApiControllerApiDocs {
     public @interface StatusEntryApiDocs {
     }
 
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Status list entries reserved successfully.",
+                            content = {
+                                    @Content(
+                                            examples =
+                                            @ExampleObject(
+                                                    value = """
+                                                            [
+                                                                {
+                                                                    "id": "https://977d-203-129-213-107.ngrok-free.app/api/v1/revocations/credentials/BPNL000000000000/revocation/1#17",
+                                                                    "statusPurpose": "revocation",
+                                                                    "statusListIndex": "17",
+                                                                    "statusListCredential": "https://977d-203-129-213-107.ngrok-free.app/api/v1/revocations/credentials/BPNL000000000000/revocation/1",
+                                                                    "type": "StatusList2021Entry"
+                                                                },
+                                                                {
+                                                                    "id": "https://977d-203-129-213-107.ngrok-free.app/api/v1/revocations/credentials/BPNL000000000000/revocation/1#18",
+                                                                    "statusPurpose": "revocation",
+                                                                    "statusListIndex": "18",
+                                                                    "statusListCredential": "https://977d-203-129-213-107.ngrok-free.app/api/v1/revocations/credentials/BPNL000000000000/revocation/1",
+                                                                    "type": "StatusList2021Entry"
+                                                                }
+                                                            ]
+                                                            """),
+                                            mediaType = "application/json")
+                            }),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "IllegalArgumentException: count out of range",
+                            content = @Content()),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "UnauthorizedException: invalid token",
+                            content = @Content()),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "ForbiddenException: invalid caller",
+                            content = @Content()),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "RevocationServiceException: Internal Server Error",
+                            content = @Content())
+            })
+    @RequestBody(
+            content = {
+                    @Content(
+                            examples =
+                            @ExampleObject(
+                                    value = """
+                                            {
+                                              "purpose": "revocation",
+                                              "issuerId": "did:web:localhost:BPNL000000000000"
+                                            }
+                                            """),
+                            mediaType = "application/json")
+            })
+    @Operation(
+            summary = "Reserve several Status List entries",
+            description = "Reserve a block of status list entries in one request, new status list credentials are created when needed.")
+    public @interface StatusEntryBatchApiDocs {
+    }
+
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
     @ApiResponses(
@@ -255,6 +465,10 @@ public class RevocationApiControllerApiDocs {
                                                             """),
                                             mediaType = "application/json")
                             }),
+                    @ApiResponse(
+                            responseCode = "304",
+                            description = "Status list credential not modified since the version given in If-None-Match or If-Modified-Since",
+                            content = @Content()),
                     @ApiResponse(
                             responseCode = "404",
                             description = "Status list credential not found",
@@ -271,18 +485,159 @@ public class RevocationApiControllerApiDocs {
     public @interface GetStatusListCredentialDocs {
     }
 
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Indices set since the given version",
+                            content = {
+                                    @Content(
+                                            examples =
+                                            @ExampleObject(
+                                                    value = """
+                                                            {
+                                                                "statusListCredential": "http://localhost/api/v1/revocations/credentials/BPNL000000000000/revocation/1",
+                                                                "since": 3,
+                                                                "version": 5,
+                                                                "indices": [ 17, 42, 43 ],
+                                                                "checkpoint":
+                                                                {
+                                                                    "@context":
+                                                                    [
+                                                                        "https://www.w3.org/2018/credentials/v1",
+                                                                        "https://w3id.org/vc/status-list/2021/v1",
+                                                                        "https://w3id.org/security/suites/jws-2020/v1"
+                                                                    ],
+                                                                    "id": "http://localhost/api/v1/revocations/credentials/BPNL000000000000/revocation/1",
+                                                                    "type":
+                                                                    [
+                                                                        "VerifiableCredential",
+                                                                        "StatusList2021Credential"
+                                                                    ],
+                                                                    "issuer": "did:web:localhost:BPNL000000000000",
+                                                                    "issuanceDate": "2024-02-05T09:39:58Z",
+                                                                    "credentialSubject":
+                                                                    [
+                                                                        {
+                                                                            "statusPurpose": "revocation",
+                                                                            "id": "http://localhost/api/v1/revocations/credentials/BPNL000000000000/revocation/1",
+                                                                            "type": "StatusList2021",
+                                                                            "encodedList": "H4sIAAAAAAAA/wMAAAAAAAAAAAA="
+                                                                        }
+                                                                    ],
+                                                                    "proof":
+                                                                    {
+                                                                        "proofPurpose": "assertionMethod",
+                                                                        "type": "JsonWebSignature2020",
+                                                                        "verificationMethod": "did:web:localhost:BPNL000000000000#ed463e4c-b900-481a-b5d0-9ae439c434ae",
+                                                                        "created": "2024-02-05T09:39:58Z",
+                                                                        "jws": "eyJhbGciOiJFZERTQSJ9..swX1PLJkSlxB6JMmY4a2uUzR-uszlyLrVdNppoYSx4PTV1LzQrDb0afzp_dvTNUWEYDI57a8iPh78BDjqMjSDQ"
+                                                                    }
+                                                                }
+                                                            }
+                                                            """),
+                                            mediaType = "application/json")
+                            }),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "IllegalArgumentException: version is negative or newer than the status list",
+                            content = @Content()),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Status list credential not found",
+                            content = @Content()),
+                    @ApiResponse(
+                            responseCode = "410",
+                            description = "Changes since the version are not available, get the status list credential instead",
+                            content = @Content()),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "RevocationServiceException: Internal Server Error",
+                            content = @Content())
+            })
+    @Operation(
+            summary = "Get status list changes",
+            description =
+                    "Get the status list indices set since a version together with the signed status list credential "
+                            + "of the current version without its encoded list. Clients set the indices in their status "
+                            + "list, encode it into the credential subject and verify the proof.")
+    public @interface GetStatusListChangesDocs {
+    }
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Stream of status list changes",
+                            content = {
+                                    @Content(
+                                            examples =
+                                            @ExampleObject(
+                                                    value = """
+                                                            id:1042
+                                                            event:status-list-changed
+                                                            data:{"statusListId":"BPNL000000000000-revocation#1","version":5,"indices":[17,42]}
+                                                            """),
+                                            mediaType = "text/event-stream")
+                            }),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "UnauthorizedException: invalid token",
+                            content = @Content()),
+                    @ApiResponse(
+                            responseCode = "429",
+                            description = "Too many subscriptions of client",
+                            content = @Content()),
+                    @ApiResponse(
+                            responseCode = "503",
+                            description = "Too many subscribers",
+                            content = @Content())
+            })
+    @Operation(
+            summary = "Stream status list changes",
+            description =
+                    "Server-sent events with the indices set by every change of a status list. A reconnecting "
+                            + "client sends the id of the last received event as Last-Event-ID and receives the "
+                            + "changes it missed; a resync event tells it to reload its status lists instead. "
+                            + "Events can be delivered more than once, a skipped version of a status list is "
+                            + "fetched from the changes endpoint.")
+    public @interface StreamStatusListChangesDocs {
+    }
+
     @Parameter(description = "Issuer BPN", example = "BPNL000000000000")
     @Target(ElementType.PARAMETER)
     @Retention(RetentionPolicy.RUNTIME)
     public @interface IssuerBPNPathParamDoc {
     }
 
+    @Parameter(description = "Issuer BPN, all issuers if not given", example = "BPNL000000000000")
+    @Target(ElementType.PARAMETER)
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface IssuerBPNQueryParamDoc {
+    }
+
     @Parameter(description = "Status Purpose ( Revocation or Suspension)", example = "revocation")
     @Target(ElementType.PARAMETER)
     @Retention(RetentionPolicy.RUNTIME)
     public @interface StatusPathParamDoc {
     }
 
+    @Parameter(description = "Number of status list entries to reserve", example = "100")
+    @Target(ElementType.PARAMETER)
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface CountQueryParamDoc {
+    }
+
+    @Parameter(description = "Status list version held by the client, as given by the ETag of the status list credential", example = "3")
+    @Target(ElementType.PARAMETER)
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface SinceQueryParamDoc {
+    }
+
     @Parameter(description = "status list index", example = "1")
     @Target(ElementType.PARAMETER)
     @Retention(RetentionPolicy.RUNTIME)
@@ -25,6 +25,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.eclipse.tractusx.managedidentitywallets.commons.exception.ForbiddenException;
 import org.eclipse.tractusx.managedidentitywallets.revocation.exception.CredentialAlreadyRevokedException;
+import org.eclipse.tractusx.managedidentitywallets.revocation.exception.StatusListChangesGoneException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -64,4 +65,13 @@ public class ExceptionHandling {
         problemDetail.setProperty(TIMESTAMP_KEY, System.currentTimeMillis());
         return problemDetail;
     }
+
+    @ExceptionHandler(StatusListChangesGoneException.class)
+    ProblemDetail handleStatusListChangesGoneException(StatusListChangesGoneException e) {
+        String errorMsg = e.getMessage();
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.GONE, errorMsg);
+        problemDetail.setTitle("Revocation service error");
+        problemDetail.setProperty(TIMESTAMP_KEY, System.currentTimeMillis());
+        return problemDetail;
+    }
 }
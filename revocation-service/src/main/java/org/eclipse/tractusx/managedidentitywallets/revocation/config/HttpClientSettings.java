@@ -0,0 +1,52 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the HTTP client used for requests to MIW and the token endpoint.
+ *
+ * @param connectTimeout     time to wait for a connection to be established
+ * @param readTimeout        time to wait for a response
+ * @param tokenRefreshMargin time before its expiry at which a cached access token is replaced
+ */
+@ConfigurationProperties(prefix = "revocation.http-client")
+public record HttpClientSettings(Duration connectTimeout, Duration readTimeout, Duration tokenRefreshMargin) {
+
+    public HttpClientSettings {
+        if (connectTimeout == null) {
+            throw new NullPointerException("connectTimeout cannot be null");
+        }
+        if (readTimeout == null) {
+            throw new NullPointerException("readTimeout cannot be null");
+        }
+        if (tokenRefreshMargin == null) {
+            throw new NullPointerException("tokenRefreshMargin cannot be null");
+        }
+        if (tokenRefreshMargin.isNegative()) {
+            throw new IllegalArgumentException("tokenRefreshMargin cannot be negative");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * Keys used to sign status list credentials in-process, when {@code revocation.signer.type} is
+ * {@code local}.
+ *
+ * @param issuers signing key per issuer DID
+ */
+@ConfigurationProperties(prefix = "revocation.signer.local")
+public record LocalSignerSettings(Map<String, IssuerKey> issuers) {
+
+    public LocalSignerSettings {
+        issuers = issuers == null ? Map.of() : Map.copyOf(issuers);
+    }
+
+    /**
+     * Signing key of an issuer.
+     *
+     * @param verificationMethod the verification method of the issuer's DID document matching the key
+     * @param privateKey         the Base64 encoded Ed25519 private key
+     */
+    public record IssuerKey(URI verificationMethod, String privateKey) {
+
+        public IssuerKey {
+            if (verificationMethod == null) {
+                throw new NullPointerException("verificationMethod cannot be null");
+            }
+            if (privateKey == null) {
+                throw new NullPointerException("privateKey cannot be null");
+            }
+        }
+    }
+}
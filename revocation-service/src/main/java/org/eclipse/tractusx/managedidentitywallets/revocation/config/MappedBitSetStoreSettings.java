@@ -0,0 +1,46 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+/**
+ * Settings of the memory-mapped status bits store, used when {@code revocation.bitSetStore.type} is
+ * {@code mapped}.
+ *
+ * @param path     the file holding the status bits, created if it does not exist
+ * @param maxLists maximum number of status lists kept in the file, each takes about 16.3 KiB
+ */
+@ConfigurationProperties(prefix = "revocation.bit-set-store.mapped")
+public record MappedBitSetStoreSettings(Path path, int maxLists) {
+
+    public MappedBitSetStoreSettings {
+        if (path == null) {
+            throw new NullPointerException("path cannot be null");
+        }
+        if (maxLists <= 0) {
+            throw new IllegalArgumentException("maxLists must be positive");
+        }
+    }
+}
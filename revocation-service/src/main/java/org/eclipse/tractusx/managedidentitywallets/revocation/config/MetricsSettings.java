@@ -0,0 +1,40 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the domain metrics.
+ *
+ * @param issuerTag  tag metrics with the issuer BPN instead of "all"
+ * @param maxIssuers number of distinct issuers tagged with their BPN, further issuers are tagged as "other"
+ */
+@ConfigurationProperties(prefix = "revocation.metrics")
+public record MetricsSettings(boolean issuerTag, int maxIssuers) {
+
+    public MetricsSettings {
+        if (maxIssuers < 0) {
+            throw new IllegalArgumentException("maxIssuers cannot be negative");
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.config;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.utils.BitSetManager;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Size of new status lists and number of status lists of an issuer that entries are allocated from
+ * concurrently. Existing status lists keep the size they have been created with.
+ *
+ * @param size      number of entries of a status list, a multiple of 8 up to {@link BitSetManager#BITSET_SIZE}
+ * @param shards    number of status lists with free entries kept open per issuer and purpose
+ * @param overrides size and shards by purpose (e.g. "revocation"), issuer BPN, or issuer BPN and
+ *                  purpose (e.g. "BPNL000000000000-revocation"); the most specific override applies
+ */
+@ConfigurationProperties(prefix = "revocation.status-list.allocation")
+public record StatusListAllocationSettings(@DefaultValue("131072") int size,
+                                           @DefaultValue("1") int shards,
+                                           Map<String, Allocation> overrides) {
+
+    public StatusListAllocationSettings {
+        validate(size, shards);
+        Map<String, Allocation> normalized = new HashMap<>();
+        if (overrides != null) {
+            overrides.forEach((key, allocation) -> {
+                validate(allocation.size() == null ? size : allocation.size(),
+                        allocation.shards() == null ? shards : allocation.shards());
+                normalized.put(key.toLowerCase(Locale.ROOT), allocation);
+            });
+        }
+        overrides = Map.copyOf(normalized);
+    }
+
+    /**
+     * Resolves size and shards for the status lists of an issuer and purpose.
+     *
+     * @param bpn     the issuer BPN
+     * @param purpose the status purpose
+     * @return the allocation with size and shards set
+     */
+    public Allocation resolve(String bpn, String purpose) {
+        int resolvedSize = size;
+        int resolvedShards = shards;
+        // least specific first, more specific overrides win
+        for (String key : new String[] { purpose, bpn, bpn + "-" + purpose }) {
+            Allocation allocation = overrides.get(key.toLowerCase(Locale.ROOT));
+            if (allocation != null) {
+                resolvedSize = allocation.size() == null ? resolvedSize : allocation.size();
+                resolvedShards = allocation.shards() == null ? resolvedShards : allocation.shards();
+            }
+        }
+        return new Allocation(resolvedSize, resolvedShards);
+    }
+
+    private static void validate(int size, int shards) {
+        if (size < Byte.SIZE || size > BitSetManager.BITSET_SIZE || size % Byte.SIZE != 0) {
+            throw new IllegalArgumentException(
+                    "size must be a multiple of 8 between 8 and " + BitSetManager.BITSET_SIZE);
+        }
+        if (shards < 1) {
+            throw new IllegalArgumentException("shards must be at least 1");
+        }
+    }
+
+    /**
+     * Size and shards of an override, unset values fall back to the less specific setting.
+     *
+     * @param size   number of entries of a status list
+     * @param shards number of status lists with free entries kept open
+     */
+    public record Allocation(Integer size, Integer shards) {
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the in-memory cache holding decoded status list bitsets.
+ *
+ * @param maxSize maximum number of status lists kept in memory, 0 disables the cache
+ * @param ttl     time after which a cached bitset is reloaded from the database. Changes of other
+ *                instances drop cached bitsets once they are read from the change log, the ttl
+ *                bounds staleness only for changes that are missed there
+ */
+@ConfigurationProperties(prefix = "revocation.cache.status-list")
+public record StatusListCacheSettings(int maxSize, Duration ttl) {
+
+    public StatusListCacheSettings {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize cannot be negative");
+        }
+        if (ttl == null) {
+            throw new NullPointerException("ttl cannot be null");
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the stream of status list changes.
+ *
+ * @param pollInterval      interval at which the change log is read for changes committed by other
+ *                          instances; changes of this instance are read right after they committed
+ * @param heartbeatInterval interval of keep-alive comments on idle streams, they detect closed connections
+ * @param timeout           time after which a stream is closed, clients reconnect with the last event id
+ * @param maxSubscribers    maximum number of open streams per instance
+ * @param maxSubscribersPerClient maximum number of open streams per instance of one authenticated client
+ * @param replayLimit       maximum number of changes replayed to a reconnecting client; clients that
+ *                          missed more changes are told to reload their status lists
+ * @param gapTimeout        time a change with a lower id than already streamed changes is waited for,
+ *                          it belongs to a transaction that committed late
+ */
+@ConfigurationProperties(prefix = "revocation.status-list.events")
+public record StatusListEventSettings(@DefaultValue("PT1S") Duration pollInterval,
+                                      @DefaultValue("PT15S") Duration heartbeatInterval,
+                                      @DefaultValue("PT30M") Duration timeout,
+                                      @DefaultValue("100") int maxSubscribers,
+                                      @DefaultValue("5") int maxSubscribersPerClient,
+                                      @DefaultValue("1000") int replayLimit,
+                                      @DefaultValue("PT10S") Duration gapTimeout) {
+
+    public StatusListEventSettings {
+        if (pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException("pollInterval must be positive");
+        }
+        if (maxSubscribers < 0) {
+            throw new IllegalArgumentException("maxSubscribers cannot be negative");
+        }
+        if (maxSubscribersPerClient < 0) {
+            throw new IllegalArgumentException("maxSubscribersPerClient cannot be negative");
+        }
+        if (replayLimit < 1) {
+            throw new IllegalArgumentException("replayLimit must be positive");
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Modes of storing and publishing status lists.
+ *
+ * @param trustedStore   verify the proof of a status list credential once when it is stored; verifications
+ *                       of stored credentials with a matching digest skip the proof validation
+ * @param writeBehind    publish changed status lists periodically instead of on every revocation
+ * @param republishDelay time after which a status list with unpublished changes is published again,
+ *                       by the background publishing or the next revocation request of its issuer
+ * @param eventLog       append revocations to the revocation event log and compact them periodically
+ * @param provisioning   provisioning of the next status list of an issuer ahead of time
+ */
+@ConfigurationProperties(prefix = "revocation.status-list")
+public record StatusListSettings(@DefaultValue("false") boolean trustedStore,
+                                 @DefaultValue WriteBehind writeBehind,
+                                 @DefaultValue("PT1M") Duration republishDelay,
+                                 @DefaultValue EventLog eventLog,
+                                 @DefaultValue Provisioning provisioning) {
+
+    public StatusListSettings {
+        if (republishDelay.isNegative()) {
+            throw new IllegalArgumentException("republishDelay cannot be negative");
+        }
+    }
+
+    /**
+     * @param enabled publish changed status lists periodically instead of on every revocation
+     */
+    public record WriteBehind(@DefaultValue("false") boolean enabled) {
+    }
+
+    /**
+     * @param enabled   append revocations to the revocation event log instead of updating the status list
+     * @param batchSize maximum number of status lists compacted per run
+     */
+    public record EventLog(@DefaultValue("false") boolean enabled,
+                           @DefaultValue("100") int batchSize) {
+
+        public EventLog {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("batchSize must be at least 1");
+            }
+        }
+    }
+
+    /**
+     * @param threshold utilization of a status list at which the next status list of the issuer is
+     *                  provisioned, between 0 and 1
+     */
+    public record Provisioning(@DefaultValue("0.9") double threshold) {
+
+        public Provisioning {
+            if (threshold < 0 || threshold > 1) {
+                throw new IllegalArgumentException("threshold must be between 0 and 1");
+            }
+        }
+    }
+}
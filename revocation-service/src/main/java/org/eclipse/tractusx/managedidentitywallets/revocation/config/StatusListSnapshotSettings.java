@@ -0,0 +1,59 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings of the static snapshots of signed status lists, written when
+ * {@code revocation.statusList.snapshot.enabled} is set and served when
+ * {@code revocation.statusList.snapshot.serve} is set.
+ *
+ * @param directory       the directory holding the snapshots, created if it does not exist
+ * @param retention       time superseded snapshot files are kept for requests still reading them
+ * @param refreshInterval interval in which the snapshots are compared with the signed versions in the
+ *                        database and the outdated ones written, catching up on versions published by
+ *                        other instances
+ * @param shared          whether the directory is shared by all instances, required to serve snapshots
+ */
+@ConfigurationProperties(prefix = "revocation.status-list.snapshot")
+public record StatusListSnapshotSettings(Path directory, Duration retention, Duration refreshInterval,
+                                         boolean shared) {
+
+    public StatusListSnapshotSettings {
+        if (directory == null) {
+            throw new NullPointerException("directory cannot be null");
+        }
+        if (retention == null) {
+            throw new NullPointerException("retention cannot be null");
+        }
+        if (refreshInterval == null) {
+            throw new NullPointerException("refreshInterval cannot be null");
+        }
+        if (refreshInterval.isNegative() || refreshInterval.isZero()) {
+            throw new IllegalArgumentException("refreshInterval must be positive");
+        }
+    }
+}
@@ -90,6 +90,11 @@ public class SecurityConfig {
                                         .permitAll()
                                         .requestMatchers(new AntPathRequestMatcher("/actuator/loggers/**"))
                                         .hasRole(ApplicationRole.ROLE_MANAGE_APP)
+                                        .requestMatchers(
+                                                HttpMethod.GET,
+                                                RevocationApiEndpoints.REVOCATION_API
+                                                        + RevocationApiEndpoints.CREDENTIALS_EVENTS)
+                                        .authenticated() // open streams are limited per client
                                         .requestMatchers(
                                                 HttpMethod.GET, RevocationApiEndpoints.REVOCATION_API + "/credentials/**")
                                         .permitAll()
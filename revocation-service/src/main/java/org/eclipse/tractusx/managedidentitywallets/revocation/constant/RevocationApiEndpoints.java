@@ -26,11 +26,16 @@ public class RevocationApiEndpoints {
     public static final String REVOCATION_API = "/api/v1/revocations";
     public static final String CREDENTIALS = "/api/credentials";
     public static final String REVOKE = "/revoke";
+    public static final String REVOKE_BATCH = REVOKE + "/batch";
     public static final String VERIFY = "/verify";
+    public static final String VERIFY_BATCH = VERIFY + "/batch";
     public static final String STATUS_ENTRY = "/status-entry";
+    public static final String STATUS_ENTRY_BATCH = STATUS_ENTRY + "/batch";
     public static final String CREDENTIALS_BY_ISSUER = "/credentials";
+    public static final String CREDENTIALS_EVENTS = CREDENTIALS_BY_ISSUER + "/events";
     public static final String CREDENTIALS_STATUS_INDEX =
             CREDENTIALS_BY_ISSUER + "/{issuerBPN}/{status}/{index}";
+    public static final String CREDENTIALS_STATUS_INDEX_CHANGES = CREDENTIALS_STATUS_INDEX + "/changes";
 
     private RevocationApiEndpoints() {
         // static
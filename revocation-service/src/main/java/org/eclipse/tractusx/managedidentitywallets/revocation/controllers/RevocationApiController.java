@@ -30,11 +30,20 @@ import org.eclipse.tractusx.managedidentitywallets.commons.exception.ForbiddenEx
 import org.eclipse.tractusx.managedidentitywallets.commons.utils.Validate;
 import org.eclipse.tractusx.managedidentitywallets.revocation.apidocs.RevocationApiControllerApiDocs;
 import org.eclipse.tractusx.managedidentitywallets.revocation.constant.RevocationApiEndpoints;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.PublishedStatusListCredential;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.StatusListVersion;
+import org.eclipse.tractusx.managedidentitywallets.revocation.dto.BatchRevocationDto;
+import org.eclipse.tractusx.managedidentitywallets.revocation.dto.BatchVerificationDto;
 import org.eclipse.tractusx.managedidentitywallets.revocation.dto.CredentialStatusDto;
+import org.eclipse.tractusx.managedidentitywallets.revocation.dto.RevocationResultDto;
 import org.eclipse.tractusx.managedidentitywallets.revocation.dto.StatusEntryDto;
+import org.eclipse.tractusx.managedidentitywallets.revocation.dto.StatusListChangesDto;
+import org.eclipse.tractusx.managedidentitywallets.revocation.dto.VerificationResultDto;
 import org.eclipse.tractusx.managedidentitywallets.revocation.exception.RevocationServiceException;
 import org.eclipse.tractusx.managedidentitywallets.revocation.services.RevocationService;
+import org.eclipse.tractusx.managedidentitywallets.revocation.services.StatusListEventBroadcaster;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -45,9 +54,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.security.Principal;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -63,6 +75,20 @@ public class RevocationApiController extends BaseController {
 
     private final RevocationService revocationService;
 
+    private final StatusListEventBroadcaster statusListEventBroadcaster;
+
+    @Value("${revocation.statusEntry.batchMaxSize:1000}")
+    private int statusEntryBatchMaxSize;
+
+    @Value("${revocation.revoke.batchMaxSize:1000}")
+    private int revokeBatchMaxSize;
+
+    @Value("${revocation.verify.batchMaxSize:1000}")
+    private int verifyBatchMaxSize;
+
+    @Value("${revocation.statusList.cacheControl:no-cache}")
+    private String statusListCacheControl;
+
     /**
      * The above function is a Java POST endpoint that creates a status list for a credential using
      * the provided DTO.
@@ -88,6 +114,31 @@ public class RevocationApiController extends BaseController {
         return revocationService.createStatusList(dto, token);
     }
 
+    /**
+     * Reserves a block of status list entries for a credential issuer in one request.
+     *
+     * @param dto   the status entry
+     * @param count the number of entries to reserve
+     * @param token The authentication token
+     * @return one CredentialStatusDto per reserved entry
+     */
+    @RevocationApiControllerApiDocs.StatusEntryBatchApiDocs
+    @PostMapping(
+            value = RevocationApiEndpoints.STATUS_ENTRY_BATCH,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<CredentialStatusDto> createStatusListVCs(
+            @Valid @RequestBody StatusEntryDto dto,
+            @RevocationApiControllerApiDocs.CountQueryParamDoc @RequestParam(name = "count") int count,
+            @Parameter(hidden = true) @RequestHeader(name = HttpHeaders.AUTHORIZATION) String token,
+            Principal principal) {
+        Validate.isTrue(count < 1 || count > statusEntryBatchMaxSize)
+                .launch(new IllegalArgumentException("count must be between 1 and " + statusEntryBatchMaxSize));
+        Validate.isFalse(
+                        getBPNFromToken(principal).equals(revocationService.extractBpnFromDid(dto.issuerId())))
+                .launch(new ForbiddenException("invalid caller"));
+        return revocationService.createStatusLists(dto, count, token);
+    }
+
     /**
      * The above function is a Java POST endpoint that revokes a credential and returns an HTTP status
      * code.
@@ -113,6 +164,29 @@ public class RevocationApiController extends BaseController {
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
+    /**
+     * Revokes several credentials at once, every affected status list is signed only once.
+     *
+     * @param dto   the credential statuses to revoke
+     * @param token The authentication token
+     * @return the outcome per credential status, in the order of the request
+     */
+    @RevocationApiControllerApiDocs.revokeCredentialBatchDocs
+    @PostMapping(
+            value = RevocationApiEndpoints.REVOKE_BATCH,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<RevocationResultDto>> revokeCredentials(
+            @Valid @RequestBody BatchRevocationDto dto,
+            @Parameter(hidden = true) @RequestHeader(name = HttpHeaders.AUTHORIZATION) String token,
+            Principal principal) {
+        Validate.isTrue(dto.credentialStatuses().size() > revokeBatchMaxSize)
+                .launch(new IllegalArgumentException("At most " + revokeBatchMaxSize + " credentials can be revoked at once"));
+        String callerBpn = getBPNFromToken(principal);
+        dto.credentialStatuses().forEach(credentialStatus -> Validate.isFalse(
+                        callerBpn.equals(revocationService.extractBpnFromURL(credentialStatus.id())))
+                .launch(new ForbiddenException("Invalid caller")));
+        return ResponseEntity.ok(revocationService.revokeBatch(dto.credentialStatuses(), token));
+    }
 
     @RevocationApiControllerApiDocs.verifyCredentialDocs
     @PostMapping(RevocationApiEndpoints.VERIFY)
@@ -128,11 +202,40 @@ public class RevocationApiController extends BaseController {
         return ResponseEntity.ofNullable(revocationService.verifyStatus(dto));
     }
 
+    /**
+     * Verifies the status of several credentials at once, every referenced status list is decoded
+     * only once.
+     *
+     * @param dto   the credential statuses to verify
+     * @param token The authentication token
+     * @return the status per credential status, in the order of the request
+     */
+    @RevocationApiControllerApiDocs.verifyCredentialBatchDocs
+    @PostMapping(
+            value = RevocationApiEndpoints.VERIFY_BATCH,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<VerificationResultDto>> verifyRevocations(
+            @Valid @RequestBody BatchVerificationDto dto,
+            @Parameter(hidden = true) @RequestHeader(name = HttpHeaders.AUTHORIZATION) String token,
+            Principal principal) {
+        Validate.isTrue(dto.credentialStatuses().size() > verifyBatchMaxSize)
+                .launch(new IllegalArgumentException("At most " + verifyBatchMaxSize + " credentials can be verified at once"));
+        String callerBpn = getBPNFromToken(principal);
+        dto.credentialStatuses().forEach(credentialStatus -> Validate.isFalse(
+                        callerBpn.equals(revocationService.extractBpnFromURL(credentialStatus.id())))
+                .launch(new ForbiddenException("Invalid caller")));
+        return ResponseEntity.ok(revocationService.verifyStatuses(dto.credentialStatuses()));
+    }
+
     /**
      * The function `getCredentialsByIssuerId` retrieves a list of credentials by their issuer ID.
+     * Responses carry an ETag and Last-Modified of the published version; a conditional request for
+     * the version last served by this instance is answered with 304 once the signed version in the
+     * database confirms it, without loading the credential.
      *
-     * @param issuerBPN The `issuerBPN` parameter is a string that represents the BPn of the
-     *                 issuer.
+     * @param issuerBPN      The `issuerBPN` parameter is a string that represents the BPn of the
+     *                       issuer.
+     * @param requestHeaders the request headers, for If-None-Match and If-Modified-Since
      * @return The method is returning a ResponseEntity object that wraps a VerifiableCredential
      * object.
      */
@@ -143,10 +246,94 @@ public class RevocationApiController extends BaseController {
     public ResponseEntity<VerifiableCredential> getStatusListCredential(
             @RevocationApiControllerApiDocs.IssuerBPNPathParamDoc @PathVariable(name = "issuerBPN") String issuerBPN,
             @RevocationApiControllerApiDocs.StatusPathParamDoc @PathVariable(name = "status") String status,
-            @RevocationApiControllerApiDocs.IndexPathParamDoc @PathVariable(name = "index") String index) {
+            @RevocationApiControllerApiDocs.IndexPathParamDoc @PathVariable(name = "index") String index,
+            @Parameter(hidden = true) @RequestHeader HttpHeaders requestHeaders) {
         log.debug("received get list for {}", issuerBPN);
-        return ResponseEntity.ofNullable(
-                revocationService.getStatusListCredential(
-                        issuerBPN.toUpperCase(), status.toLowerCase(), index));
+        String issuerBpn = issuerBPN.toUpperCase();
+        String purpose = status.toLowerCase();
+        StatusListVersion knownVersion = revocationService.getKnownStatusListVersion(issuerBpn, purpose, index);
+        if (knownVersion != null && isNotModified(requestHeaders, knownVersion)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(knownVersion.eTag())
+                    .lastModified(knownVersion.publishedAt())
+                    .header(HttpHeaders.CACHE_CONTROL, statusListCacheControl)
+                    .build();
+        }
+        PublishedStatusListCredential published =
+                revocationService.getStatusListCredential(issuerBpn, purpose, index);
+        if (published == null) {
+            return ResponseEntity.notFound().build();
+        }
+        // conditional requests for the loaded version are answered with 304 by Spring MVC
+        return ResponseEntity.ok()
+                .eTag(published.version().eTag())
+                .lastModified(published.version().publishedAt())
+                .header(HttpHeaders.CACHE_CONTROL, statusListCacheControl)
+                .body(published.credential());
+    }
+
+    /**
+     * Returns the indices of a status list set after a version the client holds, with the signed
+     * status list credential of the current version as checkpoint.
+     *
+     * @param issuerBPN the BPN of the issuer
+     * @param status    the status purpose
+     * @param index     the index of the status list
+     * @param since     the version the client holds
+     * @return the changes, 404 if the status list does not exist or 410 if the changes are not available
+     */
+    @RevocationApiControllerApiDocs.GetStatusListChangesDocs
+    @GetMapping(
+            path = RevocationApiEndpoints.CREDENTIALS_STATUS_INDEX_CHANGES,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StatusListChangesDto> getStatusListChanges(
+            @RevocationApiControllerApiDocs.IssuerBPNPathParamDoc @PathVariable(name = "issuerBPN") String issuerBPN,
+            @RevocationApiControllerApiDocs.StatusPathParamDoc @PathVariable(name = "status") String status,
+            @RevocationApiControllerApiDocs.IndexPathParamDoc @PathVariable(name = "index") String index,
+            @RevocationApiControllerApiDocs.SinceQueryParamDoc @RequestParam(name = "since") long since) {
+        Validate.isTrue(since < 0).launch(new IllegalArgumentException("since cannot be negative"));
+        StatusListChangesDto changes =
+                revocationService.getStatusListChanges(issuerBPN.toUpperCase(), status.toLowerCase(), index, since);
+        if (changes == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .eTag("\"" + changes.version() + "\"")
+                .header(HttpHeaders.CACHE_CONTROL, statusListCacheControl)
+                .body(changes);
+    }
+
+    /**
+     * Streams the changes of status lists as server-sent events, so that verifiers can update cached
+     * status lists as soon as a credential is revoked.
+     *
+     * @param issuerBPN   the BPN of the issuer whose status lists are streamed, all if not given
+     * @param lastEventId the id of the last event received before reconnecting
+     * @param principal   the authenticated client, its open streams are limited
+     * @return the event stream
+     */
+    @RevocationApiControllerApiDocs.StreamStatusListChangesDocs
+    @GetMapping(
+            path = RevocationApiEndpoints.CREDENTIALS_EVENTS,
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStatusListChanges(
+            @RevocationApiControllerApiDocs.IssuerBPNQueryParamDoc
+            @RequestParam(name = "issuerBPN", required = false) String issuerBPN,
+            @Parameter(hidden = true) @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId,
+            Principal principal) {
+        Validate.isNull(principal).launch(new ForbiddenException("Authentication is required"));
+        return statusListEventBroadcaster.subscribe(
+                principal.getName(), issuerBPN == null ? null : issuerBPN.toUpperCase(), lastEventId);
+    }
+
+    private static boolean isNotModified(HttpHeaders requestHeaders, StatusListVersion version) {
+        List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            return ifNoneMatch.stream()
+                    .anyMatch(eTag -> eTag.equals("*") || eTag.replaceFirst("^W/", "").equals(version.eTag()));
+        }
+        long ifModifiedSince = requestHeaders.getIfModifiedSince();
+        return ifModifiedSince >= 0
+                && version.publishedAt().getEpochSecond() * 1000 <= ifModifiedSince;
     }
 }
@@ -0,0 +1,227 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.controllers;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListSnapshotSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.constant.RevocationApiEndpoints;
+import org.eclipse.tractusx.managedidentitywallets.revocation.repository.StatusListCredentialRepository;
+import org.eclipse.tractusx.managedidentitywallets.revocation.utils.StatusListSnapshots;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves status list credentials from the static snapshots written by
+ * {@link org.eclipse.tractusx.managedidentitywallets.revocation.services.StatusListSnapshotPublisher},
+ * before the request reaches Spring MVC. Clients accepting gzip get the compressed snapshot as is.
+ * On Tomcat the file is sent with sendfile, it is copied from the page cache to the socket without
+ * passing through the JVM. Requests for status lists without a snapshot are passed on to
+ * {@link RevocationApiController}.
+ *
+ * <p>A snapshot is only served if it is of the signed version in the database, which is read without
+ * the credential; snapshots not yet rewritten after another instance published a new version are
+ * passed on as well. The snapshot directory has to be shared by all instances, the filter refuses
+ * to start unless it is marked as shared.
+ *
+ * <p>The entity tag is the one of the status list endpoint, weak for the compressed snapshot as it
+ * is a different representation; If-None-Match is compared weakly like there.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "revocation.statusList.snapshot.serve", havingValue = "true")
+public class StatusListSnapshotFilter extends OncePerRequestFilter {
+
+    private static final Pattern STATUS_LIST_PATH = Pattern.compile(
+            Pattern.quote(RevocationApiEndpoints.REVOCATION_API + RevocationApiEndpoints.CREDENTIALS_BY_ISSUER)
+                    + "/([A-Za-z0-9]+)/([A-Za-z]+)/([0-9]+)");
+
+    private static final String GZIP = "gzip";
+
+    // request attributes of the sendfile support of Tomcat, ignored by other servlet containers
+
+    static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final Path directory;
+
+    private final StatusListCredentialRepository statusListCredentialRepository;
+
+    private final String statusListCacheControl;
+
+    public StatusListSnapshotFilter(StatusListSnapshotSettings settings,
+                                    StatusListCredentialRepository statusListCredentialRepository,
+                                    @Value("${revocation.statusList.cacheControl:no-cache}") String statusListCacheControl) {
+        if (!settings.shared()) {
+            throw new IllegalStateException("Status list snapshots can only be served from a directory shared by "
+                    + "all instances, set revocation.statusList.snapshot.shared once " + settings.directory()
+                    + " is shared");
+        }
+        this.directory = settings.directory();
+        this.statusListCredentialRepository = statusListCredentialRepository;
+        this.statusListCacheControl = statusListCacheControl;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Matcher matcher = STATUS_LIST_PATH.matcher(request.getRequestURI().substring(request.getContextPath().length()));
+        StatusListSnapshots.Snapshot snapshot = null;
+        boolean gzip = acceptsGzip(request);
+        if (matcher.matches()) {
+            String issuerBpn = matcher.group(1).toUpperCase();
+            String purpose = matcher.group(2).toLowerCase();
+            try {
+                snapshot = StatusListSnapshots.read(
+                        StatusListSnapshots.link(directory, issuerBpn, purpose, matcher.group(3), gzip));
+            } catch (IOException e) {
+                log.warn("Could not read status list snapshot for {}", request.getRequestURI(), e);
+            }
+            if (snapshot != null && !isSignedVersion(issuerBpn + "-" + purpose + "#" + matcher.group(3), snapshot)) {
+                snapshot = null;
+            }
+        }
+        if (snapshot == null || !serve(request, response, snapshot, gzip)) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private boolean isSignedVersion(String statusListId, StatusListSnapshots.Snapshot snapshot) {
+        Optional<Long> signedVersion = statusListCredentialRepository.findSignedVersionById(statusListId);
+        if (signedVersion.isPresent() && signedVersion.get() == snapshot.version()) {
+            return true;
+        }
+        log.debug("Snapshot of status list {} at version {} is outdated", statusListId, snapshot.version());
+        return false;
+    }
+
+    /**
+     * Serves a snapshot.
+     *
+     * @return false if the snapshot has been deleted meanwhile and nothing has been written
+     */
+    private boolean serve(HttpServletRequest request, HttpServletResponse response,
+                          StatusListSnapshots.Snapshot snapshot, boolean gzip) throws IOException {
+        response.setHeader(HttpHeaders.ETAG, gzip ? "W/" + snapshot.eTag() : snapshot.eTag());
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, snapshot.lastModified().toEpochMilli());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, statusListCacheControl);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (isNotModified(request, snapshot)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return true;
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentLengthLong(snapshot.length());
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // the snapshot file is never modified, Tomcat sends it after the filter chain returned
+            request.setAttribute(SENDFILE_FILENAME, snapshot.file().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, snapshot.length());
+            return true;
+        }
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(snapshot.file());
+        } catch (NoSuchFileException e) {
+            response.reset();
+            return false;
+        }
+        try (channel) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < snapshot.length()) {
+                position += channel.transferTo(position, snapshot.length() - position, out);
+            }
+        }
+        return true;
+    }
+
+    private static boolean isNotModified(HttpServletRequest request, StatusListSnapshots.Snapshot snapshot) {
+        boolean hasIfNoneMatch = false;
+        for (String header : Collections.list(request.getHeaders(HttpHeaders.IF_NONE_MATCH))) {
+            for (String eTag : header.split(",")) {
+                hasIfNoneMatch = true;
+                eTag = eTag.trim();
+                if (eTag.equals("*") || eTag.replaceFirst("^W/", "").equals(snapshot.eTag())) {
+                    return true;
+                }
+            }
+        }
+        if (hasIfNoneMatch) {
+            return false;
+        }
+        long ifModifiedSince;
+        try {
+            ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return ifModifiedSince >= 0 && snapshot.lastModified().getEpochSecond() * 1000 <= ifModifiedSince;
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        for (String header : Collections.list(request.getHeaders(HttpHeaders.ACCEPT_ENCODING))) {
+            for (String coding : header.split(",")) {
+                String[] parameters = coding.split(";");
+                if (parameters[0].trim().equalsIgnoreCase(GZIP)) {
+                    return parameters.length < 2 || !parameters[1].trim().matches("q=0(\\.0*)?");
+                }
+            }
+        }
+        return false;
+    }
+}
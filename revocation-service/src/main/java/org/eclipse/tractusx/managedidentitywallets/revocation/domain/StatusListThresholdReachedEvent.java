@@ -0,0 +1,50 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.domain;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.dto.StatusEntryDto;
+
+/**
+ * Published when a reservation filled a status list past the provisioning threshold, or when a
+ * request had to create a status list of an issuer with several shards.
+ *
+ * @param statusEntry  the status entry of the reservation, identifying issuer and purpose
+ * @param statusListId the id of the status list that crossed the threshold or has been created
+ * @param token        the token of the caller, allowed to sign for the issuer
+ */
+public record StatusListThresholdReachedEvent(StatusEntryDto statusEntry, String statusListId, String token) {
+
+    /**
+     * The issuer BPN with the status purpose shared by all status lists of the issuer, e.g.
+     * "BPNL000000000000-revocation".
+     *
+     * @return the issuer BPN with status
+     */
+    public String issuerBpnStatus() {
+        return statusListId.substring(0, statusListId.lastIndexOf('#'));
+    }
+
+    @Override
+    public String toString() {
+        return "StatusListThresholdReachedEvent[statusListId=" + statusListId + "]";
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.domain;
+
+import java.time.Instant;
+
+/**
+ * The published version of a status list credential.
+ *
+ * @param version     the status bits version the credential has been built from
+ * @param publishedAt the time the credential has been signed
+ */
+public record StatusListVersion(long version, Instant publishedAt) {
+
+    /**
+     * A strong entity tag, it changes with every published version.
+     *
+     * @return the quoted entity tag
+     */
+    public String eTag() {
+        return "\"" + version + "\"";
+    }
+}
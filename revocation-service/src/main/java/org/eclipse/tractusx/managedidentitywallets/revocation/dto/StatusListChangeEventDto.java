@@ -0,0 +1,39 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * A change of a status list as streamed to subscribers.
+ *
+ * @param statusListId the id of the status list, e.g. "BPNL000000000000-revocation#1"
+ * @param version      the status bits version produced by the change
+ * @param indices      the indices set by the change
+ */
+public record StatusListChangeEventDto(
+        @JsonProperty("statusListId") String statusListId,
+        @JsonProperty("version") long version,
+        @JsonProperty("indices") List<Integer> indices) {
+}
@@ -0,0 +1,46 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+
+import java.util.List;
+
+/**
+ * The indices of a status list set after a version, up to the version of its signed credential.
+ *
+ * @param statusListCredential the url of the status list credential
+ * @param since                the version the changes are relative to
+ * @param version              the version of the signed credential
+ * @param indices              the indices set after {@code since}, in the order of the changes
+ * @param checkpoint           the complete signed status list credential at {@code version}; a client
+ *                             verifies its proof and checks that the indices applied to its list of
+ *                             version {@code since} give the decoded encoded list
+ */
+public record StatusListChangesDto(
+        @JsonProperty("statusListCredential") String statusListCredential,
+        @JsonProperty("since") long since,
+        @JsonProperty("version") long version,
+        @JsonProperty("indices") List<Integer> indices,
+        @JsonProperty("checkpoint") VerifiableCredential checkpoint) {
+}
@@ -31,4 +31,7 @@ public class TokenResponse {
 
     @JsonAlias("access_token")
     private String accessToken;
+
+    @JsonAlias("expires_in")
+    private long expiresIn;
 }
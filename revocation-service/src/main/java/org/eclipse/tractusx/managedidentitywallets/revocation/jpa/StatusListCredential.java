@@ -35,6 +35,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import org.eclipse.tractusx.managedidentitywallets.revocation.validation.ValidVerifiableCredential;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
 import org.hibernate.annotations.CreationTimestamp;
@@ -72,6 +73,55 @@ public class StatusListCredential {
     @Convert(converter = StringToCredentialConverter.class)
     private VerifiableCredential credential;
 
+    /**
+     * SHA-256 digest of the credential whose proof has been verified when it was stored, null if the
+     * proof has not been verified at write time.
+     */
+    @Setter
+    @Column(name = "credential_digest", length = 64)
+    private String credentialDigest;
+
+    /**
+     * The revocation bits of the status list, one bit per entry of the status list in
+     * {@link java.util.BitSet#valueOf(byte[])} order. This is the source of truth, the encoded list of
+     * the credential is built from it when the status list is published. Null for status lists created
+     * before the column existed, until the first revocation in them.
+     */
+    @Setter
+    @Column(name = "status_bits")
+    private byte[] statusBits;
+
+    /**
+     * Incremented with every change of the status bits.
+     */
+    @Setter
+    @Column(name = "status_bits_version", nullable = false)
+    private long statusBitsVersion;
+
+    /**
+     * The status bits version the stored credential has been built from. The credential is stale
+     * while it is lower than the status bits version.
+     */
+    @Setter
+    @Column(name = "signed_version", nullable = false)
+    private long signedVersion;
+
+    /**
+     * Time of the oldest change of the status bits that has not been published yet, null while the
+     * credential reflects the current bits.
+     */
+    @Setter
+    @Column(name = "dirty_since")
+    private LocalDateTime dirtySince;
+
+    /**
+     * Time the stored credential has been signed, null for status lists signed before the column
+     * existed.
+     */
+    @Setter
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false, nullable = false)
     private LocalDateTime createdAt;
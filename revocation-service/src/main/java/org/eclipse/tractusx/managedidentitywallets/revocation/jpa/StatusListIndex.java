@@ -29,12 +29,12 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.eclipse.tractusx.managedidentitywallets.revocation.utils.BitSetManager;
 
 @Entity
 @Builder
@@ -58,22 +58,21 @@ public class StatusListIndex {
     @Size(max = 27, message = "Issuer Bpn with status cannot exceed 27 characters")
     private String issuerBpnStatus;
 
-    @Column(name = "current_index", length = 16) // Adjust length as per your schema constraints
-    @NotBlank(message = "Current index cannot be blank")
-    @Pattern(regexp = "^[0-9]+$", message = "Current index must be numeric")
-    @Size(max = 16, message = "Current index cannot exceed 16 characters")
-    private String currentIndex;
+    /**
+     * The next free index of the status list, reserved by an atomic increment.
+     */
+    @Column(name = "next_index", nullable = false)
+    private int nextIndex;
+
+    /**
+     * The number of entries of the status list, fixed when the status list is created.
+     */
+    @Builder.Default
+    @Column(name = "capacity", nullable = false)
+    private int capacity = BitSetManager.BITSET_SIZE;
 
     // Using LAZY fetching strategy to fetch statusListCredential on-demand
     @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     @JoinColumn(name = "status_list_credential_id", referencedColumnName = "id")
     private StatusListCredential statusListCredential;
-
-    public void setCurrentIndex(String index) {
-        if (index != null && !index.trim().isEmpty() && index.matches("^[0-9]+$")) {
-            this.currentIndex = index;
-        } else {
-            throw new IllegalArgumentException("Invalid index value");
-        }
-    }
 }
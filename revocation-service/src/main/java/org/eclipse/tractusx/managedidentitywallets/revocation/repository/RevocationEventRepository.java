@@ -0,0 +1,86 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.repository;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.RevocationEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RevocationEventRepository extends JpaRepository<RevocationEvent, Long> {
+
+    /**
+     * Appends a revocation to the event log in a single statement, without touching the status list.
+     * Nothing is appended if the bit is already set in the status bits or already pending in the log;
+     * the unique constraint on status list and index settles concurrent revocations of the same entry.
+     *
+     * @param id        the status list id
+     * @param index     the index of the bit
+     * @param createdAt the time of the revocation
+     * @return 1 if the revocation has been appended, 0 if the status list does not exist, has no binary
+     * bitset yet, is smaller than the index or the credential is already revoked
+     */
+    @Modifying
+    @Query(value = "INSERT INTO revocation_event (status_list_id, status_index, created_at) "
+            + "SELECT id, :index, :createdAt FROM status_list_credential "
+            + "WHERE id = :id AND status_bits IS NOT NULL "
+            + "AND CASE WHEN octet_length(status_bits) * 8 > :index THEN get_bit(status_bits, :index) = 0 ELSE false END "
+            + "ON CONFLICT (status_list_id, status_index) DO NOTHING",
+            nativeQuery = true)
+    int append(@Param("id") String id, @Param("index") int index, @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * Finds the indices revoked in a status list that have not been compacted yet.
+     *
+     * @param id the status list id
+     * @return the indices
+     */
+    @Query("select e.statusIndex from RevocationEvent e where e.statusListId = :id")
+    List<Integer> findPendingIndices(@Param("id") String id);
+
+    List<RevocationEvent> findByStatusListId(String statusListId);
+
+    /**
+     * Finds the status lists with events that have not been compacted yet, oldest event first.
+     *
+     * @param limit the maximum number of status lists
+     * @return the status list ids
+     */
+    @Query("select e.statusListId from RevocationEvent e group by e.statusListId order by min(e.id)")
+    List<String> findPendingStatusListIds(Limit limit);
+
+    /**
+     * Finds the time of the oldest event that has not been compacted yet.
+     *
+     * @return the time or empty if all events are compacted
+     */
+    @Query("select min(e.createdAt) from RevocationEvent e")
+    Optional<LocalDateTime> findOldestPendingEvent();
+}
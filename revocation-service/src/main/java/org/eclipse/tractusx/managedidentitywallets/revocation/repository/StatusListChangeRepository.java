@@ -0,0 +1,103 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.repository;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.StatusListChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StatusListChangeRepository extends JpaRepository<StatusListChange, Long> {
+
+    /**
+     * Records a change with the current status bits version of the status list. Must run in the
+     * transaction that changed the status bits, which still holds the row lock.
+     *
+     * @param id        the status list id
+     * @param index     the index of the changed bit
+     * @param changedAt the time of the change
+     * @return 1 if the change has been recorded, 0 if the status list does not exist
+     */
+    @Modifying
+    @Query(value = "INSERT INTO status_list_change (status_list_id, status_bits_version, status_index, changed_at) "
+            + "SELECT id, status_bits_version, :index, :changedAt FROM status_list_credential WHERE id = :id",
+            nativeQuery = true)
+    int recordChange(@Param("id") String id, @Param("index") int index, @Param("changedAt") LocalDateTime changedAt);
+
+    /**
+     * Finds the indices changed after a version up to and including another one.
+     *
+     * @param id    the status list id
+     * @param since the exclusive lower version
+     * @param until the inclusive upper version
+     * @return the changed indices, in the order of the changes
+     */
+    @Query("select c.statusIndex from StatusListChange c where c.statusListId = :id "
+            + "and c.statusBitsVersion > :since and c.statusBitsVersion <= :until "
+            + "order by c.statusBitsVersion, c.statusIndex")
+    List<Integer> findChangedIndices(@Param("id") String id, @Param("since") long since, @Param("until") long until);
+
+    /**
+     * Counts the versions with recorded changes in a range. The change log covers the range
+     * completely when every version in it has been recorded.
+     *
+     * @param id    the status list id
+     * @param since the exclusive lower version
+     * @param until the inclusive upper version
+     * @return the number of distinct versions
+     */
+    @Query("select count(distinct c.statusBitsVersion) from StatusListChange c where c.statusListId = :id "
+            + "and c.statusBitsVersion > :since and c.statusBitsVersion <= :until")
+    long countVersions(@Param("id") String id, @Param("since") long since, @Param("until") long until);
+
+    /**
+     * Finds the changes recorded after a change, in the order they have been recorded.
+     *
+     * @param id    the id of the last known change
+     * @param limit the maximum number of changes
+     * @return the changes
+     */
+    List<StatusListChange> findByIdGreaterThanOrderByIdAsc(long id, Limit limit);
+
+    /**
+     * Finds the changes recorded in a range of ids, in the order they have been recorded.
+     *
+     * @param from  the inclusive lower id
+     * @param to    the inclusive upper id
+     * @param limit the maximum number of changes
+     * @return the changes
+     */
+    List<StatusListChange> findByIdBetweenOrderByIdAsc(long from, long to, Limit limit);
+
+    List<StatusListChange> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+    @Query("select coalesce(max(c.id), 0) from StatusListChange c")
+    long findMaxId();
+}
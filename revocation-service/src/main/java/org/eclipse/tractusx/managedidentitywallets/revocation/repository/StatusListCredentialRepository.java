@@ -23,16 +23,149 @@ package org.eclipse.tractusx.managedidentitywallets.revocation.repository;
 
 import jakarta.persistence.LockModeType;
 import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.StatusListCredential;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface StatusListCredentialRepository
         extends JpaRepository<StatusListCredential, String> {
 
+    /**
+     * Finds a status list and locks it until the end of the transaction. Only writers should lock,
+     * reads use {@link #findById(Object)}, which does not wait for locks held by writers.
+     *
+     * @param id the status list id
+     * @return the status list
+     */
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    Optional<StatusListCredential> findById(String id);
+    Optional<StatusListCredential> findForUpdateById(String id);
+
+    /**
+     * Sets one bit of the binary bitset in a single statement, without loading the status list.
+     * PostgreSQL numbers the bits of a bytea like {@link java.util.BitSet#valueOf(byte[])}. The index is
+     * checked against the length of the bitset in a CASE, as AND does not guarantee an evaluation order.
+     *
+     * @param id        the status list id
+     * @param index     the index of the bit
+     * @param changedAt the time of the change, recorded unless older unpublished changes exist
+     * @return 1 if the bit has been set, 0 if the status list does not exist, has no binary bitset yet,
+     * is smaller than the index or the bit was already set
+     */
+    @Modifying
+    @Query(value = "UPDATE status_list_credential SET status_bits = set_bit(status_bits, :index, 1), "
+            + "status_bits_version = status_bits_version + 1, dirty_since = COALESCE(dirty_since, :changedAt), "
+            + "modified_at = now() "
+            + "WHERE id = :id AND status_bits IS NOT NULL "
+            + "AND CASE WHEN octet_length(status_bits) * 8 > :index THEN get_bit(status_bits, :index) = 0 ELSE false END",
+            nativeQuery = true)
+    int setStatusBit(@Param("id") String id, @Param("index") int index,
+                     @Param("changedAt") LocalDateTime changedAt);
+
+    /**
+     * Finds the status lists with changes that have not been published yet, oldest change first.
+     *
+     * @return the status list ids
+     */
+    @Query("select s.id from StatusListCredential s where s.dirtySince is not null order by s.dirtySince")
+    List<String> findUnpublishedIds();
+
+    /**
+     * Finds the status lists with changes that have not been published yet and are older than the given
+     * time, oldest change first.
+     *
+     * @param changedBefore the time
+     * @return the status list ids
+     */
+    @Query("select s.id from StatusListCredential s where s.dirtySince < :changedBefore order by s.dirtySince")
+    List<String> findUnpublishedIdsChangedBefore(@Param("changedBefore") LocalDateTime changedBefore);
+
+    /**
+     * Finds the time of the oldest change that has not been published yet.
+     *
+     * @return the time or empty if all status lists are published
+     */
+    @Query("select min(s.dirtySince) from StatusListCredential s")
+    Optional<LocalDateTime> findOldestUnpublishedChange();
+
+    /**
+     * Finds the time of the oldest change of a status list that has not been published yet.
+     *
+     * @param id the status list id
+     * @return the time or empty if the status list is published or does not exist
+     */
+    @Query("select s.dirtySince from StatusListCredential s where s.id = :id")
+    Optional<LocalDateTime> findDirtySinceById(@Param("id") String id);
+
+    /**
+     * Finds the status bits version of a status list, without loading it. Within the transaction that
+     * changed the status bits, this is the version the change produced.
+     *
+     * @param id the status list id
+     * @return the version, empty if the status list does not exist
+     */
+    @Query("select s.statusBitsVersion from StatusListCredential s where s.id = :id")
+    Optional<Long> findStatusBitsVersionById(@Param("id") String id);
+
+    /**
+     * Finds the status bits versions of status lists, without loading the status lists. Status lists with
+     * revocation events that have not been compacted yet have no version, -1 is returned for them.
+     *
+     * @param ids the status list ids
+     * @return the versions of the status lists that exist
+     */
+    @Query("select s.id as id, case when exists (select e.id from RevocationEvent e where e.statusListId = s.id) "
+            + "then -1 else s.statusBitsVersion end as statusBitsVersion "
+            + "from StatusListCredential s where s.id in :ids")
+    List<StatusBitsVersion> findStatusBitsVersions(@Param("ids") Collection<String> ids);
+
+    /**
+     * Finds the signed versions of status lists in the order of their ids, without loading the status
+     * lists.
+     *
+     * @param after the id the status lists follow, "" for the first status lists
+     * @param limit the maximum number of status lists
+     * @return the signed versions
+     */
+    @Query("select s.id as id, s.signedVersion as signedVersion from StatusListCredential s "
+            + "where s.id > :after order by s.id")
+    List<SignedVersion> findSignedVersions(@Param("after") String after, Limit limit);
+
+    /**
+     * Finds the version of the signed credential of a status list, without loading the credential.
+     *
+     * @param id the status list id
+     * @return the signed version or empty if the status list does not exist
+     */
+    @Query("select s.signedVersion from StatusListCredential s where s.id = :id")
+    Optional<Long> findSignedVersionById(@Param("id") String id);
+
+    /**
+     * The status bits version of a status list.
+     */
+    interface StatusBitsVersion {
+
+        String getId();
+
+        long getStatusBitsVersion();
+    }
+
+    /**
+     * The version of the signed credential of a status list.
+     */
+    interface SignedVersion {
+
+        String getId();
+
+        long getSignedVersion();
+    }
 }
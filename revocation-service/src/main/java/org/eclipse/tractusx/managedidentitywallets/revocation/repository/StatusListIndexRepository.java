@@ -21,10 +21,11 @@
 
 package org.eclipse.tractusx.managedidentitywallets.revocation.repository;
 
-import jakarta.persistence.LockModeType;
 import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.StatusListIndex;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -32,6 +33,22 @@ import java.util.List;
 @Repository
 public interface StatusListIndexRepository extends JpaRepository<StatusListIndex, String> {
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
     List<StatusListIndex> findByIssuerBpnStatus(String issuerBpnStatus);
+
+    /**
+     * Reserves indices of a status list by an atomic increment of its counter. The row stays locked
+     * until the surrounding transaction ends, which should therefore be kept short.
+     *
+     * @param id       the status list index id
+     * @param count    the number of indices to reserve
+     * @param capacity the size of the status list
+     * @return 1 if the indices have been reserved, 0 if the status list has not enough free indices
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update StatusListIndex s set s.nextIndex = s.nextIndex + :count "
+            + "where s.id = :id and s.nextIndex + :count <= :capacity")
+    int reserveIndices(@Param("id") String id, @Param("count") int count, @Param("capacity") int capacity);
+
+    @Query("select s.nextIndex from StatusListIndex s where s.id = :id")
+    int findNextIndexById(@Param("id") String id);
 }
@@ -0,0 +1,130 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+/**
+ * Keeps the status bits of status lists for verification, keyed by status list id
+ * (e.g. "BPNL000000000000-revocation#1"). The database remains the source of record, a store only
+ * saves loading the bits again.
+ *
+ * <p>The implementation is chosen with {@code revocation.bitSetStore.type}: {@code heap} (default)
+ * keeps decoded bitsets in memory, {@code mapped} keeps the raw bits in a memory-mapped file.
+ */
+public interface BitSetStore {
+
+    /**
+     * Returned by {@link #getBit(String, int)} if the status list is not stored.
+     */
+    int NOT_STORED = -1;
+
+    /**
+     * Version of status bits that include revocation events not compacted into the status list yet.
+     * Such bits do not match any version in the database.
+     */
+    long PENDING_VERSION = Long.MIN_VALUE;
+
+    /**
+     * Reads one bit of a status list.
+     *
+     * @param statusListId the status list id
+     * @param index        the index of the bit
+     * @return 1 if the bit is set, 0 if not or {@link #NOT_STORED} if the status list is not stored or expired
+     */
+    int getBit(String statusListId, int index);
+
+    /**
+     * The current generation. It must be read before the status bits are loaded from the database and
+     * passed to {@link #putStatusBits(String, byte[], long, long)}.
+     *
+     * @return the generation
+     */
+    long generation();
+
+    /**
+     * Stores the status bits of a status list unless the same status list has been changed or
+     * invalidated since they have been loaded.
+     *
+     * @param statusListId the status list id
+     * @param statusBits   the status bits as stored in the status bits column
+     * @param version      the status bits version the bits have been loaded with
+     * @param loadedAt     the generation read before the bits have been loaded
+     */
+    void putStatusBits(String statusListId, byte[] statusBits, long version, long loadedAt);
+
+    /**
+     * Sets a bit of a stored status list once the revocation committed. Status lists that are not
+     * stored are loaded by the next verification.
+     *
+     * @param statusListId the status list id
+     * @param index        the index of the bit
+     * @param version      the status bits version the revocation produced, or {@link #PENDING_VERSION}
+     *                     for a revocation event
+     */
+    void setBit(String statusListId, int index, long version);
+
+    /**
+     * Drops the stored status bits of a status list unless they already include a version. Called
+     * for the changes of all instances read from the change log of the status lists, so that changes
+     * of other instances are seen within the poll interval instead of the ttl.
+     *
+     * @param statusListId the status list id
+     * @param version      the status bits version of the change
+     */
+    void changed(String statusListId, long version);
+
+    /**
+     * Removes a status list from the store.
+     *
+     * @param statusListId the status list id
+     */
+    void invalidate(String statusListId);
+
+    /**
+     * Removes all status lists from the store.
+     */
+    void invalidateAll();
+
+    /**
+     * Whether a revocation producing a version can be applied in place to bits stored with another
+     * version: it is the next version, the version of the same batch, or a revocation event.
+     *
+     * @param storedVersion the version of the stored bits
+     * @param version       the version of the revocation
+     * @return true if the bits with the revocation applied are the bits of the version
+     */
+    static boolean follows(long storedVersion, long version) {
+        return version == PENDING_VERSION
+                || (storedVersion != PENDING_VERSION && (version == storedVersion || version == storedVersion + 1));
+    }
+
+    /**
+     * Whether bits stored with a version include the changes of another version. Bits with pending
+     * revocation events do not match any version and never do.
+     *
+     * @param storedVersion the version of the stored bits
+     * @param version       the version of a change
+     * @return true if the stored bits include the change
+     */
+    static boolean includes(long storedVersion, long version) {
+        return storedVersion != PENDING_VERSION && storedVersion >= version;
+    }
+}
@@ -21,52 +21,114 @@
 
 package org.eclipse.tractusx.managedidentitywallets.revocation.services;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.managedidentitywallets.commons.constant.StringPool;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.HttpClientSettings;
 import org.eclipse.tractusx.managedidentitywallets.revocation.config.security.SecurityConfigProperties;
 import org.eclipse.tractusx.managedidentitywallets.revocation.dto.TokenResponse;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Client for the token endpoint and MIW. Requests share one HTTP client that keeps connections
+ * alive between requests; the client is built from the auto-configured {@link RestClient.Builder},
+ * so requests are recorded as {@code http.client.requests} metrics.
+ *
+ * <p>Access tokens are cached until shortly before they expire, as told by {@code expires_in}.
+ * Tokens without an expiry are not cached.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class HttpClientService {
 
-    private final RestClient restClient = RestClient.create();
+    private final RestClient restClient;
 
     private final SecurityConfigProperties securityConfigProperties;
 
+    private final Duration tokenRefreshMargin;
+
+    private final Clock clock;
+
+    private final Object tokenLock = new Object();
+
+    private volatile CachedToken cachedToken;
+
     @Value("${revocation.domain.url}")
     public String domainUrl;
 
     @Value("${revocation.miw.url}")
     private String miwUrl;
 
+    @Autowired
+    public HttpClientService(SecurityConfigProperties securityConfigProperties, HttpClientSettings httpClientSettings,
+                             RestClient.Builder restClientBuilder) {
+        this(securityConfigProperties, httpClientSettings, restClientBuilder, Clock.systemUTC());
+    }
+
+    HttpClientService(SecurityConfigProperties securityConfigProperties, HttpClientSettings httpClientSettings,
+                      RestClient.Builder restClientBuilder, Clock clock) {
+        this.securityConfigProperties = securityConfigProperties;
+        this.tokenRefreshMargin = httpClientSettings.tokenRefreshMargin();
+        this.clock = clock;
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(httpClientSettings.connectTimeout())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(httpClientSettings.readTimeout());
+        this.restClient = restClientBuilder.requestFactory(requestFactory).build();
+    }
+
+    /**
+     * Returns an access token of the service, requesting a new one only if the cached token is about
+     * to expire. If requesting a new token fails while the cached one is still valid, the cached one
+     * is returned.
+     *
+     * @return the access token
+     */
     public String getBearerToken() {
-        MultiValueMap<String, Object> data = new LinkedMultiValueMap<>();
-        data.add("client_id", securityConfigProperties.publicClientId());
-        data.add("client_secret", securityConfigProperties.clientId());
-        data.add("grant_type", "client_credentials");
-        var result =
-                restClient
-                        .post()
-                        .uri(securityConfigProperties.tokenUrl())
-                        .accept(MediaType.APPLICATION_FORM_URLENCODED)
-                        .body(data)
-                        .retrieve();
-        TokenResponse tokenResponse = result.toEntity(TokenResponse.class).getBody();
-        if (tokenResponse == null) {
-            return null;
+        CachedToken token = cachedToken;
+        Instant now = clock.instant();
+        if (token != null && now.isBefore(token.refreshAt())) {
+            return token.value();
+        }
+        synchronized (tokenLock) {
+            token = cachedToken;
+            now = clock.instant();
+            if (token != null && now.isBefore(token.refreshAt())) {
+                return token.value();
+            }
+            TokenResponse tokenResponse;
+            try {
+                tokenResponse = requestToken();
+            } catch (RestClientException e) {
+                if (token != null && now.isBefore(token.expiresAt())) {
+                    log.warn("Could not refresh access token, using the cached one until it expires: {}", e.getMessage());
+                    return token.value();
+                }
+                throw e;
+            }
+            if (tokenResponse == null) {
+                return null;
+            }
+            cachedToken = tokenResponse.getExpiresIn() > 0 ? cache(tokenResponse, now) : null;
+            return tokenResponse.getAccessToken();
         }
-        return tokenResponse.getAccessToken();
-
     }
 
     public VerifiableCredential signStatusListVC(VerifiableCredential vc, String token) {
@@ -89,4 +151,29 @@ public class HttpClientService {
                         .retrieve();
         return result.toEntity(VerifiableCredential.class).getBody();
     }
+
+    private TokenResponse requestToken() {
+        MultiValueMap<String, Object> data = new LinkedMultiValueMap<>();
+        data.add("client_id", securityConfigProperties.publicClientId());
+        data.add("client_secret", securityConfigProperties.clientId());
+        data.add("grant_type", "client_credentials");
+        var result =
+                restClient
+                        .post()
+                        .uri(securityConfigProperties.tokenUrl())
+                        .accept(MediaType.APPLICATION_FORM_URLENCODED)
+                        .body(data)
+                        .retrieve();
+        return result.toEntity(TokenResponse.class).getBody();
+    }
+
+    private CachedToken cache(TokenResponse tokenResponse, Instant now) {
+        Duration lifetime = Duration.ofSeconds(tokenResponse.getExpiresIn());
+        // short-lived tokens are refreshed halfway through their lifetime at the latest
+        Duration margin = tokenRefreshMargin.compareTo(lifetime.dividedBy(2)) > 0 ? lifetime.dividedBy(2) : tokenRefreshMargin;
+        return new CachedToken(tokenResponse.getAccessToken(), now.plus(lifetime).minus(margin), now.plus(lifetime));
+    }
+
+    private record CachedToken(String value, Instant refreshAt, Instant expiresAt) {
+    }
 }
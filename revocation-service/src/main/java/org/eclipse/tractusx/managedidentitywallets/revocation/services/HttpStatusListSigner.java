@@ -0,0 +1,61 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import lombok.RequiredArgsConstructor;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Signs status list credentials by issuing them through MIW. Status lists published outside of a
+ * request of their issuer, by the write-behind publisher or the event log compaction, are signed with
+ * the access token of the service. MIW only issues credentials of the wallet of the caller, so these
+ * are only signed for the issuer whose BPN the client of the service carries; the status lists of
+ * other issuers stay marked as changed and are published by the next revocation request of their
+ * issuer once the republish delay passed.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "revocation.signer.type", havingValue = "http", matchIfMissing = true)
+public class HttpStatusListSigner implements StatusListSigner {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final HttpClientService httpClientService;
+
+    @Override
+    public VerifiableCredential sign(VerifiableCredential statusListCredential, String token) {
+        if (token == null) {
+            token = BEARER_PREFIX + httpClientService.getBearerToken();
+        }
+        return httpClientService.signStatusListVC(statusListCredential, token);
+    }
+
+    /**
+     * MIW only issues credentials of the wallet of the caller.
+     */
+    @Override
+    public boolean isIssuerTokenRequired() {
+        return true;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.managedidentitywallets.commons.constant.StringPool;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.LocalSignerSettings;
+import org.eclipse.tractusx.ssi.lib.crypt.x25519.X25519PrivateKey;
+import org.eclipse.tractusx.ssi.lib.exception.json.TransformJsonLdException;
+import org.eclipse.tractusx.ssi.lib.exception.key.InvalidPrivateKeyFormatException;
+import org.eclipse.tractusx.ssi.lib.exception.proof.SignatureGenerateFailedException;
+import org.eclipse.tractusx.ssi.lib.exception.proof.UnsupportedSignatureTypeException;
+import org.eclipse.tractusx.ssi.lib.model.JsonLdObject;
+import org.eclipse.tractusx.ssi.lib.model.proof.Proof;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.Verifiable;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.eclipse.tractusx.ssi.lib.proof.LinkedDataProofGenerator;
+import org.eclipse.tractusx.ssi.lib.proof.SignatureType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Signs status list credentials in-process with a JsonWebSignature2020 proof, like MIW does, using
+ * issuer keys configured for the revocation service. This saves the request to MIW, the token
+ * handling and the persistence of the status list credential as issued credential in MIW.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "revocation.signer.type", havingValue = "local")
+public class LocalStatusListSigner implements StatusListSigner {
+
+    private static final URI JWS_2020_CONTEXT = URI.create(StringPool.W3_ID_JWS_2020_V1_CONTEXT_URL);
+
+    private final Map<String, SigningKey> signingKeys = new HashMap<>();
+
+    public LocalStatusListSigner(LocalSignerSettings settings) {
+        settings.issuers().forEach((issuer, issuerKey) -> {
+            try {
+                X25519PrivateKey privateKey = new X25519PrivateKey(Base64.getDecoder().decode(issuerKey.privateKey()));
+                signingKeys.put(issuer, new SigningKey(issuerKey.verificationMethod(), privateKey));
+            } catch (InvalidPrivateKeyFormatException | IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid private key of issuer " + issuer, e);
+            }
+        });
+        log.info("Signing status lists locally for issuers {}", signingKeys.keySet());
+    }
+
+    @Override
+    public VerifiableCredential sign(VerifiableCredential statusListCredential, String token) {
+        String issuer = statusListCredential.getIssuer().toString();
+        SigningKey signingKey = signingKeys.get(issuer);
+        if (signingKey == null) {
+            throw new IllegalStateException("No signing key configured for issuer " + issuer);
+        }
+
+        Map<String, Object> json = new LinkedHashMap<>(statusListCredential);
+        json.remove(Verifiable.PROOF);
+        List<URI> contexts = new ArrayList<>(statusListCredential.getContext());
+        if (!contexts.contains(JWS_2020_CONTEXT)) {
+            contexts.add(JWS_2020_CONTEXT);
+        }
+        json.put(JsonLdObject.CONTEXT, contexts.stream().map(URI::toString).toList());
+
+        try {
+            LinkedDataProofGenerator generator = LinkedDataProofGenerator.newInstance(SignatureType.JWS);
+            Proof proof = generator.createProof(new VerifiableCredential(json), signingKey.verificationMethod(),
+                    signingKey.privateKey());
+            json.put(Verifiable.PROOF, proof);
+        } catch (UnsupportedSignatureTypeException | InvalidPrivateKeyFormatException | SignatureGenerateFailedException
+                 | TransformJsonLdException e) {
+            throw new IllegalStateException("Could not sign status list credential of issuer " + issuer, e);
+        }
+        return new VerifiableCredential(json);
+    }
+
+    @Override
+    public boolean isIssuerTokenRequired() {
+        return false;
+    }
+
+    private record SigningKey(URI verificationMethod, X25519PrivateKey privateKey) {
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.MappedBitSetStoreSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListCacheSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.repository.StatusListCredentialRepository;
+import org.eclipse.tractusx.managedidentitywallets.revocation.utils.BitSetManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * {@link BitSetStore} keeping the raw status bits in a memory-mapped file, so that the bits of many
+ * status lists stay off the heap and survive restarts. Bits are read from and written to the file in
+ * place. When the file is full, the least recently used status list is replaced.
+ *
+ * <p>The file is a header followed by fixed size slots, one per status list. A slot holds its state,
+ * the status list id, the status bits version the bits have been loaded with, a checksum and the
+ * bits. A slot is marked as being written before it is changed and as valid afterwards. On startup
+ * only valid slots with a matching checksum and the same status bits version as in the database are
+ * kept, everything else is dropped and reloaded from the database when needed. This makes the file
+ * safe against crashes in the middle of a write and against revocations done while the service was
+ * down.
+ *
+ * <p>Within the running service, a revocation sets its bit in the slot of the status list after it
+ * committed, together with the new status bits version and checksum. A slot is only changed in place
+ * for the version following the stored one; revocations committed out of order free the slot, so it
+ * never claims a version whose bits it does not hold. Changes of other instances read from the change
+ * log free slots holding an older version. Slots expire after the ttl of the status list cache, like
+ * in the heap store.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "revocation.bitSetStore.type", havingValue = "mapped")
+public class MappedBitSetStore implements BitSetStore {
+
+    private static final long MAGIC = 0x4d49_5742_4954_5331L; // "MIWBITS1"
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int FILE_HEADER_SIZE = 64;
+
+    private static final int FREE = 0;
+
+    private static final int WRITING = 1;
+
+    private static final int VALID = 2;
+
+    private static final int STATE_OFFSET = 0;
+
+    private static final int LENGTH_OFFSET = 4;
+
+    private static final int VERSION_OFFSET = 8;
+
+    private static final int CHECKSUM_OFFSET = 16;
+
+    private static final int ID_LENGTH_OFFSET = 24;
+
+    private static final int ID_OFFSET = 26;
+
+    private static final int MAX_ID_LENGTH = 256;
+
+    private static final int BITS_OFFSET = 288;
+
+    private static final int MAX_STATUS_BITS_LENGTH = BitSetManager.BITSET_SIZE / Byte.SIZE;
+
+    private static final int SLOT_SIZE = BITS_OFFSET + MAX_STATUS_BITS_LENGTH;
+
+    /**
+     * Slots per mapped region, a single mapping cannot exceed 2 GiB.
+     */
+    private static final int SLOTS_PER_REGION = 4096;
+
+    private static final int RECONCILE_BATCH_SIZE = 1000;
+
+    private final Path path;
+
+    private final int maxLists;
+
+    private final long ttlNanos;
+
+    private final StatusListCredentialRepository statusListCredentialRepository;
+
+    private final FileChannel channel;
+
+    private final MappedByteBuffer[] regions;
+
+    private final Map<String, Slot> slots = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+
+    private final StatusListGenerations generations = new StatusListGenerations();
+
+    public MappedBitSetStore(MappedBitSetStoreSettings settings, StatusListCacheSettings cacheSettings,
+                             StatusListCredentialRepository statusListCredentialRepository) throws IOException {
+        this.path = settings.path();
+        this.maxLists = settings.maxLists();
+        this.ttlNanos = cacheSettings.ttl().toNanos();
+        this.statusListCredentialRepository = statusListCredentialRepository;
+        Path directory = path.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_HEADER_SIZE);
+        if (header.getLong(0) != MAGIC || header.getInt(8) != FORMAT_VERSION || header.getInt(12) != maxLists
+                || header.getInt(16) != SLOT_SIZE) {
+            log.info("Initializing status bits store {} for {} status lists", path, maxLists);
+            channel.truncate(FILE_HEADER_SIZE);
+            for (int i = 0; i < FILE_HEADER_SIZE; i++) {
+                header.put(i, (byte) 0);
+            }
+            header.putLong(0, MAGIC);
+            header.putInt(8, FORMAT_VERSION);
+            header.putInt(12, maxLists);
+            header.putInt(16, SLOT_SIZE);
+            header.force();
+        }
+        this.regions = new MappedByteBuffer[(maxLists + SLOTS_PER_REGION - 1) / SLOTS_PER_REGION];
+        for (int i = 0; i < regions.length; i++) {
+            int regionSlots = Math.min(SLOTS_PER_REGION, maxLists - i * SLOTS_PER_REGION);
+            regions[i] = channel.map(FileChannel.MapMode.READ_WRITE,
+                    FILE_HEADER_SIZE + (long) i * SLOTS_PER_REGION * SLOT_SIZE, (long) regionSlots * SLOT_SIZE);
+        }
+    }
+
+    /**
+     * Keeps the slots still matching the database and frees all others. Nothing is served from the
+     * file before.
+     */
+    @PostConstruct
+    public void reconcile() {
+        Map<String, Integer> candidates = new HashMap<>();
+        List<Integer> dropped = new ArrayList<>();
+        for (int number = 0; number < maxLists; number++) {
+            int state = region(number).getInt(offset(number) + STATE_OFFSET);
+            String statusListId = state == VALID && checksumMatches(number) ? readId(number) : null;
+            if (statusListId == null || candidates.putIfAbsent(statusListId, number) != null) {
+                if (state != FREE) {
+                    dropped.add(number);
+                }
+            }
+        }
+
+        Map<String, Long> versions = new HashMap<>();
+        List<String> ids = new ArrayList<>(candidates.keySet());
+        for (int from = 0; from < ids.size(); from += RECONCILE_BATCH_SIZE) {
+            statusListCredentialRepository
+                    .findStatusBitsVersions(ids.subList(from, Math.min(ids.size(), from + RECONCILE_BATCH_SIZE)))
+                    .forEach(version -> versions.put(version.getId(), version.getStatusBitsVersion()));
+        }
+
+        synchronized (slots) {
+            slots.clear();
+            freeSlots.clear();
+            long now = System.nanoTime();
+            candidates.forEach((statusListId, number) -> {
+                Long version = versions.get(statusListId);
+                if (version != null && version == region(number).getLong(offset(number) + VERSION_OFFSET)) {
+                    slots.put(statusListId, new Slot(number, now));
+                } else {
+                    dropped.add(number);
+                }
+            });
+            dropped.forEach(number -> region(number).putInt(offset(number) + STATE_OFFSET, FREE));
+            for (int number = 0; number < maxLists; number++) {
+                if (region(number).getInt(offset(number) + STATE_OFFSET) == FREE) {
+                    freeSlots.add(number);
+                }
+            }
+        }
+        log.info("Reconciled status bits store {}: kept {} status lists, dropped {}", path, slots.size(),
+                dropped.size());
+    }
+
+    @Override
+    public int getBit(String statusListId, int index) {
+        synchronized (slots) {
+            Slot slot = slots.get(statusListId);
+            if (slot == null) {
+                return NOT_STORED;
+            }
+            if (System.nanoTime() - slot.loadedAt() >= ttlNanos) {
+                free(statusListId);
+                return NOT_STORED;
+            }
+            MappedByteBuffer region = region(slot.number());
+            int offset = offset(slot.number());
+            if (index >>> 3 >= region.getInt(offset + LENGTH_OFFSET)) {
+                return 0;
+            }
+            return (region.get(offset + BITS_OFFSET + (index >>> 3)) >>> (index & 7)) & 1;
+        }
+    }
+
+    @Override
+    public long generation() {
+        synchronized (slots) {
+            return generations.current();
+        }
+    }
+
+    @Override
+    public void putStatusBits(String statusListId, byte[] statusBits, long version, long loadedAt) {
+        byte[] id = statusListId.getBytes(StandardCharsets.UTF_8);
+        if (id.length > MAX_ID_LENGTH || statusBits.length > MAX_STATUS_BITS_LENGTH) {
+            log.warn("Status list {} does not fit into the status bits store", statusListId);
+            return;
+        }
+        synchronized (slots) {
+            if (generations.changedSince(statusListId, loadedAt)) {
+                // a revocation of the status list raced with the load, the bits might already be outdated
+                return;
+            }
+            Slot slot = slots.remove(statusListId);
+            int number = slot != null ? slot.number() : allocate();
+            write(number, id, statusBits, version);
+            slots.put(statusListId, new Slot(number, System.nanoTime()));
+        }
+    }
+
+    @Override
+    public void setBit(String statusListId, int index, long version) {
+        synchronized (slots) {
+            generations.changed(statusListId);
+            Slot slot = slots.get(statusListId);
+            if (slot == null) {
+                return;
+            }
+            MappedByteBuffer region = region(slot.number());
+            int offset = offset(slot.number());
+            long storedVersion = region.getLong(offset + VERSION_OFFSET);
+            int length = region.getInt(offset + LENGTH_OFFSET);
+            if (!BitSetStore.follows(storedVersion, version) || index >>> 3 >= length) {
+                free(statusListId);
+                return;
+            }
+            int position = offset + BITS_OFFSET + (index >>> 3);
+            region.putInt(offset + STATE_OFFSET, WRITING);
+            region.put(position, (byte) (region.get(position) | (1 << (index & 7))));
+            region.putLong(offset + VERSION_OFFSET, version);
+            region.putLong(offset + CHECKSUM_OFFSET, checksum(region, offset, length));
+            region.putInt(offset + STATE_OFFSET, VALID);
+        }
+    }
+
+    @Override
+    public void changed(String statusListId, long version) {
+        synchronized (slots) {
+            Slot slot = slots.get(statusListId);
+            if (slot == null) {
+                return;
+            }
+            long storedVersion = region(slot.number()).getLong(offset(slot.number()) + VERSION_OFFSET);
+            if (BitSetStore.includes(storedVersion, version)) {
+                return;
+            }
+            generations.changed(statusListId);
+            free(statusListId);
+        }
+        log.debug("Dropped stored status bits of status list {} changed to version {}", statusListId, version);
+    }
+
+    @Override
+    public void invalidate(String statusListId) {
+        synchronized (slots) {
+            generations.changed(statusListId);
+            free(statusListId);
+        }
+        log.debug("Invalidated stored status bits of status list {}", statusListId);
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (slots) {
+            generations.changedAll();
+            new ArrayList<>(slots.keySet()).forEach(this::free);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        synchronized (slots) {
+            for (MappedByteBuffer region : regions) {
+                region.force();
+            }
+            channel.close();
+        }
+    }
+
+    private int allocate() {
+        Integer number = freeSlots.poll();
+        if (number != null) {
+            return number;
+        }
+        Iterator<Slot> leastRecentlyUsed = slots.values().iterator();
+        int evicted = leastRecentlyUsed.next().number();
+        leastRecentlyUsed.remove();
+        return evicted;
+    }
+
+    private void free(String statusListId) {
+        Slot slot = slots.remove(statusListId);
+        if (slot != null) {
+            region(slot.number()).putInt(offset(slot.number()) + STATE_OFFSET, FREE);
+            freeSlots.add(slot.number());
+        }
+    }
+
+    private void write(int number, byte[] id, byte[] statusBits, long version) {
+        MappedByteBuffer region = region(number);
+        int offset = offset(number);
+        region.putInt(offset + STATE_OFFSET, WRITING);
+        region.putInt(offset + LENGTH_OFFSET, statusBits.length);
+        region.putLong(offset + VERSION_OFFSET, version);
+        region.putShort(offset + ID_LENGTH_OFFSET, (short) id.length);
+        region.put(offset + ID_OFFSET, id);
+        region.put(offset + BITS_OFFSET, statusBits);
+        region.putLong(offset + CHECKSUM_OFFSET, checksum(region, offset, statusBits.length));
+        region.putInt(offset + STATE_OFFSET, VALID);
+    }
+
+    private boolean checksumMatches(int number) {
+        MappedByteBuffer region = region(number);
+        int offset = offset(number);
+        int length = region.getInt(offset + LENGTH_OFFSET);
+        int idLength = region.getShort(offset + ID_LENGTH_OFFSET);
+        return length >= 0 && length <= MAX_STATUS_BITS_LENGTH && idLength > 0 && idLength <= MAX_ID_LENGTH
+                && region.getLong(offset + CHECKSUM_OFFSET) == checksum(region, offset, length);
+    }
+
+    /**
+     * Checksum over the length, version, id and bits of a slot.
+     */
+    private static long checksum(MappedByteBuffer region, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(region.slice(offset + LENGTH_OFFSET, CHECKSUM_OFFSET - LENGTH_OFFSET));
+        crc.update(region.slice(offset + ID_LENGTH_OFFSET, BITS_OFFSET - ID_LENGTH_OFFSET));
+        crc.update(region.slice(offset + BITS_OFFSET, length));
+        return crc.getValue();
+    }
+
+    private String readId(int number) {
+        MappedByteBuffer region = region(number);
+        int offset = offset(number);
+        byte[] id = new byte[region.getShort(offset + ID_LENGTH_OFFSET)];
+        region.get(offset + ID_OFFSET, id);
+        return new String(id, StandardCharsets.UTF_8);
+    }
+
+    private MappedByteBuffer region(int number) {
+        return regions[number / SLOTS_PER_REGION];
+    }
+
+    private static int offset(int number) {
+        return (number % SLOTS_PER_REGION) * SLOT_SIZE;
+    }
+
+    private record Slot(int number, long loadedAt) {
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.repository.RevocationEventRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Compacts the revocation event log: the pending revocations of a status list are folded into its
+ * status bits as one new version and the status list credential is signed and stored once, no matter
+ * how many revocations happened in between. Each run compacts up to batch size status lists, those
+ * with the oldest events first.
+ *
+ * <p>The lists are signed outside of any request of their issuers. The {@link HttpStatusListSigner}
+ * signs them with the token of the service, lists it cannot sign for stay marked as changed and are
+ * published by a later revocation request of their issuer, see {@link RevocationService#revoke}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "revocation.statusList.eventLog.enabled", havingValue = "true")
+public class RevocationEventCompactor {
+
+    public static final String PENDING_AGE_METRIC = "revocation.event_log.pending_age";
+
+    private final RevocationEventRepository revocationEventRepository;
+
+    private final RevocationService revocationService;
+
+    private final int batchSize;
+
+    private final AtomicReference<LocalDateTime> oldestPendingEvent = new AtomicReference<>();
+
+    public RevocationEventCompactor(RevocationEventRepository revocationEventRepository,
+                                    RevocationService revocationService,
+                                    StatusListSettings statusListSettings,
+                                    MeterRegistry meterRegistry) {
+        this.revocationEventRepository = revocationEventRepository;
+        this.revocationService = revocationService;
+        this.batchSize = statusListSettings.eventLog().batchSize();
+        Gauge.builder(PENDING_AGE_METRIC, this, RevocationEventCompactor::pendingAge)
+                .description("Age of the oldest revocation event not yet compacted into its status list")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Compacts and publishes the status lists with pending revocation events.
+     */
+    @Scheduled(fixedDelayString = "${revocation.statusList.eventLog.compactionInterval:PT10S}")
+    public void compact() {
+        try {
+            List<String> statusListIds = revocationEventRepository.findPendingStatusListIds(Limit.of(batchSize));
+            if (statusListIds.isEmpty()) {
+                return;
+            }
+            int compacted = 0;
+            for (String statusListId : statusListIds) {
+                try {
+                    if (revocationService.compactRevocationEvents(statusListId)) {
+                        compacted++;
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Could not compact status list {}", statusListId, e);
+                    continue;
+                }
+                try {
+                    revocationService.publishStatusList(statusListId, null);
+                } catch (RuntimeException e) {
+                    log.warn("Could not publish status list {}, it stays marked as changed", statusListId, e);
+                }
+            }
+            log.debug("Compacted {} of {} status lists with revocation events", compacted, statusListIds.size());
+        } finally {
+            oldestPendingEvent.set(revocationEventRepository.findOldestPendingEvent().orElse(null));
+        }
+    }
+
+    /**
+     * Seconds since the oldest revocation event that was still pending after the last run.
+     *
+     * @return the age in seconds, 0 if all events were compacted
+     */
+    public double pendingAge() {
+        LocalDateTime oldest = oldestPendingEvent.get();
+        if (oldest == null) {
+            return 0;
+        }
+        return Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000d);
+    }
+}
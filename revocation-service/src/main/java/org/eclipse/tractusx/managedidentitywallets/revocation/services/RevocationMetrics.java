@@ -0,0 +1,216 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.MetricsSettings;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Domain metrics of the revocation service, published through the actuator endpoints.
+ *
+ * <p>Metrics related to an issuer carry an {@code issuer} tag. It is "all" unless issuer tagging is
+ * enabled; then the first {@code maxIssuers} issuers seen are tagged with their BPN and all further
+ * ones as "other", which bounds the number of time series.
+ */
+@Component
+public class RevocationMetrics {
+
+    public static final String ALL_ISSUERS = "all";
+
+    public static final String OTHER_ISSUERS = "other";
+
+    public static final String ERROR = "error";
+
+    private static final String ISSUER = "issuer";
+
+    private final MeterRegistry meterRegistry;
+
+    private final MetricsSettings settings;
+
+    private final Set<String> taggedIssuers = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, AtomicLong> fillLevels = new ConcurrentHashMap<>();
+
+    public RevocationMetrics(MeterRegistry meterRegistry, MetricsSettings settings) {
+        this.meterRegistry = meterRegistry;
+        this.settings = settings;
+    }
+
+    public Timer.Sample startTimer() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Records the verification of a credential status.
+     *
+     * @param sample    the sample started before the verification
+     * @param issuerBpn the issuer BPN
+     * @param outcome   the credential status or {@link #ERROR}
+     */
+    public void recordVerification(Timer.Sample sample, String issuerBpn, String outcome) {
+        sample.stop(Timer.builder("revocation.verify")
+                .description("Verification of a credential status")
+                .tag(ISSUER, issuerTag(issuerBpn))
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Records the revocation of a credential, including the publication of the status list unless
+     * publishing is done write-behind.
+     *
+     * @param sample       the sample started before the revocation
+     * @param statusListId the status list id
+     * @param outcome      "revoked", "already_revoked" or {@link #ERROR}
+     */
+    public void recordRevocation(Timer.Sample sample, String statusListId, String outcome) {
+        sample.stop(Timer.builder("revocation.revoke")
+                .description("Revocation of a credential")
+                .tag(ISSUER, issuerTag(issuerOf(statusListId)))
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Records the reservation of a status list entry.
+     *
+     * @param sample    the sample started before the reservation
+     * @param issuerBpn the issuer BPN
+     * @param outcome   "created" or {@link #ERROR}
+     */
+    public void recordStatusEntryCreation(Timer.Sample sample, String issuerBpn, String outcome) {
+        sample.stop(Timer.builder("revocation.status_entry.create")
+                .description("Reservation of a status list entry, including the creation of a status list if needed")
+                .tag(ISSUER, issuerTag(issuerBpn))
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Records the signing of a status list credential.
+     *
+     * @param sample    the sample started before signing
+     * @param issuerBpn the issuer BPN
+     */
+    public void recordSigning(Timer.Sample sample, String issuerBpn) {
+        sample.stop(Timer.builder("revocation.status_list.sign")
+                .description("Signing of a status list credential")
+                .tag(ISSUER, issuerTag(issuerBpn))
+                .register(meterRegistry));
+    }
+
+    /**
+     * Records a statement locking a status list row, which includes waiting for concurrent writers.
+     *
+     * @param sample       the sample started before the statement
+     * @param statusListId the status list id
+     * @param statement    "select_for_update" or "update"
+     */
+    public void recordLock(Timer.Sample sample, String statusListId, String statement) {
+        sample.stop(Timer.builder("revocation.status_list.lock")
+                .description("Statements locking a status list, including the wait for concurrent writers")
+                .tag(ISSUER, issuerTag(issuerOf(statusListId)))
+                .tag("statement", statement)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Times encoding or decoding of a status list.
+     *
+     * @param operation "encode" or "decode"
+     * @param codec     the encoding or decoding
+     * @return the result of the codec
+     */
+    public <T> T timeCodec(String operation, Supplier<T> codec) {
+        return Timer.builder("revocation.status_list.codec")
+                .description("Encoding and decoding of status lists")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(codec);
+    }
+
+    /**
+     * Records indices reserved from a status list. The allocation rate is the rate of the counter,
+     * the fill level gauge reports the status list indices were last reserved from.
+     *
+     * @param statusListId the status list id
+     * @param count        the number of reserved indices
+     * @param nextIndex    the next free index of the status list after the reservation
+     * @param capacity     the capacity of the status list
+     */
+    public void recordAllocation(String statusListId, int count, int nextIndex, int capacity) {
+        String issuer = issuerTag(issuerOf(statusListId));
+        Counter.builder("revocation.status_list.allocated")
+                .description("Status list indices reserved")
+                .tag(ISSUER, issuer)
+                .register(meterRegistry)
+                .increment(count);
+        fillLevels.computeIfAbsent(issuer, tag -> {
+            AtomicLong fillLevel = new AtomicLong(Double.doubleToLongBits(0));
+            Gauge.builder("revocation.status_list.fill", fillLevel, value -> Double.longBitsToDouble(value.get()))
+                    .description("Fill level of the status list indices were last reserved from")
+                    .tag(ISSUER, tag)
+                    .register(meterRegistry);
+            return fillLevel;
+        }).set(Double.doubleToLongBits(capacity == 0 ? 1 : (double) nextIndex / capacity));
+    }
+
+    /**
+     * The issuer tag of an issuer BPN.
+     *
+     * @param issuerBpn the issuer BPN, may be null
+     * @return the tag value
+     */
+    String issuerTag(String issuerBpn) {
+        if (!settings.issuerTag()) {
+            return ALL_ISSUERS;
+        }
+        if (issuerBpn == null) {
+            return OTHER_ISSUERS;
+        }
+        if (taggedIssuers.contains(issuerBpn)) {
+            return issuerBpn;
+        }
+        synchronized (taggedIssuers) {
+            if (taggedIssuers.size() < settings.maxIssuers()) {
+                taggedIssuers.add(issuerBpn);
+                return issuerBpn;
+            }
+        }
+        return OTHER_ISSUERS;
+    }
+
+    private static String issuerOf(String statusListId) {
+        int end = statusListId.indexOf('-');
+        return end < 0 ? null : statusListId.substring(0, end);
+    }
+}
@@ -22,6 +22,7 @@
 package org.eclipse.tractusx.managedidentitywallets.revocation.services;
 
 
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -29,19 +30,37 @@ import org.eclipse.tractusx.managedidentitywallets.commons.constant.CredentialSt
 import org.eclipse.tractusx.managedidentitywallets.commons.constant.StringPool;
 import org.eclipse.tractusx.managedidentitywallets.commons.exception.BadDataException;
 import org.eclipse.tractusx.managedidentitywallets.revocation.config.MIWSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListAllocationSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListSettings;
 import org.eclipse.tractusx.managedidentitywallets.revocation.constant.RevocationApiEndpoints;
 import org.eclipse.tractusx.managedidentitywallets.revocation.domain.BPN;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.PublishedStatusListCredential;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.StatusListChangeLoggedEvent;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.StatusListChangedEvent;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.StatusListPublishedEvent;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.StatusListThresholdReachedEvent;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.StatusListVersion;
 import org.eclipse.tractusx.managedidentitywallets.revocation.dto.CredentialStatusDto;
+import org.eclipse.tractusx.managedidentitywallets.revocation.dto.RevocationResultDto;
 import org.eclipse.tractusx.managedidentitywallets.revocation.dto.StatusEntryDto;
+import org.eclipse.tractusx.managedidentitywallets.revocation.dto.StatusListChangesDto;
 import org.eclipse.tractusx.managedidentitywallets.revocation.dto.StatusListCredentialSubject;
+import org.eclipse.tractusx.managedidentitywallets.revocation.dto.VerificationResultDto;
 import org.eclipse.tractusx.managedidentitywallets.revocation.exception.BitSetManagerException;
+import org.eclipse.tractusx.managedidentitywallets.revocation.exception.CredentialAlreadyRevokedException;
 import org.eclipse.tractusx.managedidentitywallets.revocation.exception.RevocationServiceException;
+import org.eclipse.tractusx.managedidentitywallets.revocation.exception.StatusListChangesGoneException;
+import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.RevocationEvent;
+import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.StatusListChange;
 import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.StatusListCredential;
 import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.StatusListIndex;
+import org.eclipse.tractusx.managedidentitywallets.revocation.repository.RevocationEventRepository;
+import org.eclipse.tractusx.managedidentitywallets.revocation.repository.StatusListChangeRepository;
 import org.eclipse.tractusx.managedidentitywallets.revocation.repository.StatusListCredentialRepository;
 import org.eclipse.tractusx.managedidentitywallets.revocation.repository.StatusListIndexRepository;
 import org.eclipse.tractusx.managedidentitywallets.revocation.utils.BitSetManager;
 import org.eclipse.tractusx.managedidentitywallets.revocation.utils.CommonUtils;
+import org.eclipse.tractusx.managedidentitywallets.revocation.utils.StatusListCodec;
 import org.eclipse.tractusx.ssi.lib.did.resolver.DidResolver;
 import org.eclipse.tractusx.ssi.lib.did.web.DidWebResolver;
 import org.eclipse.tractusx.ssi.lib.did.web.util.DidWebParser;
@@ -57,18 +76,29 @@ import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCreden
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialSubject;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialType;
 import org.eclipse.tractusx.ssi.lib.proof.LinkedDataProofValidation;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -91,109 +121,653 @@ public class RevocationService {
 
     private final MIWSettings miwSettings;
 
+    private final BitSetStore bitSetStore;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final StatusListVersionCache statusListVersionCache;
+
+    private final StatusListAllocationSettings statusListAllocationSettings;
+
+    private final StatusListSettings statusListSettings;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final StatusListChangeRepository statusListChangeRepository;
+
+    private final RevocationEventRepository revocationEventRepository;
+
+    private final StatusListSigner statusListSigner;
+
+    private final RevocationMetrics revocationMetrics;
+
+    private final DidResolver didResolver = new DidWebResolver(HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.ALWAYS)
+            .build(), new DidWebParser(), true);
+
     /**
      * Verifies the status of a credential based on the provided CredentialStatusDto object.
+     * Status bits are kept in the {@link BitSetStore}, a hit neither touches the database nor decodes the list.
      *
      * @param statusDto The CredentialStatusDto object containing the necessary information for status verification.
      * @return A Map object with the key "status" and the value "revoked" or "active" indicating the status of the credential.
      * @throws BadDataException If the status list VC is not found for the issuer.
      */
-    @Transactional
-
     public Map<String, String> verifyStatus(CredentialStatusDto statusDto) {
 
         validateCredentialStatus(statusDto);
 
-        String url = statusDto.statusListCredential();
+        Timer.Sample sample = revocationMetrics.startTimer();
+        String outcome = RevocationMetrics.ERROR;
+        try {
+            outcome = getStatus(statusDto, new HashMap<>()).getName();
+            return Map.of(StringPool.STATUS, outcome);
+        } finally {
+            revocationMetrics.recordVerification(sample,
+                    CommonUtils.extractValuesFromURL(statusDto.statusListCredential())[0], outcome);
+        }
+    }
 
-        String[] values = CommonUtils.extractValuesFromURL(url);
-        VerifiableCredential statusListCredential = getStatusListCredential(values[0], values[1], values[2]);
+    /**
+     * Verifies the status of several credentials at once. Each referenced status list is loaded and
+     * decoded only once.
+     *
+     * @param statusDtos the credential statuses to verify
+     * @return the status per credential status, in the order of the request
+     * @throws BadDataException If a status list VC is not found for the issuer.
+     */
+    public List<VerificationResultDto> verifyStatuses(List<CredentialStatusDto> statusDtos) {
+        statusDtos.forEach(this::validateCredentialStatus);
+
+        Map<String, byte[]> loaded = new HashMap<>();
+        List<VerificationResultDto> results = new ArrayList<>(statusDtos.size());
+        for (CredentialStatusDto statusDto : statusDtos) {
+            results.add(new VerificationResultDto(statusDto.id(), getStatus(statusDto, loaded).getName()));
+        }
+        return results;
+    }
+
+    /**
+     * Reads the bit of a credential status from the bitset store. Status lists not in the store are
+     * loaded, stored and kept in loaded, so that each is loaded only once per request.
+     */
+    private CredentialStatus getStatus(CredentialStatusDto statusDto, Map<String, byte[]> loaded) {
+        String[] values = CommonUtils.extractValuesFromURL(statusDto.statusListCredential());
+        String statusListId = values[0] + "-" + values[1] + "#" + values[2];
+        int index = Integer.parseInt(statusDto.statusListIndex());
+        int bit = bitSetStore.getBit(statusListId, index);
+        if (bit == BitSetStore.NOT_STORED) {
+            byte[] statusBits = loaded.computeIfAbsent(statusListId, id -> loadStatusBits(id, values[0]));
+            bit = index >>> 3 < statusBits.length ? (statusBits[index >>> 3] >>> (index & 7)) & 1 : 0;
+        }
+        return bit == 1 ? CredentialStatus.REVOKED : CredentialStatus.ACTIVE;
+    }
+
+    private byte[] loadStatusBits(String statusListId, String issuerBpn) {
+        long generation = bitSetStore.generation();
+        // pending events are read before the status list, events compacted in between are part of its bits then
+        List<Integer> pendingIndices = statusListSettings.eventLog().enabled()
+                ? revocationEventRepository.findPendingIndices(statusListId)
+                : List.of();
+        StatusListCredential statusListCredential = statusListCredentialRepository
+                .findById(statusListId)
+                .orElse(null);
         if (Objects.isNull(statusListCredential)) {
             log.error("Status list VC not found for issuer -> {}",
-                    values[0]);
-            throw new BadDataException("Status list VC not found for issuer -> " + values[0]);
+                    issuerBpn);
+            throw new BadDataException("Status list VC not found for issuer -> " + issuerBpn);
         }
+        byte[] statusBits = statusListCredential.getStatusBits();
+        if (statusBits == null) {
+            VerifiableCredential statusListVC = statusListCredential.getCredential();
 
-        //validate status list VC
-        validateStatusListVC(statusListCredential);
-
-        String encodedList = statusListCredential.getCredentialSubject().get(0).get(ENCODED_LIST).toString();
+            //validate status list VC, unless it has been verified when it was stored
+            if (!isVerifiedAtWrite(statusListCredential)) {
+                validateStatusListVC(statusListVC);
+            }
 
-        BitSet bitSet = BitSetManager.decompress(BitSetManager.decodeFromString(encodedList));
-        int index = Integer.parseInt(statusDto.statusListIndex());
-        boolean status = bitSet.get(index);
-        return Map.of(StringPool.STATUS, status ? CredentialStatus.REVOKED.getName() : CredentialStatus.ACTIVE.getName());
+            String encodedList = statusListVC.getCredentialSubject().get(0).get(ENCODED_LIST).toString();
+            statusBits = BitSetManager.toStatusBits(
+                    revocationMetrics.timeCodec("decode", () -> StatusListCodec.decode(encodedList)));
+        }
+        long version = statusListCredential.getStatusBitsVersion();
+        if (!pendingIndices.isEmpty()) {
+            statusBits = statusBits.clone();
+            for (int index : pendingIndices) {
+                statusBits[index >>> 3] |= (byte) (1 << (index & 7));
+            }
+            version = BitSetStore.PENDING_VERSION;
+        }
+        bitSetStore.putStatusBits(statusListId, statusBits, version, generation);
+        return statusBits;
     }
 
 
     private void validateStatusListVC(VerifiableCredential statusListCredential) {
-        HttpClient httpClient = HttpClient.newBuilder()
-                .followRedirects(HttpClient.Redirect.ALWAYS)
-                .build();
-        DidResolver didResolver = new DidWebResolver(httpClient, new DidWebParser(), true);
+        if (!isProofValid(statusListCredential)) {
+            throw new BadDataException("Status list credential is not valid");
+        }
+    }
+
+    private boolean isProofValid(VerifiableCredential statusListCredential) {
         LinkedDataProofValidation proofValidation = LinkedDataProofValidation.newInstance(didResolver);
-        boolean valid = false;
         try {
-            valid = proofValidation.verify(statusListCredential);
+            return proofValidation.verify(statusListCredential);
         } catch (UnsupportedSignatureTypeException | SignatureParseException | DidParseException |
                  InvalidPublicKeyFormatException | SignatureVerificationFailedException |
                  NoVerificationKeyFoundException | TransformJsonLdException e) {
             log.error("Verification failed with error -> {}", e.getMessage(), e);
+            return false;
         }
-        if (!valid) {
-            throw new BadDataException("Status list credential is not valid");
+    }
+
+    private boolean isVerifiedAtWrite(StatusListCredential statusListCredential) {
+        String credentialDigest = statusListCredential.getCredentialDigest();
+        return statusListSettings.trustedStore()
+                && credentialDigest != null
+                && credentialDigest.equals(CommonUtils.sha256(statusListCredential.getCredential().toJson()));
+    }
+
+    /**
+     * Verifies the proof of a freshly signed status list credential in trusted store mode.
+     *
+     * @param signedStatusListVC the signed status list credential
+     * @return the digest to store along with the credential or null if the proof was not verified
+     */
+    private String verifiedDigest(VerifiableCredential signedStatusListVC) {
+        if (!statusListSettings.trustedStore()) {
+            return null;
+        }
+        if (!isProofValid(signedStatusListVC)) {
+            log.warn("Proof of signed status list credential {} could not be verified", signedStatusListVC.getId());
+            return null;
         }
+        return CommonUtils.sha256(signedStatusListVC.toJson());
     }
 
     /**
-     * The `revoke` function revokes a credential by updating the status list credential with a new
-     * subject and saving it to the repository.
+     * The `revoke` function revokes a credential by setting its bit in the binary bitset of the status
+     * list with a single update statement, then publishes the status list credential unless publishing
+     * is done write-behind. Signing happens after the update committed, no lock is held
+     * meanwhile; if it fails the revocation stands and the status list stays marked as changed. In event
+     * log mode the revocation is only appended to the revocation event log. Either way, a status list
+     * whose changes have waited longer than the republish delay is published with the token of the
+     * request.
      *
      * @param dto   The `dto` parameter is an instance of the `CredentialStatusDto` class.
      * @param token the token
      * @throws RevocationServiceException the revocation service exception
      */
-    @Transactional
     public void revoke(CredentialStatusDto dto, String token) throws RevocationServiceException {
-        StatusListCredential statusListCredential;
-        StatusListCredentialSubject newSubject;
-        VerifiableCredential statusListVC;
-        VerifiableCredential signedStatusListVC;
-        String encodedList;
-        VerifiableCredentialSubject subjectCredential;
-
         validateCredentialStatus(dto);
 
-        statusListCredential =
-                statusListCredentialRepository
-                        .findById(extractIdFromURL(dto.statusListCredential()))
+        String statusListId = extractIdFromURL(dto.statusListCredential());
+        int index = Integer.parseInt(dto.statusListIndex());
+        Timer.Sample sample = revocationMetrics.startTimer();
+        String outcome = RevocationMetrics.ERROR;
+        try {
+            boolean[] appended = new boolean[1];
+            long[] version = { BitSetStore.PENDING_VERSION };
+            RevocationServiceException failure = transactionTemplate.execute(status -> {
+                try {
+                    if (statusListSettings.eventLog().enabled()) {
+                        appended[0] = appendRevocationEvent(statusListId, index);
+                    }
+                    if (!appended[0]) {
+                        version[0] = setStatusBit(statusListId, index);
+                    }
+                    return null;
+                } catch (RevocationServiceException e) {
+                    // nothing has been written
+                    return e;
+                }
+            });
+            if (failure != null) {
+                throw failure;
+            }
+            setStoredBits(statusListId, List.of(index), version[0]);
+            log.info("Revoked credential with id:{} , index->{}", dto.id(), dto.statusListIndex());
+            if (!appended[0]) {
+                applicationEventPublisher.publishEvent(new StatusListChangedEvent(statusListId));
+                if (!statusListSettings.writeBehind().enabled() || isPublishOverdue(statusListId)) {
+                    publishRevocations(statusListId, token);
+                }
+            } else if (isPublishOverdue(statusListId)) {
+                // compacted revocations the background signer could not publish for this issuer
+                publishRevocations(statusListId, token);
+            }
+            outcome = "revoked";
+        } catch (CredentialAlreadyRevokedException e) {
+            outcome = "already_revoked";
+            throw e;
+        } finally {
+            revocationMetrics.recordRevocation(sample, statusListId, outcome);
+        }
+    }
+
+    /**
+     * Appends a revocation to the event log.
+     *
+     * @return true if the revocation has been appended, false if the status list has no binary bitset
+     * yet and the bit has to be set in the status list instead
+     */
+    private boolean appendRevocationEvent(String statusListId, int index) throws RevocationServiceException {
+        if (revocationEventRepository.append(statusListId, index, LocalDateTime.now()) == 1) {
+            return true;
+        }
+        // nothing appended: the list does not exist, has no binary bitset yet, is too small or the bit is already set
+        StatusListCredential statusListCredential = statusListCredentialRepository.findById(statusListId)
+                .orElseThrow(() -> new RevocationServiceException("Status list credential not found"));
+        if (statusListCredential.getStatusBits() == null) {
+            return false;
+        }
+        if (index >= getCapacity(statusListCredential)) {
+            throw new RevocationServiceException("Status list index out of range");
+        }
+        throw new CredentialAlreadyRevokedException("Credential already revoked");
+    }
+
+    /**
+     * Sets the bit of a revocation in the status bits.
+     *
+     * @return the status bits version of the revocation
+     */
+    private long setStatusBit(String statusListId, int index) throws RevocationServiceException {
+        LocalDateTime changedAt = LocalDateTime.now();
+        Timer.Sample sample = revocationMetrics.startTimer();
+        int updated = statusListCredentialRepository.setStatusBit(statusListId, index, changedAt);
+        revocationMetrics.recordLock(sample, statusListId, "update");
+        if (updated == 1) {
+            statusListChangeRepository.recordChange(statusListId, index, changedAt);
+            // the row is locked by the update, this is the version it produced
+            return statusListCredentialRepository.findStatusBitsVersionById(statusListId).orElseThrow();
+        }
+        // nothing updated: the list does not exist, has no binary bitset yet, is too small or the bit is already set
+        StatusListCredential statusListCredential =
+                lockStatusList(statusListId)
                         .orElseThrow(() -> new RevocationServiceException("Status list credential not found"));
-        statusListVC = statusListCredential.getCredential();
-        subjectCredential = statusListVC.getCredentialSubject().get(0);
-        encodedList = (String) subjectCredential.get(StatusListCredentialSubject.SUBJECT_ENCODED_LIST);
-        String newEncodedList;
+        BitSet bitSet;
         try {
-            newEncodedList =
-                    BitSetManager.revokeCredential(encodedList, Integer.parseInt(dto.statusListIndex()));
+            bitSet = getStatusBits(statusListCredential);
         } catch (BitSetManagerException e) {
             log.error(null, e);
             throw new RevocationServiceException(e);
         }
-        newSubject =
+        if (index >= getCapacity(statusListCredential)) {
+            throw new RevocationServiceException("Status list index out of range");
+        }
+        if (bitSet.get(index)) {
+            throw new CredentialAlreadyRevokedException("Credential already revoked");
+        }
+        bitSet.set(index);
+        return updateStatusBits(statusListCredential, bitSet, List.of(index));
+    }
+
+    /**
+     * Revokes several credentials at once. The entries are grouped by status list, every affected
+     * status list is locked and updated once, no matter how many of its entries are revoked. Unless
+     * publishing is done write-behind, the changed status lists are published once each after the
+     * update committed.
+     *
+     * @param dtos  the credential statuses to revoke
+     * @param token the token
+     * @return the outcome per credential status, in the order of the request
+     */
+    public List<RevocationResultDto> revokeBatch(List<CredentialStatusDto> dtos, String token) {
+        dtos.forEach(this::validateCredentialStatus);
+
+        // lock the status lists in a stable order, concurrent batches cannot deadlock
+        Map<String, List<Integer>> positionsByStatusList = new TreeMap<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            positionsByStatusList
+                    .computeIfAbsent(extractIdFromURL(dtos.get(i).statusListCredential()), id -> new ArrayList<>())
+                    .add(i);
+        }
+
+        RevocationResultDto.Status[] results = new RevocationResultDto.Status[dtos.size()];
+        List<ChangedStatusList> changedStatusLists = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> positionsByStatusList.forEach((statusListId, positions) -> {
+            StatusListCredential statusListCredential = lockStatusList(statusListId).orElse(null);
+            if (statusListCredential == null) {
+                positions.forEach(i -> results[i] = RevocationResultDto.Status.NOT_FOUND);
+                return;
+            }
+            BitSet bitSet = getStatusBits(statusListCredential);
+            int capacity = getCapacity(statusListCredential);
+            // pending events are folded in, so that their entries are reported as already revoked
+            List<Integer> revoked = statusListSettings.eventLog().enabled()
+                    ? foldRevocationEvents(statusListId, bitSet)
+                    : new ArrayList<>();
+            for (int i : positions) {
+                int index = Integer.parseInt(dtos.get(i).statusListIndex());
+                if (index >= capacity) {
+                    results[i] = RevocationResultDto.Status.NOT_FOUND;
+                } else if (bitSet.get(index)) {
+                    results[i] = RevocationResultDto.Status.ALREADY_REVOKED;
+                } else {
+                    bitSet.set(index);
+                    results[i] = RevocationResultDto.Status.REVOKED;
+                    revoked.add(index);
+                }
+            }
+            if (revoked.isEmpty()) {
+                return;
+            }
+            long version = updateStatusBits(statusListCredential, bitSet, revoked);
+            log.info("Revoked {} credentials in status list {}", revoked.size(), statusListId);
+            changedStatusLists.add(new ChangedStatusList(statusListId, revoked, version));
+        }));
+
+        changedStatusLists.forEach(changed -> {
+            setStoredBits(changed.statusListId(), changed.indices(), changed.version());
+            applicationEventPublisher.publishEvent(new StatusListChangedEvent(changed.statusListId()));
+            if (!statusListSettings.writeBehind().enabled() || isPublishOverdue(changed.statusListId())) {
+                publishRevocations(changed.statusListId(), token);
+            }
+        });
+
+        List<RevocationResultDto> response = new ArrayList<>(dtos.size());
+        for (int i = 0; i < dtos.size(); i++) {
+            response.add(new RevocationResultDto(dtos.get(i).id(), results[i]));
+        }
+        return response;
+    }
+
+    /**
+     * Folds the pending revocation events of a status list into its status bits as one new version, like
+     * a batch revocation. The status list credential is published by the caller.
+     *
+     * @param statusListId the status list id
+     * @return true if the status bits changed
+     */
+    public boolean compactRevocationEvents(String statusListId) {
+        Boolean changed = transactionTemplate.execute(status -> {
+            StatusListCredential statusListCredential = lockStatusList(statusListId).orElse(null);
+            if (statusListCredential == null) {
+                return false;
+            }
+            BitSet bitSet = getStatusBits(statusListCredential);
+            List<Integer> folded = foldRevocationEvents(statusListId, bitSet);
+            if (folded.isEmpty()) {
+                return false;
+            }
+            updateStatusBits(statusListCredential, bitSet, folded);
+            log.debug("Compacted {} revocation events into status list {}", folded.size(), statusListId);
+            return true;
+        });
+        if (!Boolean.TRUE.equals(changed)) {
+            return false;
+        }
+        invalidateCachedBitSet(statusListId);
+        applicationEventPublisher.publishEvent(new StatusListChangedEvent(statusListId));
+        return true;
+    }
+
+    /**
+     * Sets the bits of the pending revocation events of a locked status list and deletes the events.
+     *
+     * @return the indices of the bits that have been set
+     */
+    private List<Integer> foldRevocationEvents(String statusListId, BitSet bitSet) {
+        List<RevocationEvent> events = revocationEventRepository.findByStatusListId(statusListId);
+        List<Integer> folded = new ArrayList<>();
+        for (RevocationEvent event : events) {
+            if (!bitSet.get(event.getStatusIndex())) {
+                bitSet.set(event.getStatusIndex());
+                folded.add(event.getStatusIndex());
+            }
+        }
+        if (!events.isEmpty()) {
+            revocationEventRepository.deleteAllInBatch(events);
+        }
+        return folded;
+    }
+
+    /**
+     * Locks the row of a status list for the surrounding transaction.
+     */
+    private Optional<StatusListCredential> lockStatusList(String statusListId) {
+        Timer.Sample sample = revocationMetrics.startTimer();
+        try {
+            return statusListCredentialRepository.findForUpdateById(statusListId);
+        } finally {
+            revocationMetrics.recordLock(sample, statusListId, "select_for_update");
+        }
+    }
+
+    /**
+     * Returns a modifiable copy of the bits of a status list. Status lists without a binary bitset
+     * yet are decoded from their credential.
+     */
+    private BitSet getStatusBits(StatusListCredential statusListCredential) {
+        if (statusListCredential.getStatusBits() != null) {
+            return BitSet.valueOf(statusListCredential.getStatusBits());
+        }
+        VerifiableCredentialSubject subjectCredential =
+                statusListCredential.getCredential().getCredentialSubject().get(0);
+        String encodedList = (String) subjectCredential.get(StatusListCredentialSubject.SUBJECT_ENCODED_LIST);
+        return revocationMetrics.timeCodec("decode", () -> StatusListCodec.decode(encodedList));
+    }
+
+    /**
+     * The number of entries of a status list, given by the length of its binary bitset. Status lists
+     * without a binary bitset yet have the default size.
+     */
+    private static int getCapacity(StatusListCredential statusListCredential) {
+        byte[] statusBits = statusListCredential.getStatusBits();
+        return statusBits == null ? BitSetManager.BITSET_SIZE : statusBits.length * Byte.SIZE;
+    }
+
+    /**
+     * Stores the changed bits of a locked status list as a new version and records the set indices in
+     * the change log of the status list.
+     */
+    private long updateStatusBits(StatusListCredential statusListCredential, BitSet bitSet, List<Integer> indices) {
+        LocalDateTime changedAt = LocalDateTime.now();
+        long version = statusListCredential.getStatusBitsVersion() + 1;
+        statusListCredential.setStatusBits(BitSetManager.toStatusBits(bitSet, getCapacity(statusListCredential)));
+        statusListCredential.setStatusBitsVersion(version);
+        if (statusListCredential.getDirtySince() == null) {
+            statusListCredential.setDirtySince(changedAt);
+        }
+        statusListCredentialRepository.saveAndFlush(statusListCredential);
+        statusListChangeRepository.saveAll(indices.stream()
+                .map(index -> StatusListChange.builder()
+                        .statusListId(statusListCredential.getId())
+                        .statusBitsVersion(version)
+                        .statusIndex(index)
+                        .changedAt(changedAt)
+                        .build())
+                .toList());
+        return version;
+    }
+
+    /**
+     * Whether the changes of a status list have been waiting for publishing longer than the republish
+     * delay, e.g. because the background signer cannot sign for its issuer.
+     */
+    private boolean isPublishOverdue(String statusListId) {
+        LocalDateTime overdue = LocalDateTime.now().minus(statusListSettings.republishDelay());
+        return statusListCredentialRepository.findDirtySinceById(statusListId)
+                .map(dirtySince -> dirtySince.isBefore(overdue))
+                .orElse(false);
+    }
+
+    /**
+     * Publishes a status list after its revocations committed. Publishing is best-effort: the revocations
+     * are persisted and the status list stays marked as changed, it is published with the next revocation,
+     * by the {@link StatusListPublisher} once the republish delay passed or, if the signer does not need a
+     * token of the issuer, when it is read.
+     */
+    private void publishRevocations(String statusListId, String token) {
+        try {
+            publishStatusList(statusListId, token);
+        } catch (RuntimeException e) {
+            log.warn("Could not publish status list {} after revocation, it stays marked as changed", statusListId, e);
+        }
+    }
+
+    /**
+     * Builds the status list credential from the binary bitset, signs it and stores it, unless the
+     * stored credential already reflects the current bits. The status list is only locked to store the
+     * signed credential, not during the signing call; a credential built from older bits than the
+     * stored one is discarded.
+     *
+     * @param statusListId the status list id
+     * @param token        the token used to sign the credential
+     * @return the latest signed status list credential or null if the status list does not exist
+     */
+    public PublishedStatusListCredential publishStatusList(String statusListId, String token) {
+        StatusListCredential statusListCredential =
+                statusListCredentialRepository.findById(statusListId).orElse(null);
+        if (statusListCredential == null) {
+            return null;
+        }
+        if (!isStale(statusListCredential)) {
+            return published(statusListCredential);
+        }
+        long version = statusListCredential.getStatusBitsVersion();
+        String encodedList = revocationMetrics.timeCodec("encode",
+                () -> StatusListCodec.encode(statusListCredential.getStatusBits()));
+        VerifiableCredential signedStatusListVC =
+                signEncodedList(statusListCredential.getCredential(), encodedList, token);
+        String credentialDigest = verifiedDigest(signedStatusListVC);
+        return transactionTemplate.execute(status -> {
+            StatusListCredential current = lockStatusList(statusListId).orElseThrow();
+            if (current.getSignedVersion() >= version) {
+                // published concurrently from the same or newer bits
+                return published(current);
+            }
+            current.setCredential(signedStatusListVC);
+            current.setCredentialDigest(credentialDigest);
+            current.setSignedVersion(version);
+            current.setPublishedAt(LocalDateTime.now());
+            if (current.getStatusBitsVersion() == version) {
+                current.setDirtySince(null);
+            }
+            statusListCredentialRepository.saveAndFlush(current);
+            log.debug("Published status list {} at version {}", statusListId, version);
+            PublishedStatusListCredential published = published(current);
+            applicationEventPublisher.publishEvent(new StatusListPublishedEvent(statusListId, published));
+            return published;
+        });
+    }
+
+    /**
+     * Returns the stored credential of a status list with its version, which is remembered for
+     * conditional requests.
+     */
+    private PublishedStatusListCredential published(StatusListCredential statusListCredential) {
+        StatusListVersion version = versionOf(statusListCredential);
+        statusListVersionCache.put(statusListCredential.getId(), version);
+        return new PublishedStatusListCredential(statusListCredential.getCredential(), version);
+    }
+
+    /**
+     * The version of the stored credential of a status list.
+     *
+     * @param statusListCredential the status list
+     * @return the version
+     */
+    public static StatusListVersion versionOf(StatusListCredential statusListCredential) {
+        LocalDateTime publishedAt = statusListCredential.getPublishedAt() != null
+                ? statusListCredential.getPublishedAt()
+                : statusListCredential.getUpdatedAt();
+        return new StatusListVersion(
+                statusListCredential.getSignedVersion(),
+                publishedAt.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    /**
+     * Announces a created status list, the listeners are called once it committed.
+     */
+    private void announceCreated(StatusListIndex statusListIndex) {
+        StatusListCredential statusListCredential = statusListIndex.getStatusListCredential();
+        applicationEventPublisher.publishEvent(new StatusListPublishedEvent(statusListIndex.getId(),
+                new PublishedStatusListCredential(statusListCredential.getCredential(), versionOf(statusListCredential))));
+    }
+
+    private static boolean isStale(StatusListCredential statusListCredential) {
+        return statusListCredential.getStatusBits() != null
+                && statusListCredential.getSignedVersion() < statusListCredential.getStatusBitsVersion();
+    }
+
+    /**
+     * Signs a copy of a status list credential with a new encoded list, the given credential is not changed.
+     *
+     * @param statusListVC the status list credential
+     * @param encodedList  the new encoded list
+     * @param token        the token
+     * @return the signed status list credential
+     */
+    private VerifiableCredential signEncodedList(VerifiableCredential statusListVC, String encodedList, String token) {
+        VerifiableCredentialSubject subjectCredential = statusListVC.getCredentialSubject().get(0);
+        StatusListCredentialSubject newSubject =
                 StatusListCredentialSubject.builder()
                         .id((String) subjectCredential.get(StatusListCredentialSubject.SUBJECT_ID))
                         .type(StatusListCredentialSubject.TYPE_CREDENTIAL)
                         .statusPurpose(
                                 (String) subjectCredential.get(StatusListCredentialSubject.SUBJECT_STATUS_PURPOSE))
-                        .encodedList(newEncodedList)
+                        .encodedList(encodedList)
                         .build();
-        statusListVC.remove("proof");
+        Map<String, Object> unsigned = new LinkedHashMap<>(statusListVC);
+        unsigned.remove("proof");
         // #TODO credentialSubject should not be a list fix that in SSI LIB
-        statusListVC.put("credentialSubject", List.of(createCredentialSubject(newSubject)));
-        signedStatusListVC = httpClientService.signStatusListVC(statusListVC, token);
-        statusListCredential.setCredential(signedStatusListVC);
-        log.info("Revoked credential with id:{} , index->{}", dto.id(), dto.statusListIndex());
-        statusListCredentialRepository.saveAndFlush(statusListCredential);
+        unsigned.put("credentialSubject", List.of(createCredentialSubject(newSubject)));
+        return sign(new VerifiableCredential(unsigned), token);
+    }
+
+    private VerifiableCredential sign(VerifiableCredential statusListVC, String token) {
+        Timer.Sample sample = revocationMetrics.startTimer();
+        try {
+            return statusListSigner.sign(statusListVC, token);
+        } finally {
+            revocationMetrics.recordSigning(sample, extractBpnFromDid(statusListVC.getIssuer().toString()));
+        }
+    }
+
+    /**
+     * Sets the bits of committed revocations in the stored status bits of a status list, so that
+     * verifications keep reading it from the store instead of loading the whole list again.
+     *
+     * @param statusListId the status list id
+     * @param indices      the revoked indices
+     * @param version      the status bits version of the revocations
+     */
+    private void setStoredBits(String statusListId, List<Integer> indices, long version) {
+        indices.forEach(index -> bitSetStore.setBit(statusListId, index, version));
+        statusListVersionCache.invalidate(statusListId);
+    }
+
+    /**
+     * Drops the stored status bits of a status list changed by another instance, read from the change
+     * log by the {@link StatusListEventBroadcaster}.
+     *
+     * @param event the change
+     */
+    @EventListener
+    public void onStatusListChangeLogged(StatusListChangeLoggedEvent event) {
+        bitSetStore.changed(event.statusListId(), event.version());
+    }
+
+    /**
+     * Drops the stored status bits of a status list now and once more after the surrounding transaction
+     * committed, so that a verification loading the list in between cannot cache the old state.
+     *
+     * @param statusListId the status list id
+     */
+    private void invalidateCachedBitSet(String statusListId) {
+        bitSetStore.invalidate(statusListId);
+        statusListVersionCache.invalidate(statusListId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bitSetStore.invalidate(statusListId);
+                    statusListVersionCache.invalidate(statusListId);
+                }
+            });
+        }
     }
 
     /**
@@ -204,68 +778,281 @@ public class RevocationService {
      * @param token the token
      * @return The method is returning a CredentialStatusDto object.
      */
-    @Transactional
     public CredentialStatusDto createStatusList(StatusEntryDto dto, String token) {
-        StatusListIndex statusListIndex;
-        String vcUrl;
-        List<StatusListIndex> statusListIndexs;
-        String bpn;
+        Timer.Sample sample = revocationMetrics.startTimer();
+        String outcome = RevocationMetrics.ERROR;
+        try {
+            CredentialStatusDto credentialStatus = allocateIndices(dto, 1, token).get(0);
+            outcome = "created";
+            return credentialStatus;
+        } finally {
+            revocationMetrics.recordStatusEntryCreation(sample, extractBpnFromDid(dto.issuerId()), outcome);
+        }
+    }
 
-        bpn = extractBpnFromDid(dto.issuerId());
-        statusListIndexs =
-                statusListIndexRepository.findByIssuerBpnStatus(bpn + "-" + dto.purpose().toLowerCase());
-        statusListIndex =
-                statusListIndexs.stream()
-                        .filter(li -> Integer.parseInt(li.getCurrentIndex()) + 1 < BitSetManager.BITSET_SIZE)
-                        .findFirst()
-                        .orElseGet(
-                                () ->
-                                        createStatusListIndex(
-                                                dto,
-                                                statusListIndexs.size() + 1,
-                                                createStatusListCredential(dto, statusListIndexs.size() + 1, token)));
-        if (statusListIndex.getCurrentIndex().equals("-1")) {
-            statusListIndex.setCurrentIndex("0");
-            statusListIndexRepository.save(statusListIndex);
-            log.info("Created new status list for issuer: " + bpn);
+    /**
+     * Reserves a block of status list indices. The indices are contiguous within a status list; when
+     * a status list runs full the remaining indices are taken from the next one, which is created if
+     * needed.
+     *
+     * @param dto   the status entry
+     * @param count the number of indices to reserve
+     * @param token the token
+     * @return one CredentialStatusDto per reserved index, in ascending order per status list
+     */
+    public List<CredentialStatusDto> createStatusLists(StatusEntryDto dto, int count, String token) {
+        List<CredentialStatusDto> credentialStatuses = allocateIndices(dto, count, token);
+        log.info("Reserved {} status list indices for issuer: {}", count, extractBpnFromDid(dto.issuerId()));
+        return credentialStatuses;
+    }
+
+    /**
+     * Allocates indices from the status lists of an issuer. Every reservation is an atomic increment
+     * of the counter of one status list in a short transaction of its own, so concurrent callers only
+     * contend on a single row for the duration of that increment. Callers start at a random open
+     * status list, which spreads them when an issuer has several open lists. A new status list is
+     * created only when no list has room left; when two callers create the same list concurrently,
+     * the loser retries with the list created by the winner. Usually the {@link StatusListProvisioner}
+     * has created the next list before, once the current one crossed the provisioning threshold.
+     */
+    private List<CredentialStatusDto> allocateIndices(StatusEntryDto dto, int count, String token) {
+        String bpn = extractBpnFromDid(dto.issuerId());
+        String issuerBpnStatus = bpn + "-" + dto.purpose().toLowerCase();
+        List<CredentialStatusDto> credentialStatuses = new ArrayList<>(count);
+        int remaining = count;
+        while (remaining > 0) {
+            List<StatusListIndex> statusListIndexs = statusListIndexRepository.findByIssuerBpnStatus(issuerBpnStatus);
+            List<StatusListIndex> openStatusListIndexs = statusListIndexs.stream()
+                    .filter(li -> li.getNextIndex() < li.getCapacity())
+                    .toList();
+            if (openStatusListIndexs.isEmpty()) {
+                remaining -= openStatusList(dto, statusListIndexs.size() + 1, remaining, credentialStatuses, token);
+                continue;
+            }
+            int offset = ThreadLocalRandom.current().nextInt(openStatusListIndexs.size());
+            for (int i = 0; i < openStatusListIndexs.size() && remaining > 0; i++) {
+                StatusListIndex statusListIndex = openStatusListIndexs.get((offset + i) % openStatusListIndexs.size());
+                remaining -= reserveIndices(statusListIndex, dto, remaining, credentialStatuses, token);
+            }
+        }
+        return credentialStatuses;
+    }
+
+    private int reserveIndices(StatusListIndex statusListIndex, StatusEntryDto dto, int requested,
+                               List<CredentialStatusDto> credentialStatuses, String token) {
+        int reserved = Math.min(requested, statusListIndex.getCapacity() - statusListIndex.getNextIndex());
+        if (reserved <= 0) {
+            return 0;
+        }
+        Integer nextIndex = transactionTemplate.execute(status ->
+                statusListIndexRepository.reserveIndices(statusListIndex.getId(), reserved, statusListIndex.getCapacity()) == 0
+                        ? null
+                        : statusListIndexRepository.findNextIndexById(statusListIndex.getId()));
+        if (nextIndex == null) {
+            // concurrent callers took indices since the counter has been read, retry with fresh counters
+            return 0;
+        }
+        revocationMetrics.recordAllocation(statusListIndex.getId(), reserved, nextIndex, statusListIndex.getCapacity());
+        addCredentialStatuses(credentialStatuses, extractBpnFromDid(dto.issuerId()), dto.purpose(),
+                statusListIndex.getId().split("#")[1], nextIndex - reserved, reserved);
+        onIndicesReserved(dto, statusListIndex, nextIndex - reserved, nextIndex, token);
+        return reserved;
+    }
+
+    private int openStatusList(StatusEntryDto dto, int size, int requested,
+                               List<CredentialStatusDto> credentialStatuses, String token) {
+        String bpn = extractBpnFromDid(dto.issuerId());
+        StatusListAllocationSettings.Allocation allocation =
+                statusListAllocationSettings.resolve(bpn, dto.purpose().toLowerCase());
+        int reserved = Math.min(requested, allocation.size());
+        StatusListIndex statusListIndex = createStatusListIndex(dto, size,
+                createStatusListCredential(dto, size, allocation.size(), token), allocation.size(), reserved);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                statusListIndexRepository.saveAndFlush(statusListIndex);
+                announceCreated(statusListIndex);
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Status list {} has been created concurrently", statusListIndex.getId());
+            return 0;
+        }
+        log.info("Created new status list for issuer: " + bpn);
+        revocationMetrics.recordAllocation(statusListIndex.getId(), reserved, reserved, allocation.size());
+        addCredentialStatuses(credentialStatuses, bpn, dto.purpose(), String.valueOf(size), 0, reserved);
+        if (allocation.shards() > 1) {
+            // the other shards are opened in the background
+            applicationEventPublisher.publishEvent(
+                    new StatusListThresholdReachedEvent(dto, statusListIndex.getId(), token));
         } else {
-            statusListIndex.setCurrentIndex(
-                    String.valueOf(Integer.parseInt(statusListIndex.getCurrentIndex()) + 1));
-            statusListIndexRepository.save(statusListIndex);
-            log.info("Updated status list for issuer: " + bpn);
+            onIndicesReserved(dto, statusListIndex, 0, reserved, token);
         }
-        vcUrl =
-                httpClientService.domainUrl
-                        + RevocationApiEndpoints.REVOCATION_API
-                        + RevocationApiEndpoints.CREDENTIALS_STATUS_INDEX
-                        .replace("{issuerBPN}", bpn)
-                        .replace("{status}", dto.purpose().toLowerCase())
-                        .replace("{index}", String.valueOf(statusListIndex.getId().split("#")[1]));
-        return new CredentialStatusDto(
-                vcUrl + "#" + statusListIndex.getCurrentIndex(),
-                dto.purpose(),
-                statusListIndex.getCurrentIndex(),
-                vcUrl,
-                StatusListCredentialSubject.TYPE_ENTRY);
+        return reserved;
+    }
+
+    /**
+     * Announces a reservation that filled a status list past the provisioning threshold. Only the
+     * reservation crossing the threshold does, so each status list is announced once.
+     */
+    private void onIndicesReserved(StatusEntryDto dto, StatusListIndex statusListIndex, int from, int to,
+                                   String token) {
+        int threshold = provisioningThreshold(statusListIndex);
+        if (from < threshold && to >= threshold) {
+            applicationEventPublisher.publishEvent(
+                    new StatusListThresholdReachedEvent(dto, statusListIndex.getId(), token));
+        }
+    }
+
+    private int provisioningThreshold(StatusListIndex statusListIndex) {
+        return (int) Math.ceil(statusListIndex.getCapacity() * statusListSettings.provisioning().threshold());
+    }
+
+    /**
+     * Creates status lists of an issuer ahead of time, with no index reserved yet, until as many
+     * status lists are below the provisioning threshold as shards are configured for the issuer.
+     * When a request created the same status list concurrently, provisioning stops.
+     *
+     * @param dto   the status entry identifying issuer and purpose
+     * @param token the token used to sign the status list credentials
+     * @return the ids of the created status lists
+     */
+    public List<String> provisionStatusLists(StatusEntryDto dto, String token) {
+        String bpn = extractBpnFromDid(dto.issuerId());
+        String purpose = dto.purpose().toLowerCase();
+        StatusListAllocationSettings.Allocation allocation = statusListAllocationSettings.resolve(bpn, purpose);
+        List<StatusListIndex> statusListIndexs = statusListIndexRepository.findByIssuerBpnStatus(bpn + "-" + purpose);
+        long belowThreshold = statusListIndexs.stream()
+                .filter(li -> li.getNextIndex() < provisioningThreshold(li))
+                .count();
+        List<String> provisioned = new ArrayList<>();
+        for (long missing = allocation.shards() - belowThreshold; missing > 0; missing--) {
+            int size = statusListIndexs.size() + provisioned.size() + 1;
+            StatusListIndex statusListIndex = createStatusListIndex(dto, size,
+                    createStatusListCredential(dto, size, allocation.size(), token), allocation.size(), 0);
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    statusListIndexRepository.saveAndFlush(statusListIndex);
+                    announceCreated(statusListIndex);
+                });
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Status list {} has been created concurrently", statusListIndex.getId());
+                break;
+            }
+            log.info("Provisioned status list {}", statusListIndex.getId());
+            provisioned.add(statusListIndex.getId());
+        }
+        return provisioned;
+    }
+
+    private void addCredentialStatuses(List<CredentialStatusDto> credentialStatuses, String bpn, String purpose,
+                                       String listNumber, int firstIndex, int count) {
+        String vcUrl = statusListUrl(bpn, purpose, listNumber);
+        for (int index = firstIndex; index < firstIndex + count; index++) {
+            credentialStatuses.add(new CredentialStatusDto(
+                    vcUrl + "#" + index,
+                    purpose,
+                    String.valueOf(index),
+                    vcUrl,
+                    StatusListCredentialSubject.TYPE_ENTRY));
+        }
+    }
+
+    private String statusListUrl(String bpn, String purpose, String listNumber) {
+        return httpClientService.domainUrl
+                + RevocationApiEndpoints.REVOCATION_API
+                + RevocationApiEndpoints.CREDENTIALS_STATUS_INDEX
+                .replace("{issuerBPN}", bpn)
+                .replace("{status}", purpose.toLowerCase())
+                .replace("{index}", listNumber);
     }
 
 
     /**
      * The function `getStatusLisCredential` retrieves a `VerifiableCredential` object from the
-     * `statusListCredentialRepository` based on identity
+     * `statusListCredentialRepository` based on identity. Unless publishing is done write-behind, a
+     * credential that does not reflect the current bits yet is published first if the signer does not
+     * need a token of the issuer. Otherwise, or if publishing fails, the last signed credential is returned.
      *
      * @param issuerBpn the issuer bpn
      * @param status    the status
      * @param index     the index
-     * @return the status list credential
+     * @return the status list credential with its version or null if the status list does not exist
      */
-    @Transactional
-    public VerifiableCredential getStatusListCredential(
+    public PublishedStatusListCredential getStatusListCredential(
             String issuerBpn, String status, String index) {
-        return statusListCredentialRepository
-                .findById(issuerBpn + "-" + status + "#" + index)
-                .map(StatusListCredential::getCredential)
-                .orElse(null);
+        String statusListId = issuerBpn + "-" + status + "#" + index;
+        StatusListCredential statusListCredential =
+                statusListCredentialRepository.findById(statusListId).orElse(null);
+        if (statusListCredential == null) {
+            return null;
+        }
+        if (!statusListSettings.writeBehind().enabled() && !statusListSigner.isIssuerTokenRequired()
+                && isStale(statusListCredential)) {
+            try {
+                return publishStatusList(statusListId, null);
+            } catch (RuntimeException e) {
+                log.warn("Could not publish status list {}, serving the last signed version", statusListId, e);
+            }
+        }
+        return published(statusListCredential);
+    }
+
+    /**
+     * Returns the indices of a status list set after a version, up to the version of its signed
+     * credential. The credential is published first, like in {@link #getStatusListCredential}.
+     *
+     * @param issuerBpn the issuer bpn
+     * @param status    the status
+     * @param index     the index
+     * @param since     the version the client holds
+     * @return the changes or null if the status list does not exist
+     * @throws IllegalArgumentException        if the version is newer than the signed credential
+     * @throws StatusListChangesGoneException if the changes since the version are not recorded completely
+     */
+    public StatusListChangesDto getStatusListChanges(String issuerBpn, String status, String index, long since) {
+        PublishedStatusListCredential published = getStatusListCredential(issuerBpn, status, index);
+        if (published == null) {
+            return null;
+        }
+        long version = published.version().version();
+        if (since > version) {
+            throw new IllegalArgumentException("Version " + since + " is newer than the status list version " + version);
+        }
+        String statusListId = issuerBpn + "-" + status + "#" + index;
+        List<Integer> indices = List.of();
+        if (since < version) {
+            // status lists changed before the change log existed have versions without recorded changes
+            if (statusListChangeRepository.countVersions(statusListId, since, version) < version - since) {
+                throw new StatusListChangesGoneException(
+                        "Changes of status list " + statusListId + " since version " + since + " are not available");
+            }
+            indices = statusListChangeRepository.findChangedIndices(statusListId, since, version);
+        }
+        return new StatusListChangesDto(
+                statusListUrl(issuerBpn, status, index), since, version, indices, published.credential());
+    }
+
+    /**
+     * Returns the version of a status list credential as last served or published by this instance, if
+     * it is still the signed version in the database. Only the signed version is read, not the
+     * credential; a newer version published by another instance is noticed right away.
+     *
+     * @param issuerBpn the issuer bpn
+     * @param status    the status
+     * @param index     the index
+     * @return the version or null if it is not known or outdated
+     */
+    public StatusListVersion getKnownStatusListVersion(String issuerBpn, String status, String index) {
+        String statusListId = issuerBpn + "-" + status + "#" + index;
+        StatusListVersion knownVersion = statusListVersionCache.get(statusListId);
+        if (knownVersion == null) {
+            return null;
+        }
+        Optional<Long> signedVersion = statusListCredentialRepository.findSignedVersionById(statusListId);
+        if (signedVersion.isEmpty() || signedVersion.get() != knownVersion.version()) {
+            statusListVersionCache.invalidate(statusListId);
+            return null;
+        }
+        return knownVersion;
     }
 
     /**
@@ -292,11 +1079,12 @@ public class RevocationService {
      *
      * @param dto The "dto" parameter is an object of type "StatusEntryDto". It contains information
      *            about the status entry, such as the issuer ID and the purpose of the status.
+     * @param capacity the number of entries of the status list
      * @return The method `createStatusListCredential` returns a `StatusListCredential` object.
      */
     @SneakyThrows
     private StatusListCredential createStatusListCredential(
-            StatusEntryDto dto, Integer size, String token) {
+            StatusEntryDto dto, Integer size, int capacity, String token) {
         String id;
         String bpn;
         List<String> types = new ArrayList<>();
@@ -331,20 +1119,25 @@ public class RevocationService {
                         .issuanceDate(Instant.now())
                         .credentialSubject(new VerifiableCredentialSubject(createCredentialSubject(subject)))
                         .build();
+        VerifiableCredential signedStatusListVC = sign(statusListVC, token);
         return StatusListCredential.builder()
                 .id(bpn + "-" + dto.purpose().toLowerCase() + "#" + size)
                 .issuerBpn(bpn)
-                .credential(httpClientService.signStatusListVC(statusListVC, token))
+                .credential(signedStatusListVC)
+                .credentialDigest(verifiedDigest(signedStatusListVC))
+                .publishedAt(LocalDateTime.now())
+                .statusBits(new byte[capacity / Byte.SIZE])
                 .build();
     }
 
 
     private StatusListIndex createStatusListIndex(
-            StatusEntryDto dto, Integer size, StatusListCredential statusListCredential) {
+            StatusEntryDto dto, Integer size, StatusListCredential statusListCredential, int capacity, int reserved) {
         String bpn = extractBpnFromDid(dto.issuerId());
         return StatusListIndex.builder()
                 .id(bpn + "-" + dto.purpose().toLowerCase() + "#" + size)
-                .currentIndex("-1")
+                .nextIndex(reserved)
+                .capacity(capacity)
                 .statusListCredential(statusListCredential)
                 .issuerBpnStatus(bpn + "-" + dto.purpose().toLowerCase())
                 .build();
@@ -436,4 +1229,7 @@ public class RevocationService {
                     "Credential status purpose does not match the statusPurpose in the dto");
         }
     }
+
+    private record ChangedStatusList(String statusListId, List<Integer> indices, long version) {
+    }
 }
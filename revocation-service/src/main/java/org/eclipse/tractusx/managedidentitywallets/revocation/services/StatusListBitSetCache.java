@@ -0,0 +1,194 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListCacheSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of decoded status list bitsets, keyed by status list id
+ * (e.g. "BPNL000000000000-revocation#1").
+ *
+ * <p>Cached bitsets are shared between callers and must never be modified, a revocation replaces the
+ * bitset of its status list by a copy with the bit set. Revocations of other replicas drop the bitset
+ * once they are read from the change log, the ttl only bounds staleness when that is missed.
+ *
+ * <p>This is the default {@link BitSetStore}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "revocation.bitSetStore.type", havingValue = "heap", matchIfMissing = true)
+public class StatusListBitSetCache implements BitSetStore {
+
+    private final int maxSize;
+
+    private final long ttlNanos;
+
+    private final StatusListGenerations generations = new StatusListGenerations();
+
+    private final Map<String, Entry> entries;
+
+    public StatusListBitSetCache(StatusListCacheSettings settings) {
+        this.maxSize = settings.maxSize();
+        this.ttlNanos = settings.ttl().toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached bitset of a status list.
+     *
+     * @param statusListId the status list id
+     * @return the bitset or null if it is not cached or expired
+     */
+    public BitSet get(String statusListId) {
+        synchronized (entries) {
+            Entry entry = entries.get(statusListId);
+            if (entry == null) {
+                return null;
+            }
+            if (System.nanoTime() - entry.loadedAt() >= ttlNanos) {
+                entries.remove(statusListId);
+                return null;
+            }
+            return entry.bitSet();
+        }
+    }
+
+    @Override
+    public int getBit(String statusListId, int index) {
+        BitSet bitSet = get(statusListId);
+        if (bitSet == null) {
+            return NOT_STORED;
+        }
+        return bitSet.get(index) ? 1 : 0;
+    }
+
+    /**
+     * The current generation. It must be read before the bitset is loaded from the database and passed
+     * to {@link #put(String, BitSet, long)}.
+     *
+     * @return the generation
+     */
+    @Override
+    public long generation() {
+        synchronized (entries) {
+            return generations.current();
+        }
+    }
+
+    /**
+     * Caches a decoded bitset unless its status list has been changed since it has been loaded.
+     *
+     * @param statusListId the status list id
+     * @param bitSet       the decoded bitset
+     * @param version      the status bits version the bitset has been loaded with
+     * @param loadedAt     the generation read before the bitset has been loaded
+     */
+    public void put(String statusListId, BitSet bitSet, long version, long loadedAt) {
+        if (maxSize == 0) {
+            return;
+        }
+        synchronized (entries) {
+            if (generations.changedSince(statusListId, loadedAt)) {
+                // a revocation of the status list raced with the load, the bitset might already be outdated
+                return;
+            }
+            entries.put(statusListId, new Entry(bitSet, version, System.nanoTime()));
+        }
+    }
+
+    @Override
+    public void putStatusBits(String statusListId, byte[] statusBits, long version, long loadedAt) {
+        put(statusListId, BitSet.valueOf(statusBits), version, loadedAt);
+    }
+
+    @Override
+    public void setBit(String statusListId, int index, long version) {
+        synchronized (entries) {
+            generations.changed(statusListId);
+            Entry entry = entries.get(statusListId);
+            if (entry == null) {
+                return;
+            }
+            if (!BitSetStore.follows(entry.version(), version)) {
+                // a revocation in between has not been applied, the bitset cannot claim this version
+                entries.remove(statusListId);
+                return;
+            }
+            BitSet bitSet = (BitSet) entry.bitSet().clone();
+            bitSet.set(index);
+            entries.put(statusListId, new Entry(bitSet, version, entry.loadedAt()));
+        }
+    }
+
+    @Override
+    public void changed(String statusListId, long version) {
+        synchronized (entries) {
+            Entry entry = entries.get(statusListId);
+            if (entry == null || BitSetStore.includes(entry.version(), version)) {
+                return;
+            }
+            generations.changed(statusListId);
+            entries.remove(statusListId);
+        }
+        log.debug("Dropped cached bitset of status list {} changed to version {}", statusListId, version);
+    }
+
+    /**
+     * Removes a status list from the cache.
+     *
+     * @param statusListId the status list id
+     */
+    @Override
+    public void invalidate(String statusListId) {
+        synchronized (entries) {
+            generations.changed(statusListId);
+            entries.remove(statusListId);
+        }
+        log.debug("Invalidated cached bitset of status list {}", statusListId);
+    }
+
+    /**
+     * Removes all status lists from the cache.
+     */
+    @Override
+    public void invalidateAll() {
+        synchronized (entries) {
+            generations.changedAll();
+            entries.clear();
+        }
+    }
+
+    private record Entry(BitSet bitSet, long version, long loadedAt) {
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListEventSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.StatusListChangeLoggedEvent;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.StatusListChangedEvent;
+import org.eclipse.tractusx.managedidentitywallets.revocation.dto.StatusListChangeEventDto;
+import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.StatusListChange;
+import org.eclipse.tractusx.managedidentitywallets.revocation.repository.StatusListChangeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Streams the changes of status lists to subscribers as server-sent events. The events are read from
+ * the change log of the status lists, so subscribers of any instance receive the changes of all
+ * instances: changes of this instance right after they committed, changes of other instances with
+ * the next poll. The id of an event is the id of its last change in the change log, a reconnecting
+ * client passes it as Last-Event-ID to receive the changes it missed.
+ *
+ * <p>Delivery is at least once and only ordered per status list. A change committing later than the
+ * gap timeout after changes with higher ids is not streamed; the versions of a status list increase
+ * by one with every change, a client seeing a version skipped fetches the changes since the version
+ * it knows.
+ *
+ * <p>Subscribers are registered and replayed on the polling thread, so a replay ends at the position
+ * the next poll continues from.
+ *
+ * <p>The change log is polled with or without subscribers. Every change read is also published as a
+ * {@link StatusListChangeLoggedEvent} within the instance, so that it drops the status bits it keeps
+ * of status lists changed by other instances.
+ */
+@Slf4j
+@Component
+public class StatusListEventBroadcaster {
+
+    public static final String CHANGE_EVENT = "status-list-changed";
+
+    /**
+     * Sent to a reconnecting client that missed more changes than are replayed, it has to reload its
+     * status lists.
+     */
+    public static final String RESYNC_EVENT = "resync";
+
+    /**
+     * Maximum number of changes read per poll and of missing ids waited for.
+     */
+    private static final int BATCH_SIZE = 1000;
+
+    private final StatusListChangeRepository statusListChangeRepository;
+
+    private final StatusListEventSettings settings;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Open streams, counted against the limits.
+     */
+    private final List<Subscriber> connected = new CopyOnWriteArrayList<>();
+
+    /**
+     * Registered streams, changes are sent to.
+     */
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    private final AtomicBoolean pollScheduled = new AtomicBoolean();
+
+    // only accessed by the polling thread
+
+    private long cursor = -1;
+
+    private final Map<Long, Long> gaps = new HashMap<>();
+
+    private long lastSent = System.nanoTime();
+
+    @Autowired
+    public StatusListEventBroadcaster(StatusListChangeRepository statusListChangeRepository,
+                                      StatusListEventSettings settings,
+                                      ApplicationEventPublisher applicationEventPublisher) {
+        this(statusListChangeRepository, settings, applicationEventPublisher,
+                Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "status-list-events");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    StatusListEventBroadcaster(StatusListChangeRepository statusListChangeRepository,
+                               StatusListEventSettings settings,
+                               ApplicationEventPublisher applicationEventPublisher,
+                               ScheduledExecutorService executor) {
+        this.statusListChangeRepository = statusListChangeRepository;
+        this.settings = settings;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.executor = executor;
+        long interval = settings.pollInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::pollSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens a stream of status list changes.
+     *
+     * @param client      the name of the authenticated client, its open streams are limited
+     * @param issuerBpn   the BPN of the issuer whose status lists are streamed, all if null
+     * @param lastEventId the id of the last event the client received, null for a new client
+     * @return the stream
+     */
+    public SseEmitter subscribe(String client, String issuerBpn, Long lastEventId) {
+        return subscribe(new SseEmitter(settings.timeout().toMillis()), client, issuerBpn, lastEventId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, String client, String issuerBpn, Long lastEventId) {
+        Subscriber subscriber = new Subscriber(emitter, client, issuerBpn);
+        synchronized (connected) {
+            if (connected.size() >= settings.maxSubscribers()) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many subscribers");
+            }
+            if (connected.stream().filter(other -> other.client().equals(client)).count()
+                    >= settings.maxSubscribersPerClient()) {
+                throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many subscriptions of client");
+            }
+            connected.add(subscriber);
+        }
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        executor.execute(() -> register(subscriber, lastEventId));
+        return emitter;
+    }
+
+    /**
+     * Registers a subscriber and replays the changes it missed up to the cursor, later changes are
+     * streamed by the next polls.
+     */
+    private void register(Subscriber subscriber, Long lastEventId) {
+        if (!connected.contains(subscriber)) {
+            return;
+        }
+        try {
+            if (cursor < 0) {
+                cursor = statusListChangeRepository.findMaxId();
+            }
+            subscribers.add(subscriber);
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not register status list change subscriber", e);
+            remove(subscriber);
+            subscriber.emitter().completeWithError(e);
+        }
+    }
+
+    private void replay(Subscriber subscriber, long lastEventId) {
+        List<StatusListChange> missed = statusListChangeRepository.findByIdBetweenOrderByIdAsc(
+                lastEventId + 1, cursor, Limit.of(settings.replayLimit() + 1));
+        if (missed.size() > settings.replayLimit()) {
+            send(subscriber, SseEmitter.event().name(RESYNC_EVENT).data(""));
+            return;
+        }
+        toEvents(missed).forEach((id, event) -> {
+            if (subscriber.accepts(event)) {
+                send(subscriber, changeEvent(id, event));
+            }
+        });
+    }
+
+    /**
+     * Reads the change log right away once a revocation of this instance committed.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void onStatusListChanged(StatusListChangedEvent event) {
+        if (!subscribers.isEmpty()) {
+            wakeUp();
+        }
+    }
+
+    private void wakeUp() {
+        if (pollScheduled.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                pollScheduled.set(false);
+                pollSafely();
+            });
+        }
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            log.warn("Could not read status list changes", e);
+        }
+    }
+
+    /**
+     * Publishes and streams the changes recorded since the last poll and the late changes that filled
+     * a gap. The first poll only finds the position to continue from.
+     */
+    void poll() {
+        if (cursor < 0) {
+            cursor = statusListChangeRepository.findMaxId();
+            return;
+        }
+        List<StatusListChange> changes = new ArrayList<>();
+        if (!gaps.isEmpty()) {
+            List<StatusListChange> late = statusListChangeRepository.findByIdInOrderByIdAsc(gaps.keySet());
+            late.forEach(change -> gaps.remove(change.getId()));
+            changes.addAll(late);
+            long expired = System.nanoTime() - settings.gapTimeout().toNanos();
+            gaps.values().removeIf(missedAt -> missedAt - expired < 0);
+        }
+        List<StatusListChange> next =
+                statusListChangeRepository.findByIdGreaterThanOrderByIdAsc(cursor, Limit.of(BATCH_SIZE));
+        long now = System.nanoTime();
+        for (StatusListChange change : next) {
+            // ids taken by transactions that are still running or rolled back
+            for (long id = cursor + 1; id < change.getId() && gaps.size() < BATCH_SIZE; id++) {
+                gaps.put(id, now);
+            }
+            cursor = change.getId();
+            changes.add(change);
+        }
+        if (changes.isEmpty()) {
+            if (now - lastSent >= settings.heartbeatInterval().toNanos()) {
+                subscribers.forEach(subscriber -> send(subscriber, SseEmitter.event().comment("keep-alive")));
+                lastSent = now;
+            }
+            return;
+        }
+        changes.sort(Comparator.comparing(StatusListChange::getId));
+        toEvents(changes).forEach((id, event) -> {
+            applicationEventPublisher.publishEvent(
+                    new StatusListChangeLoggedEvent(event.statusListId(), event.version()));
+            subscribers.stream()
+                    .filter(subscriber -> subscriber.accepts(event))
+                    .forEach(subscriber -> send(subscriber, changeEvent(id, event)));
+        });
+        lastSent = now;
+        if (next.size() == BATCH_SIZE) {
+            wakeUp();
+        }
+    }
+
+    /**
+     * Groups changes by status list and version into events, keyed by the id of their last change.
+     */
+    private static Map<Long, StatusListChangeEventDto> toEvents(List<StatusListChange> changes) {
+        Map<Version, Long> eventIds = new HashMap<>();
+        Map<Version, List<Integer>> indices = new LinkedHashMap<>();
+        for (StatusListChange change : changes) {
+            Version version = new Version(change.getStatusListId(), change.getStatusBitsVersion());
+            eventIds.put(version, change.getId());
+            indices.computeIfAbsent(version, v -> new ArrayList<>()).add(change.getStatusIndex());
+        }
+        Map<Long, StatusListChangeEventDto> events = new LinkedHashMap<>();
+        indices.forEach((version, versionIndices) -> events.put(eventIds.get(version),
+                new StatusListChangeEventDto(version.statusListId(), version.version(), versionIndices)));
+        return events;
+    }
+
+    private static SseEmitter.SseEventBuilder changeEvent(long id, StatusListChangeEventDto event) {
+        return SseEmitter.event()
+                .id(Long.toString(id))
+                .name(CHANGE_EVENT)
+                .data(event, MediaType.APPLICATION_JSON);
+    }
+
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter().send(event);
+        } catch (IOException | IllegalStateException e) {
+            // the client went away, the container completes the emitter
+            remove(subscriber);
+            log.debug("Dropped status list change subscriber: {}", e.getMessage());
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        connected.remove(subscriber);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        connected.forEach(subscriber -> subscriber.emitter().complete());
+        connected.clear();
+        subscribers.clear();
+    }
+
+    private record Version(String statusListId, long version) {
+    }
+
+    private record Subscriber(SseEmitter emitter, String client, String issuerBpn) {
+
+        boolean accepts(StatusListChangeEventDto event) {
+            return issuerBpn == null || event.statusListId().startsWith(issuerBpn + "-");
+        }
+    }
+}
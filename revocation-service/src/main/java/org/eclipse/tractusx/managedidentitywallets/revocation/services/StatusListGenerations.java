@@ -0,0 +1,92 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Generation at which each status list has last been changed, so that a {@link BitSetStore} only
+ * rejects status bits that have been loaded concurrently with a change of the same status list.
+ * Only the most recent changes are remembered; status lists changed earlier are treated as changed
+ * at the generation of the latest forgotten change.
+ *
+ * <p>Not thread-safe, the stores access it under their lock.
+ */
+final class StatusListGenerations {
+
+    private static final int MAX_REMEMBERED = 10_000;
+
+    private final Map<String, Long> changedAt = new LinkedHashMap<>(16, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            if (size() > MAX_REMEMBERED) {
+                forgotten = Math.max(forgotten, eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private long generation;
+
+    private long forgotten;
+
+    /**
+     * The current generation, read before status bits are loaded.
+     *
+     * @return the generation
+     */
+    long current() {
+        return generation;
+    }
+
+    /**
+     * Records a change of a status list.
+     *
+     * @param statusListId the status list id
+     */
+    void changed(String statusListId) {
+        // re-inserted, the eldest entry always has the lowest generation
+        changedAt.remove(statusListId);
+        changedAt.put(statusListId, ++generation);
+    }
+
+    /**
+     * Records a change of all status lists.
+     */
+    void changedAll() {
+        changedAt.clear();
+        forgotten = ++generation;
+    }
+
+    /**
+     * Whether a status list changed after a generation.
+     *
+     * @param statusListId the status list id
+     * @param loadedAt     the generation read before the status bits have been loaded
+     * @return true if status bits loaded at that generation might be outdated
+     */
+    boolean changedSince(String statusListId, long loadedAt) {
+        return changedAt.getOrDefault(statusListId, forgotten) > loadedAt;
+    }
+}
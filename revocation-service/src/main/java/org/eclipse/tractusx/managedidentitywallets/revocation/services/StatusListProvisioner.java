@@ -0,0 +1,111 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.StatusListThresholdReachedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates and signs the next status lists of an issuer in the background once a status list crossed
+ * the provisioning threshold or the first status list of a sharded issuer has been created, so that
+ * requests reserving indices do not have to create status lists themselves. Status lists are provisioned one at a time, at most one per issuer and purpose is
+ * pending. Requests still create a status list themselves when none has room left, e.g. because
+ * provisioning failed.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "revocation.statusList.provisioning.enabled", havingValue = "true", matchIfMissing = true)
+public class StatusListProvisioner {
+
+    private final RevocationService revocationService;
+
+    private final ExecutorService executor;
+
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public StatusListProvisioner(RevocationService revocationService) {
+        this(revocationService, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "status-list-provisioner");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    StatusListProvisioner(RevocationService revocationService, ExecutorService executor) {
+        this.revocationService = revocationService;
+        this.executor = executor;
+    }
+
+    /**
+     * Schedules the provisioning of the next status list, unless one is pending for the issuer.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void onThresholdReached(StatusListThresholdReachedEvent event) {
+        String issuerBpnStatus = event.issuerBpnStatus();
+        if (!pending.add(issuerBpnStatus)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    provision(event);
+                } finally {
+                    pending.remove(issuerBpnStatus);
+                }
+            });
+        } catch (RuntimeException e) {
+            pending.remove(issuerBpnStatus);
+            log.warn("Could not schedule provisioning of the status list following {}", event.statusListId(), e);
+        }
+    }
+
+    private void provision(StatusListThresholdReachedEvent event) {
+        try {
+            List<String> statusListIds = revocationService.provisionStatusLists(event.statusEntry(), event.token());
+            if (statusListIds.isEmpty()) {
+                log.debug("No status list provisioned after {}, the issuer has enough free indices",
+                        event.statusListId());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not provision the status list following {}", event.statusListId(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
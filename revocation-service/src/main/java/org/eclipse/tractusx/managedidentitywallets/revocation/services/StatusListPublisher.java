@@ -0,0 +1,117 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.repository.StatusListCredentialRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Publishes status lists write-behind: revocations only update the status bits, the changed status
+ * lists are signed and stored here, each at most once per interval no matter how many revocations
+ * happened in between. Unpublished changes are recorded in the database, they survive restarts.
+ *
+ * <p>Without write-behind, revocations publish their status list themselves. If that fails, the
+ * status list stays marked as changed and is republished here once the republish delay passed.
+ *
+ * <p>The lists are signed outside of any request of their issuers. The local signer signs for every
+ * issuer; the http signer uses the token of the service, see {@link HttpStatusListSigner}.
+ */
+@Slf4j
+@Component
+public class StatusListPublisher {
+
+    public static final String STALENESS_METRIC = "revocation.status_list.staleness";
+
+    private final StatusListCredentialRepository statusListCredentialRepository;
+
+    private final RevocationService revocationService;
+
+    private final StatusListSettings statusListSettings;
+
+    private final AtomicReference<LocalDateTime> oldestUnpublishedChange = new AtomicReference<>();
+
+    public StatusListPublisher(StatusListCredentialRepository statusListCredentialRepository,
+                               RevocationService revocationService,
+                               StatusListSettings statusListSettings,
+                               MeterRegistry meterRegistry) {
+        this.statusListCredentialRepository = statusListCredentialRepository;
+        this.revocationService = revocationService;
+        this.statusListSettings = statusListSettings;
+        Gauge.builder(STALENESS_METRIC, this, StatusListPublisher::staleness)
+                .description("Age of the oldest revocation not yet visible in a published status list")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Signs and stores every status list with unpublished changes, without write-behind only those
+     * whose changes are older than the republish delay.
+     */
+    @Scheduled(fixedDelayString = "${revocation.statusList.writeBehind.interval:PT30S}")
+    public void publishStatusLists() {
+        try {
+            List<String> statusListIds = statusListSettings.writeBehind().enabled()
+                    ? statusListCredentialRepository.findUnpublishedIds()
+                    : statusListCredentialRepository.findUnpublishedIdsChangedBefore(
+                            LocalDateTime.now().minus(statusListSettings.republishDelay()));
+            if (statusListIds.isEmpty()) {
+                return;
+            }
+            int published = 0;
+            for (String statusListId : statusListIds) {
+                try {
+                    revocationService.publishStatusList(statusListId, null);
+                    published++;
+                } catch (RuntimeException e) {
+                    log.warn("Could not publish status list {}", statusListId, e);
+                }
+            }
+            log.debug("Published {} of {} changed status lists", published, statusListIds.size());
+        } finally {
+            oldestUnpublishedChange.set(statusListCredentialRepository.findOldestUnpublishedChange().orElse(null));
+        }
+    }
+
+    /**
+     * The staleness window: seconds since the oldest change that was still unpublished after the last
+     * run.
+     *
+     * @return the staleness in seconds, 0 if all status lists were published
+     */
+    public double staleness() {
+        LocalDateTime oldest = oldestUnpublishedChange.get();
+        if (oldest == null) {
+            return 0;
+        }
+        return Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000d);
+    }
+}
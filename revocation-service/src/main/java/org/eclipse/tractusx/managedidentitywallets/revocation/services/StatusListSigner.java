@@ -0,0 +1,50 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+
+/**
+ * Signs status list credentials. The implementation is chosen with {@code revocation.signer.type}:
+ * {@code http} (default) asks MIW to sign, {@code local} signs in-process with issuer keys
+ * configured for the revocation service.
+ */
+public interface StatusListSigner {
+
+    /**
+     * Signs a status list credential.
+     *
+     * @param statusListCredential the unsigned status list credential
+     * @param token                the token of the caller, used by signers calling MIW; null outside of
+     *                             a request, signers calling MIW use the token of the service then
+     * @return the signed status list credential
+     */
+    VerifiableCredential sign(VerifiableCredential statusListCredential, String token);
+
+    /**
+     * Whether signing needs a token of the issuer of the status list. Signers that do not need one sign
+     * the status lists of every issuer outside of a request of the issuer.
+     *
+     * @return true if only the issuer's token is accepted
+     */
+    boolean isIssuerTokenRequired();
+}
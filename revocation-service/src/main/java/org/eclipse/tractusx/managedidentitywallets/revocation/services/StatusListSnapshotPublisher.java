@@ -0,0 +1,216 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListSnapshotSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.PublishedStatusListCredential;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.StatusListPublishedEvent;
+import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.StatusListCredential;
+import org.eclipse.tractusx.managedidentitywallets.revocation.repository.StatusListCredentialRepository;
+import org.eclipse.tractusx.managedidentitywallets.revocation.utils.StatusListSnapshots;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes a static snapshot of every signed status list credential into the snapshot directory, in
+ * the layout of {@link StatusListSnapshots}: serialized and gzip compressed ahead of time, so that a
+ * static web server or this service in snapshot serving mode can answer status list requests without
+ * loading, serializing and compressing the credential.
+ *
+ * <p>Snapshots are written by a single background thread once a new version committed, so revocations
+ * do not wait for them and snapshots of the same status list are never written concurrently. From
+ * startup on the snapshots of all status lists are compared with the signed versions in the database
+ * every refresh interval and the missing or outdated ones written, which covers versions published
+ * while this instance was down or by other instances. Failures are logged, the status list endpoint
+ * keeps serving the credential either way.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "revocation.statusList.snapshot.enabled", havingValue = "true")
+public class StatusListSnapshotPublisher {
+
+    /**
+     * Number of status lists checked per query at startup.
+     */
+    private static final int BATCH_SIZE = 500;
+
+    private final StatusListCredentialRepository statusListCredentialRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final StatusListSnapshotSettings settings;
+
+    private final ScheduledExecutorService executor;
+
+    @Autowired
+    public StatusListSnapshotPublisher(StatusListCredentialRepository statusListCredentialRepository,
+                                       ObjectMapper objectMapper,
+                                       StatusListSnapshotSettings settings) {
+        this(statusListCredentialRepository, objectMapper, settings,
+                Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "status-list-snapshots");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    StatusListSnapshotPublisher(StatusListCredentialRepository statusListCredentialRepository,
+                                ObjectMapper objectMapper, StatusListSnapshotSettings settings,
+                                ScheduledExecutorService executor) {
+        this.statusListCredentialRepository = statusListCredentialRepository;
+        this.objectMapper = objectMapper;
+        this.settings = settings;
+        this.executor = executor;
+    }
+
+    /**
+     * Writes the snapshot of a status list version in the background once it committed.
+     *
+     * @param event the event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusListPublished(StatusListPublishedEvent event) {
+        executor.execute(() -> writeSafely(event.statusListId(), event.published()));
+    }
+
+    /**
+     * Checks the snapshots of all status lists in the background once the application started and
+     * every refresh interval from then on.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        executor.scheduleWithFixedDelay(this::writeOutdatedSafely, 0, settings.refreshInterval().toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    private void writeOutdatedSafely() {
+        try {
+            writeOutdated();
+        } catch (RuntimeException e) {
+            // a failure must not cancel the following refreshes
+            log.warn("Could not check the status list snapshots in {}", settings.directory(), e);
+        }
+    }
+
+    /**
+     * Writes the snapshots of all status lists that have none or one of an older version.
+     */
+    void writeOutdated() {
+        int written = 0;
+        String after = "";
+        List<StatusListCredentialRepository.SignedVersion> versions;
+        do {
+            versions = statusListCredentialRepository.findSignedVersions(after, Limit.of(BATCH_SIZE));
+            for (StatusListCredentialRepository.SignedVersion version : versions) {
+                if (isOutdated(version)) {
+                    StatusListCredential statusListCredential =
+                            statusListCredentialRepository.findById(version.getId()).orElse(null);
+                    if (statusListCredential != null && writeSafely(statusListCredential.getId(),
+                            new PublishedStatusListCredential(statusListCredential.getCredential(),
+                                    RevocationService.versionOf(statusListCredential)))) {
+                        written++;
+                    }
+                }
+                after = version.getId();
+            }
+        } while (versions.size() == BATCH_SIZE);
+        if (written > 0) {
+            log.info("Wrote {} outdated status list snapshots into {}", written, settings.directory());
+        }
+    }
+
+    private boolean isOutdated(StatusListCredentialRepository.SignedVersion version) {
+        try {
+            StatusListSnapshots.Snapshot snapshot =
+                    StatusListSnapshots.read(StatusListSnapshots.link(settings.directory(), version.getId(), false));
+            return snapshot == null || snapshot.version() < version.getSignedVersion();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not read the snapshot of status list {}", version.getId(), e);
+            return true;
+        }
+    }
+
+    private boolean writeSafely(String statusListId, PublishedStatusListCredential published) {
+        try {
+            write(statusListId, published);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write the snapshot of status list {}", statusListId, e);
+            return false;
+        }
+    }
+
+    /**
+     * Writes the snapshot of a status list version and deletes the superseded snapshot after the
+     * retention time.
+     *
+     * @param statusListId the status list id
+     * @param published    the signed status list credential with its version
+     * @throws IOException if the snapshot cannot be written
+     */
+    void write(String statusListId, PublishedStatusListCredential published) throws IOException {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(published.credential());
+        } catch (JsonProcessingException e) {
+            throw new IOException("Could not serialize status list " + statusListId, e);
+        }
+        List<Path> superseded =
+                StatusListSnapshots.write(settings.directory(), statusListId, published.version(), json);
+        log.debug("Wrote snapshot of status list {} at version {}", statusListId, published.version().version());
+        if (!superseded.isEmpty()) {
+            executor.schedule(() -> delete(superseded), settings.retention().toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static void delete(List<Path> files) {
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete superseded snapshot {}", file, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
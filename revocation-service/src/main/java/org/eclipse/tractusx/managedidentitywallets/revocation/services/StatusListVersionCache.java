@@ -0,0 +1,109 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListCacheSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.StatusListVersion;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU map of the published versions of status list credentials, keyed by status list id.
+ * It answers conditional requests for status list credentials without a database access.
+ *
+ * <p>Entries are invalidated when a status list is changed on this replica; the ttl bounds how long
+ * a version published by another replica can go unnoticed.
+ */
+@Component
+public class StatusListVersionCache {
+
+    private final int maxSize;
+
+    private final long ttlNanos;
+
+    private final Map<String, Entry> entries;
+
+    public StatusListVersionCache(StatusListCacheSettings settings) {
+        this.maxSize = settings.maxSize();
+        this.ttlNanos = settings.ttl().toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the known published version of a status list.
+     *
+     * @param statusListId the status list id
+     * @return the version or null if it is not known or expired
+     */
+    public StatusListVersion get(String statusListId) {
+        synchronized (entries) {
+            Entry entry = entries.get(statusListId);
+            if (entry == null) {
+                return null;
+            }
+            if (System.nanoTime() - entry.loadedAt() >= ttlNanos) {
+                entries.remove(statusListId);
+                return null;
+            }
+            return entry.version();
+        }
+    }
+
+    /**
+     * Records the published version of a status list, unless a newer version is already known.
+     *
+     * @param statusListId the status list id
+     * @param version      the published version
+     */
+    public void put(String statusListId, StatusListVersion version) {
+        if (maxSize == 0) {
+            return;
+        }
+        synchronized (entries) {
+            Entry entry = entries.get(statusListId);
+            if (entry == null || entry.version().version() <= version.version()) {
+                entries.put(statusListId, new Entry(version, System.nanoTime()));
+            }
+        }
+    }
+
+    /**
+     * Removes a status list from the map.
+     *
+     * @param statusListId the status list id
+     */
+    public void invalidate(String statusListId) {
+        synchronized (entries) {
+            entries.remove(statusListId);
+        }
+    }
+
+    private record Entry(StatusListVersion version, long loadedAt) {
+    }
+}
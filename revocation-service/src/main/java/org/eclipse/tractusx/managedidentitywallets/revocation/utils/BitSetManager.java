@@ -27,6 +27,7 @@ import org.eclipse.tractusx.managedidentitywallets.revocation.exception.Credenti
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.BitSet;
 import java.util.zip.GZIPInputStream;
@@ -59,6 +60,28 @@ public class BitSetManager {
         }
     }
 
+    /**
+     * Converts a bitset to the fixed size byte array stored in the status bits column.
+     *
+     * @param bitSet the bitset
+     * @return {@link #BITSET_SIZE} bits, zero padded
+     */
+    public static byte[] toStatusBits(BitSet bitSet) {
+        return toStatusBits(bitSet, BITSET_SIZE);
+    }
+
+    /**
+     * Converts a bitset to the byte array stored in the status bits column of a status list of the
+     * given size.
+     *
+     * @param bitSet the bitset
+     * @param size   the number of entries of the status list, a multiple of 8
+     * @return size bits, zero padded
+     */
+    public static byte[] toStatusBits(BitSet bitSet, int size) {
+        return Arrays.copyOf(bitSet.toByteArray(), size / Byte.SIZE);
+    }
+
     public static String revokeCredential(String encodedList, int index)
             throws BitSetManagerException {
         BitSet bitSet = decompress(decodeFromString(encodedList));
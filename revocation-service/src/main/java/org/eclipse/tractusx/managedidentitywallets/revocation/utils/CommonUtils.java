@@ -21,8 +21,12 @@
 
 package org.eclipse.tractusx.managedidentitywallets.revocation.utils;
 
+import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -50,4 +54,16 @@ public class CommonUtils {
             throw new IllegalArgumentException("No match found");
         }
     }
+
+    /**
+     * Calculates the hex encoded SHA-256 digest of a string
+     *
+     * @param data the data to digest
+     * @return the hex encoded digest
+     */
+    @SneakyThrows
+    public String sha256(String data) {
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(messageDigest.digest(data.getBytes(StandardCharsets.UTF_8)));
+    }
 }
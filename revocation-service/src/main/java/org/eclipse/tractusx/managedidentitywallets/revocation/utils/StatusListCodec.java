@@ -0,0 +1,333 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.utils;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.exception.BitSetManagerException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Encodes and decodes the encoded list of a status list credential, the Base64 encoded gzip
+ * stream of the status list bits. Produces the same output as
+ * {@link BitSetManager#compress(java.util.BitSet)} and {@link BitSetManager#encodeToString(byte[])}
+ * and reads anything those methods read.
+ *
+ * <p>Each thread reuses its own deflater, inflater and buffers. The gzip header and trailer are
+ * written and checked here, and Base64 is decoded from the string straight into the buffer handed
+ * to the inflater, so apart from the result no array is allocated per call. Encoded lists are only
+ * inflated up to the largest status list size, anything longer is rejected.
+ */
+public final class StatusListCodec {
+
+    private static final int STATUS_BITS_LENGTH = BitSetManager.BITSET_SIZE / Byte.SIZE;
+
+    /**
+     * Longest gzip stream accepted, well above what deflate produces for a status list of the largest size.
+     */
+    private static final int MAX_COMPRESSED_LENGTH = 2 * STATUS_BITS_LENGTH;
+
+    /**
+     * Header written by {@link java.util.zip.GZIPOutputStream}: deflate, no flags, no mtime,
+     * unknown operating system.
+     */
+    private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+
+    private static final int GZIP_HEADER_LENGTH = 10;
+
+    private static final int GZIP_TRAILER_LENGTH = 8;
+
+    private static final int FHCRC = 2;
+
+    private static final int FEXTRA = 4;
+
+    private static final int FNAME = 8;
+
+    private static final int FCOMMENT = 16;
+
+    private static final byte[] BASE64_ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int[] BASE64_VALUES = new int[128];
+
+    static {
+        Arrays.fill(BASE64_VALUES, -1);
+        for (int i = 0; i < BASE64_ALPHABET.length; i++) {
+            BASE64_VALUES[BASE64_ALPHABET[i]] = i;
+        }
+    }
+
+    private static final ThreadLocal<Codec> CODECS = ThreadLocal.withInitial(Codec::new);
+
+    private StatusListCodec() {
+        // static methods only
+    }
+
+    /**
+     * Encodes status list bits as stored in the status bits column.
+     *
+     * @param statusBits the status list bits, in the byte order of {@link BitSet#toByteArray()};
+     *                   trailing zero bytes are ignored
+     * @return the encoded list
+     */
+    public static String encode(byte[] statusBits) {
+        int length = statusBits.length;
+        while (length > 0 && statusBits[length - 1] == 0) {
+            length--;
+        }
+        return CODECS.get().encode(statusBits, length);
+    }
+
+    /**
+     * Decodes the encoded list of a status list credential.
+     *
+     * @param encodedList the encoded list
+     * @return the status list bits
+     * @throws BitSetManagerException if the encoded list is not valid Base64 or gzip, or holds more than
+     *                                {@link BitSetManager#BITSET_SIZE} bits
+     */
+    public static BitSet decode(String encodedList) {
+        return CODECS.get().decode(encodedList);
+    }
+
+    private static final class Codec {
+
+        private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+
+        private final Inflater inflater = new Inflater(true);
+
+        private final CRC32 crc = new CRC32();
+
+        private byte[] compressed = new byte[1024];
+
+        private final byte[] bits = new byte[STATUS_BITS_LENGTH];
+
+        private final byte[] overflow = new byte[1];
+
+        private byte[] base64 = new byte[4096];
+
+        String encode(byte[] statusBits, int length) {
+            crc.reset();
+            crc.update(statusBits, 0, length);
+            deflater.reset();
+            deflater.setInput(statusBits, 0, length);
+            deflater.finish();
+
+            System.arraycopy(GZIP_HEADER, 0, compressed, 0, GZIP_HEADER_LENGTH);
+            int size = GZIP_HEADER_LENGTH;
+            while (!deflater.finished()) {
+                if (size == compressed.length) {
+                    compressed = Arrays.copyOf(compressed, size * 2);
+                }
+                size += deflater.deflate(compressed, size, compressed.length - size);
+            }
+            if (compressed.length < size + GZIP_TRAILER_LENGTH) {
+                compressed = Arrays.copyOf(compressed, size + GZIP_TRAILER_LENGTH);
+            }
+            writeIntLE(compressed, size, (int) crc.getValue());
+            writeIntLE(compressed, size + 4, length);
+            return encodeBase64(compressed, size + GZIP_TRAILER_LENGTH);
+        }
+
+        BitSet decode(String encodedList) {
+            int length = decodeBase64(encodedList);
+            int offset = skipHeader(compressed, length);
+
+            inflater.reset();
+            inflater.setInput(compressed, offset, length - offset);
+            int size = 0;
+            try {
+                while (!inflater.finished()) {
+                    if (size == bits.length) {
+                        // a small input can inflate to any size, stop at the largest status list
+                        if (inflater.inflate(overflow) > 0) {
+                            throw new BitSetManagerException("Encoded list exceeds the status list size");
+                        }
+                        if (inflater.finished()) {
+                            break;
+                        }
+                    }
+                    int inflated = inflater.inflate(bits, size, bits.length - size);
+                    if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new BitSetManagerException("Unexpected end of encoded list");
+                    }
+                    size += inflated;
+                }
+            } catch (DataFormatException e) {
+                throw new BitSetManagerException(e);
+            }
+
+            int trailer = length - inflater.getRemaining();
+            if (length - trailer < GZIP_TRAILER_LENGTH) {
+                throw new BitSetManagerException("Unexpected end of encoded list");
+            }
+            crc.reset();
+            crc.update(bits, 0, size);
+            if (readIntLE(compressed, trailer) != (int) crc.getValue() || readIntLE(compressed, trailer + 4) != size) {
+                throw new BitSetManagerException("Corrupt encoded list");
+            }
+            return BitSet.valueOf(ByteBuffer.wrap(bits, 0, size));
+        }
+
+        private String encodeBase64(byte[] src, int length) {
+            int encodedLength = 4 * ((length + 2) / 3);
+            if (base64.length < encodedLength) {
+                base64 = new byte[encodedLength];
+            }
+            byte[] dst = base64;
+            int sp = 0;
+            int dp = 0;
+            int end = length - length % 3;
+            while (sp < end) {
+                int triplet = (src[sp++] & 0xff) << 16 | (src[sp++] & 0xff) << 8 | (src[sp++] & 0xff);
+                dst[dp++] = BASE64_ALPHABET[triplet >>> 18];
+                dst[dp++] = BASE64_ALPHABET[(triplet >>> 12) & 0x3f];
+                dst[dp++] = BASE64_ALPHABET[(triplet >>> 6) & 0x3f];
+                dst[dp++] = BASE64_ALPHABET[triplet & 0x3f];
+            }
+            if (sp < length) {
+                int b0 = src[sp++] & 0xff;
+                dst[dp++] = BASE64_ALPHABET[b0 >> 2];
+                if (sp == length) {
+                    dst[dp++] = BASE64_ALPHABET[(b0 << 4) & 0x3f];
+                    dst[dp++] = '=';
+                } else {
+                    int b1 = src[sp] & 0xff;
+                    dst[dp++] = BASE64_ALPHABET[(b0 << 4) & 0x3f | (b1 >> 4)];
+                    dst[dp++] = BASE64_ALPHABET[(b1 << 2) & 0x3f];
+                }
+                dst[dp++] = '=';
+            }
+            return new String(dst, 0, dp, StandardCharsets.US_ASCII);
+        }
+
+        /**
+         * Decodes Base64 into {@link #compressed}, padding is optional as for {@link java.util.Base64.Decoder}.
+         *
+         * @return the number of decoded bytes
+         */
+        private int decodeBase64(String src) {
+            int length = src.length();
+            int padding = 0;
+            while (padding < 2 && length > 0 && src.charAt(length - 1) == '=') {
+                length--;
+                padding++;
+            }
+            if (padding > 0 && src.length() % 4 != 0) {
+                throw new BitSetManagerException("Invalid padding of encoded list");
+            }
+            int decodedLength = length / 4 * 3 + 2;
+            if (decodedLength > MAX_COMPRESSED_LENGTH) {
+                throw new BitSetManagerException("Encoded list exceeds the status list size");
+            }
+            if (compressed.length < decodedLength) {
+                compressed = new byte[decodedLength];
+            }
+            byte[] dst = compressed;
+            int dp = 0;
+            int quantum = 0;
+            int shift = 18;
+            for (int i = 0; i < length; i++) {
+                char c = src.charAt(i);
+                int value = c < BASE64_VALUES.length ? BASE64_VALUES[c] : -1;
+                if (value < 0) {
+                    throw new BitSetManagerException("Illegal character in encoded list at index " + i);
+                }
+                quantum |= value << shift;
+                shift -= 6;
+                if (shift < 0) {
+                    dst[dp++] = (byte) (quantum >> 16);
+                    dst[dp++] = (byte) (quantum >> 8);
+                    dst[dp++] = (byte) quantum;
+                    quantum = 0;
+                    shift = 18;
+                }
+            }
+            if (shift == 12) {
+                throw new BitSetManagerException("Invalid length of encoded list");
+            }
+            if (shift == 6) {
+                dst[dp++] = (byte) (quantum >> 16);
+            } else if (shift == 0) {
+                dst[dp++] = (byte) (quantum >> 16);
+                dst[dp++] = (byte) (quantum >> 8);
+            }
+            return dp;
+        }
+    }
+
+    /**
+     * Checks the gzip header, including the optional fields {@link java.util.zip.GZIPInputStream}
+     * accepts.
+     *
+     * @return the offset of the deflate stream
+     */
+    private static int skipHeader(byte[] data, int length) {
+        if (length < GZIP_HEADER_LENGTH + GZIP_TRAILER_LENGTH
+                || data[0] != GZIP_HEADER[0] || data[1] != GZIP_HEADER[1] || data[2] != Deflater.DEFLATED) {
+            throw new BitSetManagerException("Encoded list is not in gzip format");
+        }
+        int flags = data[3] & 0xff;
+        int offset = GZIP_HEADER_LENGTH;
+        if ((flags & FEXTRA) != 0) {
+            offset += 2 + ((data[offset] & 0xff) | (data[offset + 1] & 0xff) << 8);
+        }
+        if ((flags & FNAME) != 0) {
+            offset = skipZeroTerminated(data, offset, length);
+        }
+        if ((flags & FCOMMENT) != 0) {
+            offset = skipZeroTerminated(data, offset, length);
+        }
+        if ((flags & FHCRC) != 0) {
+            offset += 2;
+        }
+        if (offset > length - GZIP_TRAILER_LENGTH) {
+            throw new BitSetManagerException("Unexpected end of encoded list");
+        }
+        return offset;
+    }
+
+    private static int skipZeroTerminated(byte[] data, int offset, int length) {
+        while (offset < length && data[offset] != 0) {
+            offset++;
+        }
+        return offset + 1;
+    }
+
+    private static void writeIntLE(byte[] data, int offset, int value) {
+        data[offset] = (byte) value;
+        data[offset + 1] = (byte) (value >> 8);
+        data[offset + 2] = (byte) (value >> 16);
+        data[offset + 3] = (byte) (value >> 24);
+    }
+
+    private static int readIntLE(byte[] data, int offset) {
+        return (data[offset] & 0xff) | (data[offset + 1] & 0xff) << 8
+                | (data[offset + 2] & 0xff) << 16 | (data[offset + 3] & 0xff) << 24;
+    }
+}
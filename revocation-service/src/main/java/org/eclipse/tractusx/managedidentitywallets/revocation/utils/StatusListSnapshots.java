@@ -0,0 +1,256 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.utils;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.StatusListVersion;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotLinkException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * File layout of the static snapshots of signed status lists. The snapshot of status list
+ * "BPNL000000000000-revocation#1" is found below the snapshot directory at the path of its URL
+ * below {@code /credentials}, and next to it gzip compressed:
+ *
+ * <pre>
+ * BPNL000000000000/revocation/1       -> 1.7.json
+ * BPNL000000000000/revocation/1.gz    -> 1.7.json.gz
+ * BPNL000000000000/revocation/1.7.json
+ * BPNL000000000000/revocation/1.7.json.gz
+ * </pre>
+ *
+ * <p>The links are replaced atomically when a new version is written, the files they point to are
+ * never modified, so a reader that resolved a link reads a consistent snapshot of the version in the
+ * file name. Static web servers serve the links, e.g. nginx with {@code gzip_static} enabled.
+ */
+public final class StatusListSnapshots {
+
+    public static final String GZIP_SUFFIX = ".gz";
+
+    private static final String JSON_SUFFIX = ".json";
+
+    private static final Set<PosixFilePermission> FILE_PERMISSIONS = PosixFilePermissions.fromString("rw-r--r--");
+
+    private StatusListSnapshots() {
+        // static
+    }
+
+    /**
+     * A snapshot file of a status list.
+     *
+     * @param file         the file, it is never modified
+     * @param version      the version of the status list credential in the file
+     * @param length       the length of the file
+     * @param lastModified the time the status list credential has been signed
+     */
+    public record Snapshot(Path file, long version, long length, Instant lastModified) {
+
+        /**
+         * The entity tag of the status list version, the same as the one of the status list endpoint.
+         *
+         * @return the quoted entity tag
+         */
+        public String eTag() {
+            return "\"" + version + "\"";
+        }
+    }
+
+    /**
+     * The link to the current snapshot of a status list.
+     *
+     * @param directory the snapshot directory
+     * @param issuerBpn the issuer BPN
+     * @param purpose   the status purpose
+     * @param index     the index of the status list
+     * @param gzip      whether the link to the gzip compressed snapshot is returned
+     * @return the link
+     */
+    public static Path link(Path directory, String issuerBpn, String purpose, String index, boolean gzip) {
+        return directory.resolve(issuerBpn).resolve(purpose).resolve(gzip ? index + GZIP_SUFFIX : index);
+    }
+
+    /**
+     * The link to the current snapshot of a status list.
+     *
+     * @param directory    the snapshot directory
+     * @param statusListId the status list id, e.g. "BPNL000000000000-revocation#1"
+     * @param gzip         whether the link to the gzip compressed snapshot is returned
+     * @return the link
+     */
+    public static Path link(Path directory, String statusListId, boolean gzip) {
+        int purposeStart = statusListId.indexOf('-');
+        int indexStart = statusListId.lastIndexOf('#');
+        if (purposeStart < 0 || indexStart < purposeStart) {
+            throw new IllegalArgumentException("Invalid status list id " + statusListId);
+        }
+        return link(directory, statusListId.substring(0, purposeStart),
+                statusListId.substring(purposeStart + 1, indexStart), statusListId.substring(indexStart + 1), gzip);
+    }
+
+    /**
+     * Resolves the link to a snapshot.
+     *
+     * @param link the link
+     * @return the snapshot or null if there is none
+     * @throws IOException if the snapshot cannot be read
+     */
+    public static Snapshot read(Path link) throws IOException {
+        Path target;
+        try {
+            target = Files.readSymbolicLink(link);
+        } catch (NoSuchFileException | NotLinkException e) {
+            return null;
+        }
+        String index = link.getFileName().toString();
+        if (index.endsWith(GZIP_SUFFIX)) {
+            index = index.substring(0, index.length() - GZIP_SUFFIX.length());
+        }
+        String name = target.getFileName().toString();
+        int versionEnd = name.indexOf(JSON_SUFFIX);
+        if (!name.startsWith(index + ".") || versionEnd <= index.length() + 1) {
+            throw new IOException("Unexpected snapshot " + target + " linked from " + link);
+        }
+        long version;
+        try {
+            version = Long.parseLong(name.substring(index.length() + 1, versionEnd));
+        } catch (NumberFormatException e) {
+            throw new IOException("Unexpected snapshot " + target + " linked from " + link, e);
+        }
+        Path file = link.resolveSibling(target);
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        return new Snapshot(file, version, attributes.size(), attributes.lastModifiedTime().toInstant());
+    }
+
+    /**
+     * Writes the snapshot of a status list version, unless the current snapshot is of the same or a
+     * newer version.
+     *
+     * @param directory    the snapshot directory
+     * @param statusListId the status list id
+     * @param version      the version of the status list credential
+     * @param json         the serialized status list credential
+     * @return the files of the superseded snapshot, they can be deleted once no reader uses them anymore
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static List<Path> write(Path directory, String statusListId, StatusListVersion version, byte[] json)
+            throws IOException {
+        Path link = link(directory, statusListId, false);
+        Path gzipLink = link(directory, statusListId, true);
+        Snapshot current = read(link);
+        if (current != null && current.version() >= version.version()) {
+            return List.of();
+        }
+        Files.createDirectories(link.getParent());
+        String name = link.getFileName() + "." + version.version() + JSON_SUFFIX;
+        Path file = link.resolveSibling(name);
+        Path gzipFile = link.resolveSibling(name + GZIP_SUFFIX);
+        writeFile(gzipFile, gzip(json), version.publishedAt());
+        writeFile(file, json, version.publishedAt());
+        replaceLink(gzipLink, gzipFile.getFileName());
+        replaceLink(link, file.getFileName());
+        if (current == null) {
+            return List.of();
+        }
+        return List.of(current.file(), current.file().resolveSibling(current.file().getFileName() + GZIP_SUFFIX));
+    }
+
+    /**
+     * Compresses a serialized status list credential, as the snapshot is compressed once and
+     * served many times with the best compression.
+     *
+     * @param json the serialized status list credential
+     * @return the gzip stream
+     */
+    public static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeFile(Path file, byte[] content, Instant lastModified) throws IOException {
+        Path temp = temporary(file);
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(content);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                // the link must never point to a file that is incomplete after a crash
+                channel.force(true);
+            }
+            if (temp.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+                // readable by a static web server running as another user
+                Files.setPosixFilePermissions(temp, FILE_PERMISSIONS);
+            }
+            Files.setLastModifiedTime(temp, FileTime.from(lastModified));
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void replaceLink(Path link, Path target) throws IOException {
+        Path temp = temporary(link);
+        try {
+            Files.createSymbolicLink(temp, target);
+            Files.move(temp, link, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static Path temporary(Path path) {
+        return path.resolveSibling("." + path.getFileName() + "." + UUID.randomUUID() + ".tmp");
+    }
+}
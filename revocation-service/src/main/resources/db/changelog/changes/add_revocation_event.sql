@@ -0,0 +1,45 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+
+-- liquibase formatted sql
+
+-- changeset revocation:add-revocation-event dbms:postgresql
+CREATE TABLE revocation_event (
+  id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+   status_list_id VARCHAR(256) NOT NULL,
+   status_index INTEGER NOT NULL,
+   created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+   CONSTRAINT pk_revocationevent PRIMARY KEY (id),
+   CONSTRAINT uc_revocationevent_status_list_index UNIQUE (status_list_id, status_index),
+   CONSTRAINT fk_revocationevent_on_status_list_credential FOREIGN KEY (status_list_id) REFERENCES status_list_credential (id)
+);
+
+-- changeset revocation:add-revocation-event dbms:h2
+CREATE TABLE IF NOT EXISTS revocation_event (
+  id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+   status_list_id VARCHAR(256) NOT NULL,
+   status_index INTEGER NOT NULL,
+   created_at TIMESTAMP NOT NULL,
+   CONSTRAINT pk_revocationevent PRIMARY KEY (id),
+   CONSTRAINT uc_revocationevent_status_list_index UNIQUE (status_list_id, status_index),
+   CONSTRAINT fk_revocationevent_on_status_list_credential FOREIGN KEY (status_list_id) REFERENCES status_list_credential (id)
+);
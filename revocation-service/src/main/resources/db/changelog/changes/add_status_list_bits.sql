@@ -0,0 +1,32 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+-- liquibase formatted sql
+
+-- changeset revocation:add-status-list-bits dbms:postgresql
+ALTER TABLE status_list_credential ADD COLUMN status_bits BYTEA;
+ALTER TABLE status_list_credential ADD COLUMN status_bits_version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE status_list_credential ADD COLUMN signed_version BIGINT DEFAULT 0 NOT NULL;
+
+-- changeset revocation:add-status-list-bits dbms:h2
+ALTER TABLE status_list_credential ADD COLUMN IF NOT EXISTS status_bits VARBINARY;
+ALTER TABLE status_list_credential ADD COLUMN IF NOT EXISTS status_bits_version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE status_list_credential ADD COLUMN IF NOT EXISTS signed_version BIGINT DEFAULT 0 NOT NULL;
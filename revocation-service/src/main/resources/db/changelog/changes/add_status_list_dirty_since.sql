@@ -0,0 +1,32 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+-- liquibase formatted sql
+
+-- changeset revocation:add-status-list-dirty-since dbms:postgresql
+ALTER TABLE status_list_credential ADD COLUMN dirty_since TIMESTAMP WITHOUT TIME ZONE;
+UPDATE status_list_credential SET dirty_since = modified_at WHERE signed_version < status_bits_version;
+CREATE INDEX idx_status_list_credential_dirty_since ON status_list_credential (dirty_since);
+
+-- changeset revocation:add-status-list-dirty-since dbms:h2
+ALTER TABLE status_list_credential ADD COLUMN IF NOT EXISTS dirty_since TIMESTAMP;
+UPDATE status_list_credential SET dirty_since = modified_at WHERE signed_version < status_bits_version;
+CREATE INDEX IF NOT EXISTS idx_status_list_credential_dirty_since ON status_list_credential (dirty_since);
@@ -0,0 +1,32 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+-- liquibase formatted sql
+
+-- changeset revocation:add-status-list-next-index dbms:postgresql
+ALTER TABLE status_list_index ADD COLUMN next_index INTEGER DEFAULT 0 NOT NULL;
+UPDATE status_list_index SET next_index = CAST(current_index AS INTEGER) + 1 WHERE current_index IS NOT NULL;
+ALTER TABLE status_list_index DROP COLUMN current_index;
+
+-- changeset revocation:add-status-list-next-index dbms:h2
+ALTER TABLE status_list_index ADD COLUMN IF NOT EXISTS next_index INTEGER DEFAULT 0 NOT NULL;
+UPDATE status_list_index SET next_index = CAST(current_index AS INTEGER) + 1 WHERE current_index IS NOT NULL;
+ALTER TABLE status_list_index DROP COLUMN IF EXISTS current_index;
@@ -22,6 +22,7 @@
 package org.eclipse.tractusx.managedidentitywallets.revocation;
 
 import lombok.SneakyThrows;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListSettings;
 import org.eclipse.tractusx.managedidentitywallets.revocation.dto.StatusListCredentialSubject;
 import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.StatusListCredential;
 import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.StatusListIndex;
@@ -43,6 +44,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URI;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Base64;
@@ -74,14 +76,20 @@ public class TestUtil {
             "https://example.com/status/3#list";
 
     public static StatusListIndex mockStatusListIndex(
-            String issuerBpnStatus, StatusListCredential statusListCredential, String currentIndex) {
+            String issuerBpnStatus, StatusListCredential statusListCredential) {
         var statusListIndex = Mockito.mock(StatusListIndex.class);
         when(statusListIndex.getStatusListCredential()).thenReturn(statusListCredential);
-        when(statusListIndex.getCurrentIndex()).thenReturn(currentIndex);
         when(statusListIndex.getIssuerBpnStatus()).thenReturn(issuerBpnStatus);
         return statusListIndex;
     }
 
+    public static StatusListSettings statusListSettings(boolean trustedStore, boolean writeBehind, boolean eventLog,
+                                                        double provisioningThreshold) {
+        return new StatusListSettings(trustedStore, new StatusListSettings.WriteBehind(writeBehind),
+                Duration.ofMinutes(1), new StatusListSettings.EventLog(eventLog, 100),
+                new StatusListSettings.Provisioning(provisioningThreshold));
+    }
+
     public static String mockEmptyEncodedList() {
         BitSet bitSet = new BitSet(BITSET_SIZE);
         return Base64.getEncoder().encodeToString(gzipCompress(bitSet));
@@ -130,6 +138,7 @@ public class TestUtil {
         when(statusListCredential.getId()).thenReturn(STATUS_LIST_ID);
         when(statusListCredential.getIssuerBpn()).thenReturn(issuer);
         when(statusListCredential.getCreatedAt()).thenReturn(LocalDateTime.now());
+        when(statusListCredential.getUpdatedAt()).thenReturn(LocalDateTime.now());
 
         return statusListCredential;
     }
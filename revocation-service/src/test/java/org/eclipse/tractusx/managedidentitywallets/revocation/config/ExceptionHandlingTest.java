@@ -23,6 +23,7 @@ package org.eclipse.tractusx.managedidentitywallets.revocation.config;
 
 import org.eclipse.tractusx.managedidentitywallets.commons.exception.ForbiddenException;
 import org.eclipse.tractusx.managedidentitywallets.revocation.exception.CredentialAlreadyRevokedException;
+import org.eclipse.tractusx.managedidentitywallets.revocation.exception.StatusListChangesGoneException;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
@@ -70,4 +71,14 @@ class ExceptionHandlingTest {
         assertEquals("IllegalArgumentException: illegal", problemDetail.getTitle());
         assertEquals(HttpStatus.BAD_REQUEST.value(), problemDetail.getStatus());
     }
+
+    @Test
+    void handleStatusListChangesGoneException() {
+        ProblemDetail problemDetail = exceptionHandling.handleStatusListChangesGoneException(
+                new StatusListChangesGoneException("changes not available"));
+
+        assertNotNull(problemDetail);
+        assertEquals("changes not available", problemDetail.getDetail());
+        assertEquals(HttpStatus.GONE.value(), problemDetail.getStatus());
+    }
 }
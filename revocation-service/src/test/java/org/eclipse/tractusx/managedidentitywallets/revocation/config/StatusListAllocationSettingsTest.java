@@ -0,0 +1,77 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.config;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.utils.BitSetManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StatusListAllocationSettingsTest {
+
+    private static final String BPN = "BPNL000000000000";
+
+    @Test
+    void shouldResolveDefaultsWithoutOverrides() {
+        StatusListAllocationSettings settings = new StatusListAllocationSettings(BitSetManager.BITSET_SIZE, 1, null);
+
+        assertEquals(new StatusListAllocationSettings.Allocation(BitSetManager.BITSET_SIZE, 1),
+                settings.resolve(BPN, "revocation"));
+    }
+
+    @Test
+    void shouldApplyMostSpecificOverride() {
+        StatusListAllocationSettings settings = new StatusListAllocationSettings(BitSetManager.BITSET_SIZE, 1, Map.of(
+                "revocation", new StatusListAllocationSettings.Allocation(8192, 2),
+                BPN, new StatusListAllocationSettings.Allocation(null, 4),
+                BPN + "-revocation", new StatusListAllocationSettings.Allocation(1024, null)));
+
+        assertEquals(new StatusListAllocationSettings.Allocation(1024, 4), settings.resolve(BPN, "revocation"));
+        assertEquals(new StatusListAllocationSettings.Allocation(8192, 2),
+                settings.resolve("BPNL000000000001", "revocation"));
+    }
+
+    @Test
+    void shouldMatchOverridesIgnoringCase() {
+        StatusListAllocationSettings settings = new StatusListAllocationSettings(BitSetManager.BITSET_SIZE, 1,
+                Map.of(BPN.toLowerCase(), new StatusListAllocationSettings.Allocation(1024, 2)));
+
+        assertEquals(new StatusListAllocationSettings.Allocation(1024, 2), settings.resolve(BPN, "revocation"));
+    }
+
+    @Test
+    void shouldRejectInvalidSizes() {
+        Map<String, StatusListAllocationSettings.Allocation> noOverrides = Map.of();
+        assertThrows(IllegalArgumentException.class,
+                () -> new StatusListAllocationSettings(BitSetManager.BITSET_SIZE + 8, 1, noOverrides));
+        assertThrows(IllegalArgumentException.class, () -> new StatusListAllocationSettings(1001, 1, noOverrides));
+        assertThrows(IllegalArgumentException.class, () -> new StatusListAllocationSettings(0, 1, noOverrides));
+        assertThrows(IllegalArgumentException.class, () -> new StatusListAllocationSettings(1024, 0, noOverrides));
+        Map<String, StatusListAllocationSettings.Allocation> invalidOverride =
+                Map.of(BPN, new StatusListAllocationSettings.Allocation(100, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new StatusListAllocationSettings(1024, 1, invalidOverride));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatusListSettingsTest {
+
+    @Test
+    void shouldBindDefaults() {
+        StatusListSettings settings = bind(Map.of());
+
+        assertFalse(settings.trustedStore());
+        assertFalse(settings.writeBehind().enabled());
+        assertEquals(Duration.ofMinutes(1), settings.republishDelay());
+        assertFalse(settings.eventLog().enabled());
+        assertEquals(100, settings.eventLog().batchSize());
+        assertEquals(0.9, settings.provisioning().threshold());
+    }
+
+    @Test
+    void shouldBindApplicationProperties() {
+        StatusListSettings settings = bind(Map.of(
+                "revocation.statusList.trustedStore", "true",
+                "revocation.statusList.writeBehind.enabled", "true",
+                "revocation.statusList.writeBehind.interval", "PT30S",
+                "revocation.statusList.republishDelay", "PT5M",
+                "revocation.statusList.eventLog.enabled", "true",
+                "revocation.statusList.eventLog.batchSize", "10",
+                "revocation.statusList.provisioning.threshold", "0.5"));
+
+        assertTrue(settings.trustedStore());
+        assertTrue(settings.writeBehind().enabled());
+        assertEquals(Duration.ofMinutes(5), settings.republishDelay());
+        assertTrue(settings.eventLog().enabled());
+        assertEquals(10, settings.eventLog().batchSize());
+        assertEquals(0.5, settings.provisioning().threshold());
+    }
+
+    @Test
+    void shouldRejectInvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> new StatusListSettings.Provisioning(1.5));
+        assertThrows(IllegalArgumentException.class, () -> new StatusListSettings.EventLog(true, 0));
+    }
+
+    private static StatusListSettings bind(Map<String, String> properties) {
+        return new Binder(new MapConfigurationPropertySource(properties))
+                .bindOrCreate("revocation.status-list", Bindable.of(StatusListSettings.class));
+    }
+}
@@ -25,10 +25,18 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.tractusx.managedidentitywallets.commons.constant.RevocationPurpose;
 import org.eclipse.tractusx.managedidentitywallets.commons.constant.StringPool;
 import org.eclipse.tractusx.managedidentitywallets.revocation.constant.RevocationApiEndpoints;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.PublishedStatusListCredential;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.StatusListVersion;
+import org.eclipse.tractusx.managedidentitywallets.revocation.dto.BatchRevocationDto;
+import org.eclipse.tractusx.managedidentitywallets.revocation.dto.BatchVerificationDto;
 import org.eclipse.tractusx.managedidentitywallets.revocation.dto.CredentialStatusDto;
+import org.eclipse.tractusx.managedidentitywallets.revocation.dto.RevocationResultDto;
 import org.eclipse.tractusx.managedidentitywallets.revocation.dto.StatusEntryDto;
+import org.eclipse.tractusx.managedidentitywallets.revocation.dto.StatusListChangesDto;
 import org.eclipse.tractusx.managedidentitywallets.revocation.dto.StatusListCredentialSubject;
+import org.eclipse.tractusx.managedidentitywallets.revocation.dto.VerificationResultDto;
 import org.eclipse.tractusx.managedidentitywallets.revocation.services.RevocationService;
+import org.eclipse.tractusx.managedidentitywallets.revocation.services.StatusListEventBroadcaster;
 import org.eclipse.tractusx.managedidentitywallets.revocation.utils.BitSetManager;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,9 +50,11 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.security.Principal;
 import java.time.Instant;
@@ -59,10 +69,13 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -77,11 +90,15 @@ class RevocationApiControllerTest {
     @Mock
     private RevocationService revocationService;
 
+    @Mock
+    private StatusListEventBroadcaster statusListEventBroadcaster;
+
     @InjectMocks
     private RevocationApiController revocationApiController;
 
     @BeforeEach
     public void setup() {
+        ReflectionTestUtils.setField(revocationApiController, "statusListCacheControl", "no-cache");
         mockMvc = MockMvcBuilders.standaloneSetup(revocationApiController).build();
         objectMapper = new ObjectMapper();
         Mockito.reset(revocationService);
@@ -119,6 +136,39 @@ class RevocationApiControllerTest {
                 .andExpect(jsonPath("$.id").value(credentialStatusDto.id()));
     }
 
+    @Test
+    void whenPostCreateStatusListVCs_thenReturnStatuses() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(revocationApiController, "statusEntryBatchMaxSize", 10);
+        StatusEntryDto statusEntryDto = new StatusEntryDto(RevocationPurpose.REVOCATION.name(), DID);
+        List<CredentialStatusDto> credentialStatusDtos = List.of("0", "1").stream()
+                .map(index -> new CredentialStatusDto(
+                        "https://example.com/revocations/credentials/" + BPN + "/revocation/1#" + index,
+                        RevocationPurpose.REVOCATION.name(),
+                        index,
+                        "https://example.com/revocations/credentials/" + BPN + "/revocation/1",
+                        StatusListCredentialSubject.TYPE_ENTRY))
+                .toList();
+        given(revocationService.createStatusLists(statusEntryDto, 2, "token"))
+                .willReturn(credentialStatusDtos);
+        when(revocationService.extractBpnFromDid(DID)).thenReturn(BPN);
+
+        Principal mockPrincipal = mockPrincipal(BPN);
+        // When & Then
+        mockMvc
+                .perform(
+                        MockMvcRequestBuilders.post(RevocationApiEndpoints.REVOCATION_API + RevocationApiEndpoints.STATUS_ENTRY_BATCH)
+                                .param("count", "2")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.AUTHORIZATION, "token")
+                                .principal(mockPrincipal)
+                                .content(objectMapper.writeValueAsString(statusEntryDto)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].statusListIndex").value("0"))
+                .andExpect(jsonPath("$[1].statusListIndex").value("1"));
+    }
+
     private Principal mockPrincipal(String name) {
 
         Jwt jwt = mock(Jwt.class);
@@ -159,6 +209,88 @@ class RevocationApiControllerTest {
         verify(revocationService).revoke(credentialStatusDto, "token");
     }
 
+    @Test
+    void whenPostRevokeCredentialBatch_thenReturnResults() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(revocationApiController, "revokeBatchMaxSize", 10);
+        CredentialStatusDto first =
+                new CredentialStatusDto(
+                        "http://example.com/credentials/" + BPN + "/revocation/1#1",
+                        "revocation",
+                        "1",
+                        "http://example.com/credentials/" + BPN + "/revocation/1",
+                        StatusListCredentialSubject.TYPE_ENTRY);
+        CredentialStatusDto second =
+                new CredentialStatusDto(
+                        "http://example.com/credentials/" + BPN + "/revocation/1#2",
+                        "revocation",
+                        "2",
+                        "http://example.com/credentials/" + BPN + "/revocation/1",
+                        StatusListCredentialSubject.TYPE_ENTRY);
+        BatchRevocationDto batchRevocationDto = new BatchRevocationDto(List.of(first, second));
+        when(revocationService.extractBpnFromURL(any())).thenReturn(BPN);
+        when(revocationService.revokeBatch(List.of(first, second), "token"))
+                .thenReturn(List.of(
+                        new RevocationResultDto(first.id(), RevocationResultDto.Status.REVOKED),
+                        new RevocationResultDto(second.id(), RevocationResultDto.Status.ALREADY_REVOKED)));
+
+        Principal mockPrincipal = mockPrincipal(BPN);
+        // When & Then
+        mockMvc
+                .perform(
+                        MockMvcRequestBuilders.post(RevocationApiEndpoints.REVOCATION_API + RevocationApiEndpoints.REVOKE_BATCH)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.AUTHORIZATION, "token")
+                                .principal(mockPrincipal)
+                                .content(objectMapper.writeValueAsString(batchRevocationDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(first.id()))
+                .andExpect(jsonPath("$[0].status").value("REVOKED"))
+                .andExpect(jsonPath("$[1].status").value("ALREADY_REVOKED"));
+        verify(revocationService).revokeBatch(List.of(first, second), "token");
+    }
+
+    @Test
+    void whenPostVerifyCredentialBatch_thenReturnStatuses() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(revocationApiController, "verifyBatchMaxSize", 10);
+        CredentialStatusDto first =
+                new CredentialStatusDto(
+                        "http://example.com/credentials/" + BPN + "/revocation/1#1",
+                        "revocation",
+                        "1",
+                        "http://example.com/credentials/" + BPN + "/revocation/1",
+                        StatusListCredentialSubject.TYPE_ENTRY);
+        CredentialStatusDto second =
+                new CredentialStatusDto(
+                        "http://example.com/credentials/" + BPN + "/revocation/2#2",
+                        "revocation",
+                        "2",
+                        "http://example.com/credentials/" + BPN + "/revocation/2",
+                        StatusListCredentialSubject.TYPE_ENTRY);
+        BatchVerificationDto batchVerificationDto = new BatchVerificationDto(List.of(first, second));
+        when(revocationService.extractBpnFromURL(any())).thenReturn(BPN);
+        when(revocationService.verifyStatuses(List.of(first, second)))
+                .thenReturn(List.of(
+                        new VerificationResultDto(first.id(), "revoked"),
+                        new VerificationResultDto(second.id(), "active")));
+
+        Principal mockPrincipal = mockPrincipal(BPN);
+        // When & Then
+        mockMvc
+                .perform(
+                        MockMvcRequestBuilders.post(RevocationApiEndpoints.REVOCATION_API + RevocationApiEndpoints.VERIFY_BATCH)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.AUTHORIZATION, "token")
+                                .principal(mockPrincipal)
+                                .content(objectMapper.writeValueAsString(batchVerificationDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(first.id()))
+                .andExpect(jsonPath("$[0].status").value("revoked"))
+                .andExpect(jsonPath("$[1].id").value(second.id()))
+                .andExpect(jsonPath("$[1].status").value("active"));
+    }
+
     @Test
     void whenGetCredential_thenReturnCredentials() throws Exception {
         // Given
@@ -167,7 +299,8 @@ class RevocationApiControllerTest {
                 new VerifiableCredential(
                         createVerifiableCredentialTestData()); // Populate with valid test data
         given(revocationService.getStatusListCredential(any(), any(), any()))
-                .willReturn(verifiableCredential);
+                .willReturn(new PublishedStatusListCredential(
+                        verifiableCredential, new StatusListVersion(2, Instant.parse("2024-02-05T09:39:58Z"))));
         // When & Then
         mockMvc
                 .perform(
@@ -179,9 +312,132 @@ class RevocationApiControllerTest {
                                         .replace("{index}", "1")))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(header().string(HttpHeaders.LAST_MODIFIED, "Mon, 05 Feb 2024 09:39:58 GMT"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
                 .andExpect(jsonPath("$.id").value(verifiableCredential.getId().toString()));
     }
 
+    @Test
+    void whenGetStatusListChanges_thenReturnChanges() throws Exception {
+        VerifiableCredential checkpoint = new VerifiableCredential(createVerifiableCredentialTestData());
+        given(revocationService.getStatusListChanges(BPN, "revocation", "1", 3))
+                .willReturn(new StatusListChangesDto("http://example.com/list", 3, 5, List.of(17, 42), checkpoint));
+
+        mockMvc
+                .perform(
+                        MockMvcRequestBuilders.get(
+                                        RevocationApiEndpoints.REVOCATION_API
+                                                + RevocationApiEndpoints.CREDENTIALS_STATUS_INDEX_CHANGES
+                                                .replace("{issuerBPN}", BPN)
+                                                .replace("{status}", "Revocation")
+                                                .replace("{index}", "1"))
+                                .param("since", "3"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5\""))
+                .andExpect(jsonPath("$.version").value(5))
+                .andExpect(jsonPath("$.indices[1]").value(42))
+                .andExpect(jsonPath("$.checkpoint.id").value(checkpoint.getId().toString()));
+    }
+
+    @Test
+    void whenGetChangesOfUnknownStatusList_thenReturnNotFound() throws Exception {
+        given(revocationService.getStatusListChanges(any(), any(), any(), Mockito.anyLong())).willReturn(null);
+
+        mockMvc
+                .perform(
+                        MockMvcRequestBuilders.get(
+                                        RevocationApiEndpoints.REVOCATION_API
+                                                + RevocationApiEndpoints.CREDENTIALS_STATUS_INDEX_CHANGES
+                                                .replace("{issuerBPN}", BPN)
+                                                .replace("{status}", "revocation")
+                                                .replace("{index}", "2"))
+                                .param("since", "0"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void whenSubscribeToStatusListChanges_thenStartStream() throws Exception {
+        Principal mockPrincipal = mockPrincipal(BPN);
+        given(statusListEventBroadcaster.subscribe(BPN, BPN, 42L)).willReturn(new SseEmitter());
+
+        mockMvc
+                .perform(
+                        MockMvcRequestBuilders.get(
+                                        RevocationApiEndpoints.REVOCATION_API + RevocationApiEndpoints.CREDENTIALS_EVENTS)
+                                .principal(mockPrincipal)
+                                .param("issuerBPN", BPN.toLowerCase())
+                                .header("Last-Event-ID", "42"))
+                .andExpect(request().asyncStarted());
+
+        verify(statusListEventBroadcaster).subscribe(BPN, BPN, 42L);
+    }
+
+    @Test
+    void whenGetKnownCredentialVersion_thenReturnNotModifiedWithoutLoadingIt() throws Exception {
+        // Given
+        given(revocationService.getKnownStatusListVersion(BPN, "revocation", "1"))
+                .willReturn(new StatusListVersion(2, Instant.parse("2024-02-05T09:39:58Z")));
+        // When & Then
+        mockMvc
+                .perform(
+                        MockMvcRequestBuilders.get(
+                                        RevocationApiEndpoints.REVOCATION_API
+                                                + RevocationApiEndpoints.CREDENTIALS_STATUS_INDEX
+                                                .replace("{issuerBPN}", BPN)
+                                                .replace("{status}", "revocation")
+                                                .replace("{index}", "1"))
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(content().string(""));
+        verify(revocationService, never()).getStatusListCredential(any(), any(), any());
+    }
+
+    @Test
+    void whenGetCredentialNotModifiedSince_thenReturnNotModified() throws Exception {
+        // Given
+        given(revocationService.getStatusListCredential(any(), any(), any()))
+                .willReturn(new PublishedStatusListCredential(
+                        new VerifiableCredential(createVerifiableCredentialTestData()),
+                        new StatusListVersion(2, Instant.parse("2024-02-05T09:39:58Z"))));
+        // When & Then
+        mockMvc
+                .perform(
+                        MockMvcRequestBuilders.get(
+                                        RevocationApiEndpoints.REVOCATION_API
+                                                + RevocationApiEndpoints.CREDENTIALS_STATUS_INDEX
+                                                .replace("{issuerBPN}", BPN)
+                                                .replace("{status}", "revocation")
+                                                .replace("{index}", "1"))
+                                .header(HttpHeaders.IF_MODIFIED_SINCE, "Mon, 05 Feb 2024 09:39:58 GMT"))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void whenGetChangedCredential_thenReturnCredential() throws Exception {
+        // Given
+        given(revocationService.getKnownStatusListVersion(BPN, "revocation", "1"))
+                .willReturn(new StatusListVersion(3, Instant.parse("2024-02-05T09:39:58Z")));
+        given(revocationService.getStatusListCredential(BPN, "revocation", "1"))
+                .willReturn(new PublishedStatusListCredential(
+                        new VerifiableCredential(createVerifiableCredentialTestData()),
+                        new StatusListVersion(3, Instant.parse("2024-02-05T09:39:58Z"))));
+        // When & Then
+        mockMvc
+                .perform(
+                        MockMvcRequestBuilders.get(
+                                        RevocationApiEndpoints.REVOCATION_API
+                                                + RevocationApiEndpoints.CREDENTIALS_STATUS_INDEX
+                                                .replace("{issuerBPN}", BPN)
+                                                .replace("{status}", "revocation")
+                                                .replace("{index}", "1"))
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+    }
+
     private VerifiableCredential createVerifiableCredentialTestData() {
         Map<String, Object> credentialData = new HashMap<>();
         credentialData.put(
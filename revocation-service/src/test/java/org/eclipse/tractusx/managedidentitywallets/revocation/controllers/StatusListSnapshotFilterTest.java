@@ -0,0 +1,183 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.controllers;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListSnapshotSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.StatusListVersion;
+import org.eclipse.tractusx.managedidentitywallets.revocation.repository.StatusListCredentialRepository;
+import org.eclipse.tractusx.managedidentitywallets.revocation.utils.StatusListSnapshots;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.BPN;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+class StatusListSnapshotFilterTest {
+
+    private static final String PATH = "/api/v1/revocations/credentials/" + BPN + "/revocation/1";
+
+    private static final byte[] JSON = "{\"id\":\"status-list\"}".getBytes(StandardCharsets.UTF_8);
+
+    private static final Instant PUBLISHED_AT = Instant.parse("2024-05-01T10:15:30Z");
+
+    @TempDir
+    Path directory;
+
+    private StatusListCredentialRepository statusListCredentialRepository;
+
+    private StatusListSnapshotFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        statusListCredentialRepository = Mockito.mock(StatusListCredentialRepository.class);
+        when(statusListCredentialRepository.findSignedVersionById(BPN + "-revocation#1")).thenReturn(Optional.of(7L));
+        filter = new StatusListSnapshotFilter(settings(true), statusListCredentialRepository, "max-age=60");
+        StatusListSnapshots.write(directory, BPN + "-revocation#1", new StatusListVersion(7, PUBLISHED_AT), JSON);
+    }
+
+    @Test
+    void shouldServeCompressedSnapshot() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("W/\"7\"", response.getHeader(HttpHeaders.ETAG));
+        assertEquals("max-age=60", response.getHeader(HttpHeaders.CACHE_CONTROL));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeader(HttpHeaders.VARY));
+        assertEquals(PUBLISHED_AT.toEpochMilli(), response.getDateHeader(HttpHeaders.LAST_MODIFIED));
+        assertArrayEquals(StatusListSnapshots.gzip(JSON), response.getContentAsByteArray());
+        assertEquals(response.getContentAsByteArray().length, response.getContentLengthLong());
+    }
+
+    @Test
+    void shouldServeUncompressedSnapshot() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH.replace(BPN, BPN.toLowerCase()));
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("\"7\"", response.getHeader(HttpHeaders.ETAG));
+        assertEquals("application/json", response.getContentType());
+        assertArrayEquals(JSON, response.getContentAsByteArray());
+    }
+
+    @Test
+    void shouldAnswerConditionalRequestWithNotModified() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"6\", \"7\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertEquals(304, response.getStatus());
+        assertEquals("W/\"7\"", response.getHeader(HttpHeaders.ETAG));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void shouldHandOverToSendfile() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        request.setAttribute(StatusListSnapshotFilter.SENDFILE_SUPPORTED, true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        long length = StatusListSnapshots.gzip(JSON).length;
+        assertEquals(directory.resolve(BPN).resolve("revocation").resolve("1.7.json.gz").toAbsolutePath().toString(),
+                request.getAttribute(StatusListSnapshotFilter.SENDFILE_FILENAME));
+        assertEquals(0L, request.getAttribute(StatusListSnapshotFilter.SENDFILE_START));
+        assertEquals(length, request.getAttribute(StatusListSnapshotFilter.SENDFILE_END));
+        assertEquals(length, response.getContentLengthLong());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void shouldPassOnRequestsWithoutSnapshot() throws Exception {
+        for (String path : List.of("/api/v1/revocations/credentials/" + BPN + "/revocation/2", PATH + "/changes",
+                "/api/v1/revocations/credentials/events")) {
+            MockFilterChain chain = new MockFilterChain();
+
+            filter.doFilter(new MockHttpServletRequest("GET", path), new MockHttpServletResponse(), chain);
+
+            assertNotNull(chain.getRequest(), path);
+        }
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("POST", PATH), new MockHttpServletResponse(), chain);
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void shouldPassOnRequestsForOutdatedSnapshot() throws Exception {
+        // another instance published version 8, the snapshot has not been rewritten yet
+        when(statusListCredentialRepository.findSignedVersionById(BPN + "-revocation#1")).thenReturn(Optional.of(8L));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertNotNull(chain.getRequest());
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void shouldRefuseToServeFromUnsharedDirectory() {
+        StatusListSnapshotSettings settings = settings(false);
+
+        assertThrows(IllegalStateException.class,
+                () -> new StatusListSnapshotFilter(settings, statusListCredentialRepository, "max-age=60"));
+    }
+
+    private StatusListSnapshotSettings settings(boolean shared) {
+        return new StatusListSnapshotSettings(directory, Duration.ofMinutes(1), Duration.ofMinutes(1), shared);
+    }
+}
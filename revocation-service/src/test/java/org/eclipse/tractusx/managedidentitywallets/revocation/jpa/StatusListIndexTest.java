@@ -22,7 +22,6 @@
 package org.eclipse.tractusx.managedidentitywallets.revocation.jpa;
 
 import jakarta.validation.ConstraintViolation;
-import org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -37,7 +36,6 @@ import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.BPN;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ExtendWith(SpringExtension.class)
 @AutoConfigureJson
@@ -64,7 +62,7 @@ class StatusListIndexTest {
                 StatusListIndex.builder()
                         .id(id)
                         .issuerBpnStatus(issuerBpnStatus)
-                        .currentIndex("123456") // using numeric string only as index
+                        .nextIndex(123457)
                         .build();
 
         Set<ConstraintViolation<StatusListIndex>> violations = validator.validate(statusListIndex);
@@ -75,13 +73,13 @@ class StatusListIndexTest {
         StatusListIndex found = entityManager.find(StatusListIndex.class, statusListIndex.getId());
         assertThat(found).isNotNull();
         assertThat(found.getIssuerBpnStatus()).isEqualTo(statusListIndex.getIssuerBpnStatus());
-        assertThat(found.getCurrentIndex()).isEqualTo(statusListIndex.getCurrentIndex());
+        assertThat(found.getNextIndex()).isEqualTo(statusListIndex.getNextIndex());
     }
 
     @Test
     void whenIdIsBlank_thenConstraintViolationOccurs() {
         StatusListIndex statusListIndex =
-                StatusListIndex.builder().id(" ").currentIndex("123456").build();
+                StatusListIndex.builder().id(" ").build();
         Set<ConstraintViolation<StatusListIndex>> violations = validator.validate(statusListIndex);
 
         assertThat(violations).isNotEmpty();
@@ -94,7 +92,6 @@ class StatusListIndexTest {
                 StatusListIndex.builder()
                         .issuerBpnStatus(" ")
                         .id(BPN + "-revocation#1")
-                        .currentIndex("123456")
                         .build();
         Set<ConstraintViolation<StatusListIndex>> violations = validator.validate(statusListIndex);
 
@@ -102,56 +99,13 @@ class StatusListIndexTest {
         assertThat(violations.toString()).contains("Issuer BPN with status cannot be blank");
     }
 
-    @Test
-    void whenCurrentIndexIsBlank_thenConstraintViolationOccurs() {
-        StatusListIndex statusListIndex =
-                StatusListIndex.builder().issuerBpnStatus(TestUtil.BPN).currentIndex(" ").build();
-        Set<ConstraintViolation<StatusListIndex>> violations = validator.validate(statusListIndex);
-
-        assertThat(violations).isNotEmpty();
-        assertThat(violations.toString()).contains("Current index cannot be blank");
-    }
-
-    @Test
-    void whenCurrentIndexIsNotNumeric_thenConstraintViolationOccurs() {
-        String id = BPN + "-revocation#1";
-        String issuerBpnStatus = BPN + "-revocation";
-        String wrongIndex = "indexABC";
-
-        StatusListIndex statusListIndex =
-                StatusListIndex.builder()
-                        .id(id)
-                        .issuerBpnStatus(issuerBpnStatus)
-                        .currentIndex(wrongIndex) // invalid non-numeric currentIndex
-                        .build();
-        Set<ConstraintViolation<StatusListIndex>> violations = validator.validate(statusListIndex);
-
-        assertThat(violations).isNotEmpty();
-        assertThat(violations.toString()).contains("Current index must be numeric");
-    }
-
-    @Test
-    void whenSetInvalidCurrentIndex_thenIllegalArgumentExceptionIsThrown() {
-        // Constructing StatusListIndex using the builder pattern
-        // with a valid issuerId and leaving currentIndex unset initially
-        StatusListIndex statusListIndex =
-                StatusListIndex.builder().issuerBpnStatus(BPN + "-revocation").build();
-
-        // Now we attempt to set an invalid (non-numeric) currentIndex
-        // using the setCurrentIndex method which includes validation
-        assertThrows(IllegalArgumentException.class, () -> statusListIndex.setCurrentIndex("indexABC"));
-    }
-
     @Test
     void whenFieldsExceedSizeLimit_thenConstraintViolationOccurs() {
         String longIssuerBpnStatus = BPN + "-revocation1";
-        String longCurrentIndex =
-                "12345".repeat(4); // The repeat count adjusts on the max size of Index
         String id = "normalid".repeat(76); // The repeat count adjusts on the max length of ID
         StatusListIndex statusListIndex =
                 StatusListIndex.builder()
                         .issuerBpnStatus(longIssuerBpnStatus)
-                        .currentIndex(longCurrentIndex)
                         .id(id)
                         .build();
 
@@ -160,6 +114,5 @@ class StatusListIndexTest {
         assertThat(violations).isNotEmpty();
 
         assertThat(violations.toString()).contains("ID cannot exceed 256 characters");
-        assertThat(violations.toString()).contains("Current index cannot exceed 16 characters");
     }
 }
@@ -0,0 +1,152 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.repository;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.StatusListChange;
+import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.StatusListCredential;
+import org.eclipse.tractusx.managedidentitywallets.revocation.utils.BitSetManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.BPN;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.DID;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.mockEmptyEncodedList;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.mockStatusListVC;
+
+/**
+ * Covers the native queries that only run on PostgreSQL.
+ */
+@DataJpaTest
+@AutoConfigureJson
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PostgresRepositoryTest {
+
+    private static final String ID = BPN + "-revocation#1";
+
+    private static final int SIZE = 1024;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:latest"));
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StatusListCredentialRepository statusListCredentialRepository;
+
+    @Autowired
+    private StatusListChangeRepository statusListChangeRepository;
+
+    @Autowired
+    private RevocationEventRepository revocationEventRepository;
+
+    @BeforeEach
+    public void setUp() {
+        entityManager.persistAndFlush(StatusListCredential.builder()
+                .id(ID)
+                .issuerBpn(BPN)
+                .credential(mockStatusListVC(DID, "1", mockEmptyEncodedList()).build())
+                .statusBits(BitSetManager.toStatusBits(new BitSet(), SIZE))
+                .publishedAt(LocalDateTime.now())
+                .build());
+        entityManager.clear();
+    }
+
+    @Test
+    void shouldSetStatusBit() {
+        LocalDateTime changedAt = LocalDateTime.now();
+
+        assertThat(statusListCredentialRepository.setStatusBit(ID, 9, changedAt)).isEqualTo(1);
+        assertThat(statusListCredentialRepository.findStatusBitsVersionById(ID)).contains(1L);
+        entityManager.clear();
+
+        StatusListCredential statusListCredential = statusListCredentialRepository.findById(ID).orElseThrow();
+        BitSet bitSet = BitSet.valueOf(statusListCredential.getStatusBits());
+        assertThat(bitSet.get(9)).isTrue();
+        assertThat(bitSet.cardinality()).isEqualTo(1);
+        assertThat(statusListCredential.getStatusBits()).hasSize(SIZE / Byte.SIZE);
+        assertThat(statusListCredential.getStatusBitsVersion()).isEqualTo(1);
+        assertThat(statusListCredential.getDirtySince()).isNotNull();
+    }
+
+    @Test
+    void shouldNotSetStatusBitTwice() {
+        assertThat(statusListCredentialRepository.setStatusBit(ID, 9, LocalDateTime.now())).isEqualTo(1);
+
+        assertThat(statusListCredentialRepository.setStatusBit(ID, 9, LocalDateTime.now())).isZero();
+        entityManager.clear();
+
+        assertThat(statusListCredentialRepository.findById(ID).orElseThrow().getStatusBitsVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotSetStatusBitBeyondCapacity() {
+        assertThat(statusListCredentialRepository.setStatusBit(ID, SIZE, LocalDateTime.now())).isZero();
+        assertThat(statusListCredentialRepository.setStatusBit(ID, SIZE - 1, LocalDateTime.now())).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordChangeOfStatusBit() {
+        assertThat(statusListCredentialRepository.setStatusBit(ID, 9, LocalDateTime.now())).isEqualTo(1);
+
+        statusListChangeRepository.recordChange(ID, 9, LocalDateTime.now());
+        entityManager.clear();
+
+        assertThat(statusListChangeRepository.findAll())
+                .extracting(StatusListChange::getStatusIndex, StatusListChange::getStatusBitsVersion)
+                .containsExactly(tuple(9, 1L));
+    }
+
+    @Test
+    void shouldAppendRevocationEventOnce() {
+        assertThat(revocationEventRepository.append(ID, 9, LocalDateTime.now())).isEqualTo(1);
+
+        assertThat(revocationEventRepository.append(ID, 9, LocalDateTime.now())).isZero();
+        assertThat(revocationEventRepository.findPendingIndices(ID)).containsExactly(9);
+    }
+
+    @Test
+    void shouldNotAppendRevocationEventForSetBit() {
+        assertThat(statusListCredentialRepository.setStatusBit(ID, 9, LocalDateTime.now())).isEqualTo(1);
+
+        assertThat(revocationEventRepository.append(ID, 9, LocalDateTime.now())).isZero();
+        assertThat(revocationEventRepository.append(ID, SIZE, LocalDateTime.now())).isZero();
+        assertThat(revocationEventRepository.findPendingIndices(ID)).isEmpty();
+    }
+}
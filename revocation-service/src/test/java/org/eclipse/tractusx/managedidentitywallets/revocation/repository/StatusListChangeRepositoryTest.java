@@ -0,0 +1,105 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.repository;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.StatusListChange;
+import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.StatusListCredential;
+import org.eclipse.tractusx.managedidentitywallets.revocation.utils.BitSetManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.BPN;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.DID;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.mockEmptyEncodedList;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.mockStatusListVC;
+
+@DataJpaTest
+@AutoConfigureJson
+class StatusListChangeRepositoryTest {
+
+    private static final String ID = BPN + "-revocation#1";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StatusListChangeRepository statusListChangeRepository;
+
+    @BeforeEach
+    public void setUp() {
+        entityManager.persistAndFlush(StatusListCredential.builder()
+                .id(ID)
+                .issuerBpn(BPN)
+                .credential(mockStatusListVC(DID, "1", mockEmptyEncodedList()).build())
+                .statusBits(BitSetManager.toStatusBits(new BitSet()))
+                .statusBitsVersion(2)
+                .publishedAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Test
+    void shouldRecordChangeWithCurrentVersion() {
+        assertThat(statusListChangeRepository.recordChange(ID, 7, LocalDateTime.now())).isEqualTo(1);
+
+        assertThat(statusListChangeRepository.findAll())
+                .singleElement()
+                .satisfies(change -> {
+                    assertThat(change.getStatusListId()).isEqualTo(ID);
+                    assertThat(change.getStatusBitsVersion()).isEqualTo(2);
+                    assertThat(change.getStatusIndex()).isEqualTo(7);
+                });
+    }
+
+    @Test
+    void shouldNotRecordChangeOfUnknownStatusList() {
+        assertThat(statusListChangeRepository.recordChange(BPN + "-revocation#2", 7, LocalDateTime.now())).isZero();
+    }
+
+    @Test
+    void shouldFindIndicesChangedInVersionRange() {
+        statusListChangeRepository.saveAllAndFlush(List.of(
+                change(1, 3), change(2, 7), change(3, 12), change(3, 9)));
+
+        assertThat(statusListChangeRepository.findChangedIndices(ID, 1, 3)).containsExactly(7, 9, 12);
+        assertThat(statusListChangeRepository.countVersions(ID, 1, 3)).isEqualTo(2);
+        assertThat(statusListChangeRepository.countVersions(ID, 0, 3)).isEqualTo(3);
+        assertThat(statusListChangeRepository.findChangedIndices(ID, 3, 3)).isEmpty();
+    }
+
+    private static StatusListChange change(long version, int index) {
+        return StatusListChange.builder()
+                .statusListId(ID)
+                .statusBitsVersion(version)
+                .statusIndex(index)
+                .changedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.repository;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.StatusListCredential;
+import org.eclipse.tractusx.managedidentitywallets.revocation.utils.BitSetManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.BPN;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.DID;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.mockEmptyEncodedList;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.mockStatusListVC;
+
+@DataJpaTest
+@AutoConfigureJson
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StatusListCredentialRepositoryTest {
+
+    private static final String ID = BPN + "-revocation#1";
+
+    private static final Duration LOCK_DURATION = Duration.ofMillis(200);
+
+    @Autowired
+    private StatusListCredentialRepository statusListCredentialRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    public void setUp() {
+        statusListCredentialRepository.saveAndFlush(StatusListCredential.builder()
+                .id(ID)
+                .issuerBpn(BPN)
+                .credential(mockStatusListVC(DID, "1", mockEmptyEncodedList()).build())
+                .statusBits(BitSetManager.toStatusBits(new BitSet()))
+                .publishedAt(LocalDateTime.now())
+                .build());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        statusListCredentialRepository.deleteAll();
+    }
+
+    @Test
+    void shouldReadWithoutWaitingForRevocations() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        AtomicBoolean revoking = new AtomicBoolean(true);
+        CountDownLatch locked = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // revocations keep the status list locked most of the time
+            Future<Integer> revocations = executor.submit(() -> {
+                int revoked = 0;
+                while (revoking.get()) {
+                    int index = revoked++;
+                    transactionTemplate.executeWithoutResult(status -> {
+                        StatusListCredential statusListCredential =
+                                statusListCredentialRepository.findForUpdateById(ID).orElseThrow();
+                        locked.countDown();
+                        BitSet bitSet = BitSet.valueOf(statusListCredential.getStatusBits());
+                        bitSet.set(index);
+                        statusListCredential.setStatusBits(BitSetManager.toStatusBits(bitSet));
+                        statusListCredential.setStatusBitsVersion(statusListCredential.getStatusBitsVersion() + 1);
+                        pause(LOCK_DURATION);
+                    });
+                }
+                return revoked;
+            });
+            assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+            long slowestReadNanos = 0;
+            for (int i = 0; i < 20; i++) {
+                long start = System.nanoTime();
+                assertThat(statusListCredentialRepository.findById(ID)).isPresent();
+                slowestReadNanos = Math.max(slowestReadNanos, System.nanoTime() - start);
+                pause(LOCK_DURATION.dividedBy(4));
+            }
+            revoking.set(false);
+
+            assertThat(revocations.get(10, TimeUnit.SECONDS)).isGreaterThan(1);
+            assertThat(Duration.ofNanos(slowestReadNanos)).isLessThan(LOCK_DURATION.dividedBy(2));
+        } finally {
+            revoking.set(false);
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldReadCommittedStatusBits() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            StatusListCredential statusListCredential =
+                    statusListCredentialRepository.findForUpdateById(ID).orElseThrow();
+            BitSet bitSet = new BitSet();
+            bitSet.set(7);
+            statusListCredential.setStatusBits(BitSetManager.toStatusBits(bitSet));
+            statusListCredential.setStatusBitsVersion(1);
+        });
+
+        StatusListCredential statusListCredential = statusListCredentialRepository.findById(ID).orElseThrow();
+        assertThat(BitSet.valueOf(statusListCredential.getStatusBits()).get(7)).isTrue();
+        assertThat(statusListCredential.getStatusBitsVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFindSignedVersion() {
+        StatusListCredential statusListCredential = statusListCredentialRepository.findById(ID).orElseThrow();
+        statusListCredential.setSignedVersion(3);
+        statusListCredentialRepository.saveAndFlush(statusListCredential);
+
+        assertThat(statusListCredentialRepository.findSignedVersionById(ID)).contains(3L);
+        assertThat(statusListCredentialRepository.findSignedVersionById(BPN + "-revocation#2")).isEmpty();
+    }
+
+    private static void pause(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.repository;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.StatusListIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.BPN;
+
+@DataJpaTest
+@AutoConfigureJson
+class StatusListIndexRepositoryTest {
+
+    private static final String ID = BPN + "-revocation#1";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StatusListIndexRepository statusListIndexRepository;
+
+    @BeforeEach
+    public void setUp() {
+        entityManager.persistAndFlush(StatusListIndex.builder()
+                .id(ID)
+                .issuerBpnStatus(BPN + "-revocation")
+                .nextIndex(10)
+                .build());
+    }
+
+    @Test
+    void shouldReserveIndices() {
+        assertThat(statusListIndexRepository.reserveIndices(ID, 5, 100)).isEqualTo(1);
+
+        assertThat(statusListIndexRepository.findNextIndexById(ID)).isEqualTo(15);
+        StatusListIndex statusListIndex = statusListIndexRepository.findById(ID).orElseThrow();
+        assertThat(statusListIndex.getNextIndex()).isEqualTo(15);
+    }
+
+    @Test
+    void shouldNotReserveBeyondCapacity() {
+        assertThat(statusListIndexRepository.reserveIndices(ID, 91, 100)).isZero();
+        assertThat(statusListIndexRepository.reserveIndices(ID, 90, 100)).isEqualTo(1);
+
+        assertThat(statusListIndexRepository.findNextIndexById(ID)).isEqualTo(100);
+    }
+
+    @Test
+    void shouldFindStatusListsOfIssuer() {
+        assertThat(statusListIndexRepository.findByIssuerBpnStatus(BPN + "-revocation"))
+                .extracting(StatusListIndex::getNextIndex)
+                .containsExactly(10);
+    }
+}
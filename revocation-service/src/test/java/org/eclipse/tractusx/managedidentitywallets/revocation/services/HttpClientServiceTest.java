@@ -22,6 +22,7 @@
 package org.eclipse.tractusx.managedidentitywallets.revocation.services;
 
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.HttpClientSettings;
 import org.eclipse.tractusx.managedidentitywallets.revocation.config.security.SecurityConfigProperties;
 import org.eclipse.tractusx.managedidentitywallets.revocation.dto.TokenResponse;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
@@ -37,11 +38,18 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestClient;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.UUID;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.jsonResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.mockEmptyEncodedList;
@@ -54,6 +62,9 @@ import static org.mockito.Mockito.when;
 
 class HttpClientServiceTest {
 
+    private static final HttpClientSettings HTTP_CLIENT_SETTINGS =
+            new HttpClientSettings(Duration.ofSeconds(5), Duration.ofSeconds(5), Duration.ofSeconds(30));
+
     @RegisterExtension
     static WireMockExtension wm1 =
             WireMockExtension.newInstance().options(wireMockConfig().dynamicPort()).build();
@@ -86,7 +97,7 @@ class HttpClientServiceTest {
         when(securityConfigProperties.publicClientId()).thenReturn("public-client-id");
         when(securityConfigProperties.clientId()).thenReturn("client-id");
         when(securityConfigProperties.tokenUrl()).thenReturn(wm1.baseUrl() + "/token");
-        httpClientService = new HttpClientService(securityConfigProperties);
+        httpClientService = new HttpClientService(securityConfigProperties, HTTP_CLIENT_SETTINGS, RestClient.builder());
         ReflectionTestUtils.setField(httpClientService, "miwUrl", wm1.baseUrl());
     }
 
@@ -114,6 +125,49 @@ class HttpClientServiceTest {
         else assertThrows(HttpServerErrorException.class, () -> httpClientService.getBearerToken());
     }
 
+    @Test
+    void testGetBearerToken_CachedUntilShortlyBeforeExpiry() {
+        MutableClock clock = new MutableClock();
+        HttpClientService service = new HttpClientService(securityConfigProperties, HTTP_CLIENT_SETTINGS, RestClient.builder(), clock);
+        wm1.stubFor(post("/token").willReturn(jsonResponse(tokenResponse("first", 300), 200)));
+
+        assertEquals("first", service.getBearerToken());
+        clock.advance(Duration.ofSeconds(269));
+        assertEquals("first", service.getBearerToken());
+        wm1.verify(1, postRequestedFor(urlEqualTo("/token")));
+
+        wm1.stubFor(post("/token").willReturn(jsonResponse(tokenResponse("second", 300), 200)));
+        clock.advance(Duration.ofSeconds(1));
+        assertEquals("second", service.getBearerToken());
+        wm1.verify(2, postRequestedFor(urlEqualTo("/token")));
+    }
+
+    @Test
+    void testGetBearerToken_CachedTokenUsedWhileRefreshFails() {
+        MutableClock clock = new MutableClock();
+        HttpClientService service = new HttpClientService(securityConfigProperties, HTTP_CLIENT_SETTINGS, RestClient.builder(), clock);
+        wm1.stubFor(post("/token").willReturn(jsonResponse(tokenResponse("first", 300), 200)));
+        assertEquals("first", service.getBearerToken());
+
+        wm1.stubFor(post("/token").willReturn(aResponse().withStatus(503)));
+        clock.advance(Duration.ofSeconds(280));
+        assertEquals("first", service.getBearerToken());
+
+        clock.advance(Duration.ofSeconds(20));
+        assertThrows(HttpServerErrorException.class, service::getBearerToken);
+    }
+
+    @Test
+    void testGetBearerToken_NotCachedWithoutExpiry() {
+        HttpClientService service = new HttpClientService(securityConfigProperties, HTTP_CLIENT_SETTINGS, RestClient.builder());
+        wm1.stubFor(post("/token").willReturn(jsonResponse(tokenResponse("token", 0), 200)));
+
+        service.getBearerToken();
+        service.getBearerToken();
+
+        wm1.verify(2, postRequestedFor(urlEqualTo("/token")));
+    }
+
     @Test
     void testSignStatusListVC_Success() {
         final var issuer = "did:web:localhost:BPNL345345345345";
@@ -151,4 +205,35 @@ class HttpClientServiceTest {
                 HttpClientErrorException.class,
                 () -> httpClientService.signStatusListVC(unsignedCredential, "dummy"));
     }
+
+    private static TokenResponse tokenResponse(String accessToken, long expiresIn) {
+        TokenResponse tokenResponse = new TokenResponse();
+        tokenResponse.setAccessToken(accessToken);
+        tokenResponse.setExpiresIn(expiresIn);
+        return tokenResponse;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HttpStatusListSignerTest {
+
+    private HttpClientService httpClientService;
+
+    private VerifiableCredential statusListCredential;
+
+    private HttpStatusListSigner signer;
+
+    @BeforeEach
+    void beforeEach() {
+        httpClientService = Mockito.mock(HttpClientService.class);
+        statusListCredential = Mockito.mock(VerifiableCredential.class);
+        signer = new HttpStatusListSigner(httpClientService);
+    }
+
+    @Test
+    void shouldSignWithTokenOfCaller() {
+        signer.sign(statusListCredential, "Bearer issuer-token");
+
+        verify(httpClientService).signStatusListVC(statusListCredential, "Bearer issuer-token");
+        verify(httpClientService, never()).getBearerToken();
+    }
+
+    @Test
+    void shouldSignWithTokenOfServiceOutsideOfRequest() {
+        when(httpClientService.getBearerToken()).thenReturn("service-token");
+
+        signer.sign(statusListCredential, null);
+
+        verify(httpClientService).signStatusListVC(statusListCredential, "Bearer service-token");
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.LocalSignerSettings;
+import org.eclipse.tractusx.ssi.lib.crypt.KeyPair;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.DID;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.generateKeys;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.mockEmptyEncodedList;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.mockStatusListVC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalStatusListSignerTest {
+
+    private static final URI VERIFICATION_METHOD = URI.create(DID + "#key-1");
+
+    @Test
+    void shouldSignWithIssuerKey() throws Exception {
+        LocalStatusListSigner signer = signer(DID);
+        VerifiableCredential unsigned = mockStatusListVC(DID, "1", mockEmptyEncodedList()).build();
+
+        VerifiableCredential signed = signer.sign(unsigned, null);
+
+        Map<?, ?> proof = (Map<?, ?>) signed.get("proof");
+        assertEquals("JsonWebSignature2020", proof.get("type"));
+        assertEquals(VERIFICATION_METHOD.toString(), proof.get("verificationMethod"));
+        assertTrue(signed.getContext().contains(URI.create("https://w3id.org/security/suites/jws-2020/v1")));
+        assertEquals(unsigned.getCredentialSubject(), signed.getCredentialSubject());
+        assertFalse(unsigned.containsKey("proof"));
+    }
+
+    @Test
+    void shouldRejectIssuerWithoutKey() throws Exception {
+        LocalStatusListSigner signer = signer("did:web:example:BPNL000000000001");
+        VerifiableCredential unsigned = mockStatusListVC(DID, "1", mockEmptyEncodedList()).build();
+
+        assertThrows(IllegalStateException.class, () -> signer.sign(unsigned, null));
+    }
+
+    @Test
+    void shouldRejectInvalidKey() {
+        LocalSignerSettings settings = new LocalSignerSettings(
+                Map.of(DID, new LocalSignerSettings.IssuerKey(VERIFICATION_METHOD, "not a key")));
+
+        assertThrows(IllegalArgumentException.class, () -> new LocalStatusListSigner(settings));
+    }
+
+    private static LocalStatusListSigner signer(String issuer) throws Exception {
+        KeyPair keyPair = generateKeys();
+        String privateKey = Base64.getEncoder().encodeToString(keyPair.getPrivateKey().asByte());
+        return new LocalStatusListSigner(new LocalSignerSettings(
+                Map.of(issuer, new LocalSignerSettings.IssuerKey(VERIFICATION_METHOD, privateKey))));
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.MappedBitSetStoreSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListCacheSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.repository.StatusListCredentialRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class MappedBitSetStoreTest {
+
+    private static final String LIST_ID = "BPNL123456789000-revocation#1";
+
+    private static final StatusListCacheSettings CACHE_SETTINGS = new StatusListCacheSettings(10, Duration.ofMinutes(1));
+
+    @TempDir
+    Path directory;
+
+    private MappedBitSetStore open(int maxLists, Map<String, Long> versions) throws IOException {
+        StatusListCredentialRepository repository = Mockito.mock(StatusListCredentialRepository.class);
+        when(repository.findStatusBitsVersions(any())).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .filter(versions::containsKey)
+                    .map(id -> (StatusListCredentialRepository.StatusBitsVersion) new StatusBitsVersion(id, versions.get(id)))
+                    .toList();
+        });
+        MappedBitSetStore store = new MappedBitSetStore(
+                new MappedBitSetStoreSettings(directory.resolve("status-bits.dat"), maxLists), CACHE_SETTINGS, repository);
+        store.reconcile();
+        return store;
+    }
+
+    @Test
+    void shouldReadBitsInPlace() throws IOException {
+        MappedBitSetStore store = open(10, Map.of());
+        try {
+            assertEquals(BitSetStore.NOT_STORED, store.getBit(LIST_ID, 9));
+            store.putStatusBits(LIST_ID, new byte[]{ 0, 2 }, 1, store.generation());
+            assertEquals(1, store.getBit(LIST_ID, 9));
+            assertEquals(0, store.getBit(LIST_ID, 8));
+            assertEquals(0, store.getBit(LIST_ID, 100));
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    void shouldInvalidateStatusBits() throws IOException {
+        MappedBitSetStore store = open(10, Map.of());
+        try {
+            long generation = store.generation();
+            store.putStatusBits(LIST_ID, new byte[]{ 1 }, 1, generation);
+            store.invalidate(LIST_ID);
+            assertEquals(BitSetStore.NOT_STORED, store.getBit(LIST_ID, 0));
+            store.putStatusBits(LIST_ID, new byte[]{ 1 }, 1, generation);
+            assertEquals(BitSetStore.NOT_STORED, store.getBit(LIST_ID, 0));
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    void shouldOnlyRejectStatusBitsOfChangedStatusList() throws IOException {
+        MappedBitSetStore store = open(10, Map.of());
+        try {
+            long generation = store.generation();
+            store.setBit("list#2", 0, 2);
+            store.putStatusBits(LIST_ID, new byte[]{ 1 }, 1, generation);
+            store.putStatusBits("list#2", new byte[]{ 0 }, 1, generation);
+            assertEquals(1, store.getBit(LIST_ID, 0));
+            assertEquals(BitSetStore.NOT_STORED, store.getBit("list#2", 0));
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    void shouldSetBitInPlaceAndKeepItOnRestart() throws IOException {
+        MappedBitSetStore store = open(10, Map.of());
+        store.putStatusBits(LIST_ID, new byte[]{ 0, 0 }, 3, store.generation());
+        store.setBit(LIST_ID, 9, 4);
+        store.setBit(LIST_ID, 2, 4);
+        assertEquals(1, store.getBit(LIST_ID, 9));
+        assertEquals(1, store.getBit(LIST_ID, 2));
+        assertEquals(0, store.getBit(LIST_ID, 8));
+        store.close();
+
+        MappedBitSetStore reopened = open(10, Map.of(LIST_ID, 4L));
+        try {
+            assertEquals(1, reopened.getBit(LIST_ID, 9));
+            assertEquals(1, reopened.getBit(LIST_ID, 2));
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    void shouldFreeSlotWhenRevocationsCommitOutOfOrder() throws IOException {
+        MappedBitSetStore store = open(10, Map.of());
+        try {
+            store.putStatusBits(LIST_ID, new byte[]{ 0 }, 3, store.generation());
+            // version 4 has not been applied yet
+            store.setBit(LIST_ID, 1, 5);
+            assertEquals(BitSetStore.NOT_STORED, store.getBit(LIST_ID, 1));
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    void shouldFreeSlotChangedByOtherReplica() throws IOException {
+        MappedBitSetStore store = open(10, Map.of());
+        try {
+            store.putStatusBits(LIST_ID, new byte[]{ 0 }, 3, store.generation());
+            store.changed(LIST_ID, 3);
+            assertEquals(0, store.getBit(LIST_ID, 1));
+            store.changed(LIST_ID, 4);
+            assertEquals(BitSetStore.NOT_STORED, store.getBit(LIST_ID, 1));
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    void shouldNotKeepStatusBitsWithPendingEventsOnRestart() throws IOException {
+        MappedBitSetStore store = open(10, Map.of());
+        store.putStatusBits(LIST_ID, new byte[]{ 0 }, 3, store.generation());
+        store.setBit(LIST_ID, 1, BitSetStore.PENDING_VERSION);
+        assertEquals(1, store.getBit(LIST_ID, 1));
+        store.close();
+
+        MappedBitSetStore reopened = open(10, Map.of(LIST_ID, 3L));
+        try {
+            assertEquals(BitSetStore.NOT_STORED, reopened.getBit(LIST_ID, 1));
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    void shouldReplaceLeastRecentlyUsedStatusList() throws IOException {
+        MappedBitSetStore store = open(2, Map.of());
+        try {
+            store.putStatusBits("list#1", new byte[]{ 1 }, 1, store.generation());
+            store.putStatusBits("list#2", new byte[]{ 1 }, 1, store.generation());
+            store.getBit("list#1", 0);
+            store.putStatusBits("list#3", new byte[]{ 1 }, 1, store.generation());
+            assertEquals(1, store.getBit("list#1", 0));
+            assertEquals(BitSetStore.NOT_STORED, store.getBit("list#2", 0));
+            assertEquals(1, store.getBit("list#3", 0));
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    void shouldKeepStatusBitsMatchingDatabaseOnRestart() throws IOException {
+        MappedBitSetStore store = open(10, Map.of());
+        store.putStatusBits("list#1", new byte[]{ 1 }, 3, store.generation());
+        store.putStatusBits("list#2", new byte[]{ 1 }, 3, store.generation());
+        store.putStatusBits("list#3", new byte[]{ 1 }, 3, store.generation());
+        store.close();
+
+        // list#2 has been revoked meanwhile, list#3 deleted
+        MappedBitSetStore reopened = open(10, Map.of("list#1", 3L, "list#2", 4L));
+        try {
+            assertEquals(1, reopened.getBit("list#1", 0));
+            assertEquals(BitSetStore.NOT_STORED, reopened.getBit("list#2", 0));
+            assertEquals(BitSetStore.NOT_STORED, reopened.getBit("list#3", 0));
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    void shouldDropCorruptedStatusBitsOnRestart() throws IOException {
+        MappedBitSetStore store = open(10, Map.of());
+        store.putStatusBits(LIST_ID, new byte[]{ 1 }, 1, store.generation());
+        store.close();
+
+        // flip a status bit behind the store's back, as a torn write would
+        try (FileChannel channel = FileChannel.open(directory.resolve("status-bits.dat"), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{ 3 }), 64 + 288);
+        }
+
+        MappedBitSetStore reopened = open(10, Map.of(LIST_ID, 1L));
+        try {
+            assertEquals(BitSetStore.NOT_STORED, reopened.getBit(LIST_ID, 0));
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        assertThrows(NullPointerException.class, () -> new MappedBitSetStoreSettings(null, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MappedBitSetStoreSettings(directory.resolve("status-bits.dat"), 0));
+    }
+
+    private record StatusBitsVersion(String getId, long getStatusBitsVersion)
+            implements StatusListCredentialRepository.StatusBitsVersion {
+    }
+}
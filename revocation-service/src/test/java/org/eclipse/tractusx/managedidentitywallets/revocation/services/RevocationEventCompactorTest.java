@@ -0,0 +1,116 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.repository.RevocationEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+class RevocationEventCompactorTest {
+
+    private RevocationEventRepository revocationEventRepository;
+
+    private RevocationService revocationService;
+
+    private MeterRegistry meterRegistry;
+
+    private RevocationEventCompactor revocationEventCompactor;
+
+    @BeforeEach
+    void beforeEach() {
+        revocationEventRepository = Mockito.mock(RevocationEventRepository.class);
+        revocationService = Mockito.mock(RevocationService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        revocationEventCompactor = new RevocationEventCompactor(
+                revocationEventRepository, revocationService, new StatusListSettings(false,
+                new StatusListSettings.WriteBehind(false), Duration.ofMinutes(1),
+                new StatusListSettings.EventLog(true, 2), new StatusListSettings.Provisioning(0.9)), meterRegistry);
+    }
+
+    @Test
+    void shouldCompactAndPublishEveryStatusListOfTheBatch() {
+        when(revocationEventRepository.findPendingStatusListIds(Limit.of(2))).thenReturn(List.of("list#1", "list#2"));
+        when(revocationEventRepository.findOldestPendingEvent()).thenReturn(Optional.empty());
+        when(revocationService.compactRevocationEvents(any())).thenReturn(true);
+
+        revocationEventCompactor.compact();
+
+        Mockito.verify(revocationService).compactRevocationEvents("list#1");
+        Mockito.verify(revocationService).compactRevocationEvents("list#2");
+        Mockito.verify(revocationService, times(1)).publishStatusList("list#1", null);
+        Mockito.verify(revocationService, times(1)).publishStatusList("list#2", null);
+        assertEquals(0, meterRegistry.get(RevocationEventCompactor.PENDING_AGE_METRIC).gauge().value());
+    }
+
+    @Test
+    void shouldContinueWhenCompactingAStatusListFails() {
+        when(revocationEventRepository.findPendingStatusListIds(Limit.of(2))).thenReturn(List.of("list#1", "list#2"));
+        when(revocationEventRepository.findOldestPendingEvent())
+                .thenReturn(Optional.of(LocalDateTime.now().minusMinutes(1)));
+        when(revocationService.compactRevocationEvents("list#1")).thenThrow(new IllegalStateException("database unavailable"));
+
+        revocationEventCompactor.compact();
+
+        Mockito.verify(revocationService).compactRevocationEvents("list#2");
+        Mockito.verify(revocationService).publishStatusList("list#2", null);
+        assertTrue(meterRegistry.get(RevocationEventCompactor.PENDING_AGE_METRIC).gauge().value() >= 60);
+    }
+
+    @Test
+    void shouldContinueWhenPublishingAStatusListFails() {
+        when(revocationEventRepository.findPendingStatusListIds(Limit.of(2))).thenReturn(List.of("list#1", "list#2"));
+        when(revocationEventRepository.findOldestPendingEvent()).thenReturn(Optional.empty());
+        when(revocationService.compactRevocationEvents(any())).thenReturn(true);
+        when(revocationService.publishStatusList("list#1", null))
+                .thenThrow(new IllegalStateException("not signed for the issuer"));
+
+        revocationEventCompactor.compact();
+
+        Mockito.verify(revocationService).compactRevocationEvents("list#2");
+        Mockito.verify(revocationService).publishStatusList("list#2", null);
+    }
+
+    @Test
+    void shouldNotCompactWithoutPendingEvents() {
+        when(revocationEventRepository.findOldestPendingEvent()).thenReturn(Optional.empty());
+
+        revocationEventCompactor.compact();
+
+        Mockito.verifyNoInteractions(revocationService);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.MetricsSettings;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RevocationMetricsTest {
+
+    @Test
+    void shouldTagAllIssuersAlikeByDefault() {
+        RevocationMetrics metrics = new RevocationMetrics(new SimpleMeterRegistry(), new MetricsSettings(false, 10));
+        assertEquals(RevocationMetrics.ALL_ISSUERS, metrics.issuerTag("BPNL000000000001"));
+    }
+
+    @Test
+    void shouldLimitTaggedIssuers() {
+        RevocationMetrics metrics = new RevocationMetrics(new SimpleMeterRegistry(), new MetricsSettings(true, 2));
+        assertEquals("BPNL000000000001", metrics.issuerTag("BPNL000000000001"));
+        assertEquals("BPNL000000000002", metrics.issuerTag("BPNL000000000002"));
+        assertEquals(RevocationMetrics.OTHER_ISSUERS, metrics.issuerTag("BPNL000000000003"));
+        assertEquals("BPNL000000000001", metrics.issuerTag("BPNL000000000001"));
+    }
+
+    @Test
+    void shouldRecordAllocation() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RevocationMetrics metrics = new RevocationMetrics(registry, new MetricsSettings(true, 10));
+
+        metrics.recordAllocation("BPNL000000000001-revocation#1", 3, 3, 8);
+        metrics.recordAllocation("BPNL000000000001-revocation#1", 1, 4, 8);
+
+        assertEquals(4, registry.get("revocation.status_list.allocated")
+                .tag("issuer", "BPNL000000000001").counter().count());
+        assertEquals(0.5, registry.get("revocation.status_list.fill")
+                .tag("issuer", "BPNL000000000001").gauge().value());
+    }
+}
@@ -21,24 +21,47 @@
 
 package org.eclipse.tractusx.managedidentitywallets.revocation.services;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.SneakyThrows;
 import org.eclipse.tractusx.managedidentitywallets.commons.constant.CredentialStatus;
+import org.eclipse.tractusx.managedidentitywallets.commons.exception.BadDataException;
 import org.eclipse.tractusx.managedidentitywallets.commons.constant.StringPool;
 import org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil;
 import org.eclipse.tractusx.managedidentitywallets.revocation.config.MIWSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.MetricsSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListAllocationSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListCacheSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.PublishedStatusListCredential;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.StatusListChangedEvent;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.StatusListPublishedEvent;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.StatusListThresholdReachedEvent;
 import org.eclipse.tractusx.managedidentitywallets.revocation.dto.CredentialStatusDto;
+import org.eclipse.tractusx.managedidentitywallets.revocation.dto.RevocationResultDto;
 import org.eclipse.tractusx.managedidentitywallets.revocation.dto.StatusEntryDto;
+import org.eclipse.tractusx.managedidentitywallets.revocation.dto.StatusListChangesDto;
 import org.eclipse.tractusx.managedidentitywallets.revocation.dto.StatusListCredentialSubject;
+import org.eclipse.tractusx.managedidentitywallets.revocation.dto.VerificationResultDto;
 import org.eclipse.tractusx.managedidentitywallets.revocation.exception.BitSetManagerException;
+import org.eclipse.tractusx.managedidentitywallets.revocation.exception.CredentialAlreadyRevokedException;
 import org.eclipse.tractusx.managedidentitywallets.revocation.exception.RevocationServiceException;
+import org.eclipse.tractusx.managedidentitywallets.revocation.exception.StatusListChangesGoneException;
+import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.RevocationEvent;
+import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.StatusListChange;
+import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.StatusListCredential;
 import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.StatusListIndex;
+import org.eclipse.tractusx.managedidentitywallets.revocation.repository.RevocationEventRepository;
+import org.eclipse.tractusx.managedidentitywallets.revocation.repository.StatusListChangeRepository;
 import org.eclipse.tractusx.managedidentitywallets.revocation.repository.StatusListCredentialRepository;
 import org.eclipse.tractusx.managedidentitywallets.revocation.repository.StatusListIndexRepository;
 import org.eclipse.tractusx.managedidentitywallets.revocation.utils.BitSetManager;
+import org.eclipse.tractusx.managedidentitywallets.revocation.utils.StatusListCodec;
+import org.eclipse.tractusx.managedidentitywallets.revocation.utils.CommonUtils;
 import org.eclipse.tractusx.ssi.lib.did.resolver.DidResolver;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialSubject;
 import org.eclipse.tractusx.ssi.lib.proof.LinkedDataProofValidation;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -47,9 +70,14 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Base64;
 import java.util.BitSet;
 import java.util.List;
@@ -66,6 +94,7 @@ import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.mo
 import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.mockStatusListCredential;
 import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.mockStatusListIndex;
 import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.mockStatusListVC;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.statusListSettings;
 import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -74,6 +103,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
@@ -91,24 +121,57 @@ class RevocationServiceTest {
 
     private static MIWSettings miwSettings;
 
+    private static StatusListBitSetCache statusListBitSetCache;
+
+    private static ApplicationEventPublisher applicationEventPublisher;
+
+    private static StatusListChangeRepository statusListChangeRepository;
+
+    private static RevocationEventRepository revocationEventRepository;
+
+    private static SimpleMeterRegistry meterRegistry;
+
+    private static final StatusListAllocationSettings ALLOCATION_SETTINGS =
+            new StatusListAllocationSettings(BITSET_SIZE, 1, Map.of());
+
+    private static final StatusListSettings STATUS_LIST_SETTINGS = statusListSettings(false, false, false, 0);
+
     @BeforeAll
     public static void beforeAll() {
         statusListCredentialRepository = Mockito.mock(StatusListCredentialRepository.class);
         statusListIndexRepository = Mockito.mock(StatusListIndexRepository.class);
         httpClientService = Mockito.mock(HttpClientService.class);
+        applicationEventPublisher = Mockito.mock(ApplicationEventPublisher.class);
+        statusListChangeRepository = Mockito.mock(StatusListChangeRepository.class);
+        revocationEventRepository = Mockito.mock(RevocationEventRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
         miwSettings = new MIWSettings(VC_CONTEXTS);
+        statusListBitSetCache = new StatusListBitSetCache(new StatusListCacheSettings(10, Duration.ofMinutes(10)));
         httpClientService.domainUrl = "http://example.com";
         revocationService =
                 new RevocationService(
                         statusListCredentialRepository,
                         statusListIndexRepository,
                         httpClientService,
-                        miwSettings);
+                        miwSettings,
+                        statusListBitSetCache,
+                        new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class)),
+                        new StatusListVersionCache(new StatusListCacheSettings(10, Duration.ofMinutes(10))),
+                        ALLOCATION_SETTINGS,
+                        STATUS_LIST_SETTINGS,
+                        applicationEventPublisher,
+                        statusListChangeRepository,
+                        revocationEventRepository,
+                        new HttpStatusListSigner(httpClientService),
+                        new RevocationMetrics(meterRegistry, new MetricsSettings(false, 0)));
     }
 
     @BeforeEach
     public void beforeEach() {
-        Mockito.reset(statusListCredentialRepository, statusListIndexRepository, httpClientService);
+        Mockito.reset(statusListCredentialRepository, statusListIndexRepository, httpClientService,
+                applicationEventPublisher, statusListChangeRepository, revocationEventRepository);
+        statusListBitSetCache.invalidateAll();
+        meterRegistry.clear();
     }
 
 
@@ -122,7 +185,7 @@ class RevocationServiceTest {
             var credentialBuilder = mockStatusListVC(issuer, "1", encodedList);
             var statusListCredential = mockStatusListCredential(issuer, credentialBuilder);
             // 1. create status list with the credential
-            var statusListIndex = mockStatusListIndex(issuer, statusListCredential, "0");
+            var statusListIndex = mockStatusListIndex(issuer, statusListCredential);
             when(statusListIndex.getStatusListCredential()).thenReturn(statusListCredential);
             when(statusListCredentialRepository.findById(any(String.class)))
                     .thenReturn(Optional.of(statusListCredential));
@@ -168,7 +231,7 @@ class RevocationServiceTest {
             var credentialBuilder = mockStatusListVC(issuer, "1", encodedList);
             var statusListCredential = mockStatusListCredential(issuer, credentialBuilder);
             // 1. create status list with the credential
-            var statusListIndex = mockStatusListIndex(issuer, statusListCredential, "0");
+            var statusListIndex = mockStatusListIndex(issuer, statusListCredential);
             when(statusListIndex.getStatusListCredential()).thenReturn(statusListCredential);
             when(statusListCredentialRepository.findById(any(String.class)))
                     .thenReturn(Optional.of(statusListCredential));
@@ -197,6 +260,166 @@ class RevocationServiceTest {
                 assertEquals(status.get(StringPool.STATUS), CredentialStatus.REVOKED.getName());
             }
         }
+
+        @SneakyThrows
+        @Test
+        void shouldServeRepeatedVerificationFromCache() {
+            ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+            final var issuer = DID;
+            var encodedList = mockEmptyEncodedList();
+            var credentialBuilder = mockStatusListVC(issuer, "1", encodedList);
+            var statusListCredential = mockStatusListCredential(issuer, credentialBuilder);
+            when(statusListCredentialRepository.findById(any(String.class)))
+                    .thenReturn(Optional.of(statusListCredential));
+            CredentialStatusDto credentialStatusDto = mockCredentialStatusDto(issuer, "0");
+
+            try (MockedStatic<LinkedDataProofValidation> utils = Mockito.mockStatic(LinkedDataProofValidation.class)) {
+                LinkedDataProofValidation mock = Mockito.mock(LinkedDataProofValidation.class);
+                utils.when(() -> {
+                    LinkedDataProofValidation.newInstance(Mockito.any(DidResolver.class));
+                }).thenReturn(mock);
+                Mockito.when(mock.verify(Mockito.any(VerifiableCredential.class))).thenReturn(true);
+                revocationService.verifyStatus(credentialStatusDto);
+                Map<String, String> status = revocationService.verifyStatus(credentialStatusDto);
+
+                assertEquals(CredentialStatus.ACTIVE.getName(), status.get(StringPool.STATUS));
+                Mockito.verify(statusListCredentialRepository, times(1)).findById(any(String.class));
+                Mockito.verify(mock, times(1)).verify(Mockito.any(VerifiableCredential.class));
+            }
+        }
+
+        @SneakyThrows
+        @Test
+        void shouldReloadStatusListAfterRevocation() {
+            ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+            final var issuer = DID;
+            var encodedList = mockEmptyEncodedList();
+            var credentialBuilder = mockStatusListVC(issuer, "1", encodedList);
+            var statusListCredential = mockStatusListCredential(issuer, credentialBuilder);
+            when(statusListCredentialRepository.findById(any(String.class)))
+                    .thenReturn(Optional.of(statusListCredential));
+            when(statusListCredentialRepository.findForUpdateById(any(String.class)))
+                    .thenReturn(Optional.of(statusListCredential));
+            CredentialStatusDto credentialStatusDto = mockCredentialStatusDto(issuer, "0");
+
+            try (MockedStatic<LinkedDataProofValidation> utils = Mockito.mockStatic(LinkedDataProofValidation.class)) {
+                LinkedDataProofValidation mock = Mockito.mock(LinkedDataProofValidation.class);
+                utils.when(() -> {
+                    LinkedDataProofValidation.newInstance(Mockito.any(DidResolver.class));
+                }).thenReturn(mock);
+                Mockito.when(mock.verify(Mockito.any(VerifiableCredential.class))).thenReturn(true);
+                revocationService.verifyStatus(credentialStatusDto);
+                revocationService.revoke(credentialStatusDto, "token");
+                revocationService.verifyStatus(credentialStatusDto);
+
+                // one read per verification, one to publish the revocation
+                Mockito.verify(statusListCredentialRepository, times(3)).findById(any(String.class));
+                Mockito.verify(statusListCredentialRepository, times(1)).findForUpdateById(any(String.class));
+            }
+        }
+
+        @SneakyThrows
+        @Test
+        void shouldVerifyStatusesDecodingEachListOnce() {
+            ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+            final var issuer = DID;
+            BitSet bitSet = new BitSet(BITSET_SIZE);
+            bitSet.set(1);
+            var encodedList = Base64.getEncoder().encodeToString(BitSetManager.compress(bitSet));
+            var credentialBuilder = mockStatusListVC(issuer, "1", encodedList);
+            var statusListCredential = mockStatusListCredential(issuer, credentialBuilder);
+            when(statusListCredentialRepository.findById(any(String.class)))
+                    .thenReturn(Optional.of(statusListCredential));
+            List<CredentialStatusDto> dtos = List.of(
+                    mockCredentialStatusDto(issuer, "0"),
+                    mockCredentialStatusDto(issuer, "1"),
+                    mockCredentialStatusDto(issuer, "2"));
+
+            try (MockedStatic<LinkedDataProofValidation> utils = Mockito.mockStatic(LinkedDataProofValidation.class)) {
+                LinkedDataProofValidation mock = Mockito.mock(LinkedDataProofValidation.class);
+                utils.when(() -> {
+                    LinkedDataProofValidation.newInstance(Mockito.any(DidResolver.class));
+                }).thenReturn(mock);
+                Mockito.when(mock.verify(Mockito.any(VerifiableCredential.class))).thenReturn(true);
+                List<VerificationResultDto> results = revocationService.verifyStatuses(dtos);
+
+                assertEquals(List.of(CredentialStatus.ACTIVE.getName(), CredentialStatus.REVOKED.getName(),
+                                CredentialStatus.ACTIVE.getName()),
+                        results.stream().map(VerificationResultDto::status).toList());
+                assertEquals(dtos.get(1).id(), results.get(1).id());
+                Mockito.verify(statusListCredentialRepository, times(1)).findById(any(String.class));
+                Mockito.verify(mock, times(1)).verify(Mockito.any(VerifiableCredential.class));
+            }
+        }
+
+        @Test
+        void shouldVerifyStatusFromStatusBits() {
+            ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+            BitSet bitSet = new BitSet();
+            bitSet.set(1);
+            when(statusListCredentialRepository.findById(any(String.class)))
+                    .thenReturn(Optional.of(statusListCredential(DID, bitSet, 1)));
+
+            try (MockedStatic<LinkedDataProofValidation> utils = Mockito.mockStatic(LinkedDataProofValidation.class)) {
+                assertEquals(CredentialStatus.ACTIVE.getName(),
+                        revocationService.verifyStatus(mockCredentialStatusDto(DID, "0")).get(StringPool.STATUS));
+                assertEquals(CredentialStatus.REVOKED.getName(),
+                        revocationService.verifyStatus(mockCredentialStatusDto(DID, "1")).get(StringPool.STATUS));
+                utils.verify(() -> LinkedDataProofValidation.newInstance(Mockito.any(DidResolver.class)), Mockito.never());
+            }
+        }
+
+        @SneakyThrows
+        @Test
+        void shouldSkipProofValidationOfTrustedStatusList() {
+            ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+            ReflectionTestUtils.setField(revocationService, "statusListSettings", statusListSettings(true, false, false, 0));
+            final var issuer = DID;
+            var encodedList = mockEmptyEncodedList();
+            var credentialBuilder = mockStatusListVC(issuer, "1", encodedList);
+            var statusListCredential = mockStatusListCredential(issuer, credentialBuilder);
+            String digest = CommonUtils.sha256(statusListCredential.getCredential().toJson());
+            when(statusListCredential.getCredentialDigest()).thenReturn(digest);
+            when(statusListCredentialRepository.findById(any(String.class)))
+                    .thenReturn(Optional.of(statusListCredential));
+            CredentialStatusDto credentialStatusDto = mockCredentialStatusDto(issuer, "0");
+
+            try (MockedStatic<LinkedDataProofValidation> utils = Mockito.mockStatic(LinkedDataProofValidation.class)) {
+                Map<String, String> status = revocationService.verifyStatus(credentialStatusDto);
+
+                assertEquals(CredentialStatus.ACTIVE.getName(), status.get(StringPool.STATUS));
+                utils.verify(() -> LinkedDataProofValidation.newInstance(Mockito.any(DidResolver.class)), Mockito.never());
+            } finally {
+                ReflectionTestUtils.setField(revocationService, "statusListSettings", STATUS_LIST_SETTINGS);
+            }
+        }
+
+        @SneakyThrows
+        @Test
+        void shouldValidateProofOfTrustedStatusListWhenDigestDoesNotMatch() {
+            ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+            ReflectionTestUtils.setField(revocationService, "statusListSettings", statusListSettings(true, false, false, 0));
+            final var issuer = DID;
+            var encodedList = mockEmptyEncodedList();
+            var credentialBuilder = mockStatusListVC(issuer, "1", encodedList);
+            var statusListCredential = mockStatusListCredential(issuer, credentialBuilder);
+            when(statusListCredential.getCredentialDigest()).thenReturn(CommonUtils.sha256("tampered"));
+            when(statusListCredentialRepository.findById(any(String.class)))
+                    .thenReturn(Optional.of(statusListCredential));
+            CredentialStatusDto credentialStatusDto = mockCredentialStatusDto(issuer, "0");
+
+            try (MockedStatic<LinkedDataProofValidation> utils = Mockito.mockStatic(LinkedDataProofValidation.class)) {
+                LinkedDataProofValidation mock = Mockito.mock(LinkedDataProofValidation.class);
+                utils.when(() -> {
+                    LinkedDataProofValidation.newInstance(Mockito.any(DidResolver.class));
+                }).thenReturn(mock);
+                Mockito.when(mock.verify(Mockito.any(VerifiableCredential.class))).thenReturn(false);
+
+                assertThrows(BadDataException.class, () -> revocationService.verifyStatus(credentialStatusDto));
+            } finally {
+                ReflectionTestUtils.setField(revocationService, "statusListSettings", STATUS_LIST_SETTINGS);
+            }
+        }
     }
 
 
@@ -205,32 +428,95 @@ class RevocationServiceTest {
 
         @Test
         void shouldRevokeCredential() {
+            ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+            final var issuer = DID;
+            BitSet bitSet = new BitSet();
+            bitSet.set(0);
+            var statusListCredential = statusListCredential(issuer, bitSet, 1);
+            when(statusListCredentialRepository.setStatusBit(Mockito.eq(BPN + "-revocation#1"), Mockito.eq(0), any()))
+                    .thenReturn(1);
+            when(statusListCredentialRepository.findStatusBitsVersionById(BPN + "-revocation#1"))
+                    .thenReturn(Optional.of(2L));
+            when(statusListCredentialRepository.findById(any(String.class)))
+                    .thenReturn(Optional.of(statusListCredential));
+            when(statusListCredentialRepository.findForUpdateById(any(String.class)))
+                    .thenReturn(Optional.of(statusListCredential));
+            when(httpClientService.signStatusListVC(any(VerifiableCredential.class), any(String.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+            CredentialStatusDto credentialStatusDto = mockCredentialStatusDto(issuer, "0");
+            statusListBitSetCache.putStatusBits(BPN + "-revocation#1", new byte[1], 1,
+                    statusListBitSetCache.generation());
+
+            assertDoesNotThrow(() -> revocationService.revoke(credentialStatusDto, "token"));
+
+            Mockito.verify(statusListCredentialRepository, times(1))
+                    .setStatusBit(Mockito.eq(BPN + "-revocation#1"), Mockito.eq(0), any());
+            Mockito.verify(statusListChangeRepository, times(1))
+                    .recordChange(Mockito.eq(BPN + "-revocation#1"), Mockito.eq(0), any());
+            // the stored status bits are updated in place, not loaded again
+            assertEquals(1, statusListBitSetCache.getBit(BPN + "-revocation#1", 0));
+            Mockito.verify(applicationEventPublisher).publishEvent(new StatusListChangedEvent(BPN + "-revocation#1"));
+            Mockito.verify(statusListCredentialRepository, times(1)).saveAndFlush(statusListCredential);
+            ArgumentCaptor<VerifiableCredential> captor =
+                    ArgumentCaptor.forClass(VerifiableCredential.class);
+            Mockito.verify(httpClientService)
+                    .signStatusListVC(captor.capture(), Mockito.any(String.class));
+            String encodedNewList = (String) captor.getValue().getCredentialSubject().get(0).get("encodedList");
+            assertTrue(decompressGzip(Base64.getDecoder().decode(encodedNewList)).get(0));
+            assertEquals(1, statusListCredential.getSignedVersion());
+            assertEquals(1, meterRegistry.get("revocation.revoke").tag("outcome", "revoked").timer().count());
+        }
+
+        @Test
+        void shouldKeepRevocationWhenPublishingFails() {
+            ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+            final var issuer = DID;
+            BitSet bitSet = new BitSet();
+            bitSet.set(0);
+            var statusListCredential = statusListCredential(issuer, bitSet, 1);
+            VerifiableCredential signedStatusListVC = new VerifiableCredential(statusListCredential.getCredential());
+            when(statusListCredentialRepository.setStatusBit(Mockito.eq(BPN + "-revocation#1"), Mockito.eq(0), any()))
+                    .thenReturn(1);
+            when(statusListCredentialRepository.findStatusBitsVersionById(BPN + "-revocation#1"))
+                    .thenReturn(Optional.of(2L));
+            when(statusListCredentialRepository.findById(any(String.class)))
+                    .thenReturn(Optional.of(statusListCredential));
+            when(httpClientService.signStatusListVC(any(VerifiableCredential.class), any(String.class)))
+                    .thenThrow(new IllegalStateException("MIW down"));
+            CredentialStatusDto credentialStatusDto = mockCredentialStatusDto(issuer, "0");
+
+            assertDoesNotThrow(() -> revocationService.revoke(credentialStatusDto, "token"));
+
+            Mockito.verify(statusListCredentialRepository, times(1))
+                    .setStatusBit(Mockito.eq(BPN + "-revocation#1"), Mockito.eq(0), any());
+            Mockito.verify(statusListCredentialRepository, Mockito.never()).saveAndFlush(any());
+            // the stored credential is not touched by the failed signing
+            assertEquals(signedStatusListVC, statusListCredential.getCredential());
+            assertEquals(0, statusListCredential.getSignedVersion());
+            assertEquals(1, meterRegistry.get("revocation.revoke").tag("outcome", "revoked").timer().count());
+        }
+
+        @Test
+        void shouldMigrateStatusListWithoutStatusBits() {
+            ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
             final var issuer = DID;
             var encodedList = mockEmptyEncodedList();
-            var credentialBuilder = mockStatusListVC(issuer, "1", encodedList);
-            var statusListCredential = mockStatusListCredential(issuer, credentialBuilder);
-            // 1. create status list with the credential
-            var statusListIndex = mockStatusListIndex(issuer, statusListCredential, "0");
-            when(statusListIndex.getStatusListCredential()).thenReturn(statusListCredential);
+            var statusListCredential = statusListCredential(issuer, null, 0);
             when(statusListCredentialRepository.findById(any(String.class)))
                     .thenReturn(Optional.of(statusListCredential));
-            CredentialStatusDto credentialStatusDto = Mockito.mock(CredentialStatusDto.class);
-            when(credentialStatusDto.id())
-                    .thenReturn(
-                            "http://this-is-my-domain/api/v1/revocations/credentials/"
-                                    + TestUtil.extractBpnFromDid(issuer)
-                                    + "/revocation/1#0");
-            when(credentialStatusDto.statusPurpose()).thenReturn("revocation");
-            when(credentialStatusDto.statusListIndex()).thenReturn("0");
-            when(credentialStatusDto.statusListCredential())
-                    .thenReturn(
-                            "http://this-is-my-domain/api/v1/revocations/credentials/"
-                                    + TestUtil.extractBpnFromDid(issuer)
-                                    + "/revocation/1");
-            when(credentialStatusDto.type()).thenReturn("StatusList2021Entry");
+            when(statusListCredentialRepository.findForUpdateById(any(String.class)))
+                    .thenReturn(Optional.of(statusListCredential));
+            when(httpClientService.signStatusListVC(any(VerifiableCredential.class), any(String.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+            CredentialStatusDto credentialStatusDto = mockCredentialStatusDto(issuer, "0");
+
             assertDoesNotThrow(() -> revocationService.revoke(credentialStatusDto, "token"));
-            Mockito.verify(statusListCredentialRepository, Mockito.times(1))
-                    .saveAndFlush(statusListCredential);
+
+            assertNotNull(statusListCredential.getStatusBits());
+            assertTrue(BitSet.valueOf(statusListCredential.getStatusBits()).get(0));
+            assertEquals(1, statusListCredential.getStatusBitsVersion());
+            assertEquals(1, statusListCredential.getSignedVersion());
+            assertNull(statusListCredential.getDirtySince());
             ArgumentCaptor<VerifiableCredential> captor =
                     ArgumentCaptor.forClass(VerifiableCredential.class);
             Mockito.verify(httpClientService)
@@ -247,6 +533,77 @@ class RevocationServiceTest {
             assertTrue(decompressedNewList.get(0));
         }
 
+        @Test
+        void shouldOnlyUpdateStatusBitsInWriteBehindMode() {
+            ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+            ReflectionTestUtils.setField(revocationService, "statusListSettings", statusListSettings(false, true, false, 0));
+            final var issuer = DID;
+            var statusListCredential = statusListCredential(issuer, null, 0);
+            when(statusListCredentialRepository.findById(any(String.class)))
+                    .thenReturn(Optional.of(statusListCredential));
+            when(statusListCredentialRepository.findForUpdateById(any(String.class)))
+                    .thenReturn(Optional.of(statusListCredential));
+            CredentialStatusDto credentialStatusDto = mockCredentialStatusDto(issuer, "0");
+
+            try {
+                assertDoesNotThrow(() -> revocationService.revoke(credentialStatusDto, "token"));
+
+                assertTrue(BitSet.valueOf(statusListCredential.getStatusBits()).get(0));
+                assertNotNull(statusListCredential.getDirtySince());
+                assertEquals(0, statusListCredential.getSignedVersion());
+                Mockito.verify(httpClientService, Mockito.never())
+                        .signStatusListVC(any(VerifiableCredential.class), any(String.class));
+            } finally {
+                ReflectionTestUtils.setField(revocationService, "statusListSettings", STATUS_LIST_SETTINGS);
+            }
+        }
+
+        @Test
+        void shouldPublishOverdueStatusListInWriteBehindMode() {
+            ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+            ReflectionTestUtils.setField(revocationService, "statusListSettings", statusListSettings(false, true, false, 0));
+            final var issuer = DID;
+            var statusListCredential = statusListCredential(issuer, null, 0);
+            when(statusListCredentialRepository.findById(any(String.class)))
+                    .thenReturn(Optional.of(statusListCredential));
+            when(statusListCredentialRepository.findForUpdateById(any(String.class)))
+                    .thenReturn(Optional.of(statusListCredential));
+            when(statusListCredentialRepository.findDirtySinceById(any(String.class)))
+                    .thenReturn(Optional.of(LocalDateTime.now().minusMinutes(5)));
+            when(httpClientService.signStatusListVC(any(VerifiableCredential.class), any(String.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+            CredentialStatusDto credentialStatusDto = mockCredentialStatusDto(issuer, "0");
+
+            try {
+                assertDoesNotThrow(() -> revocationService.revoke(credentialStatusDto, "token"));
+
+                assertEquals(1, statusListCredential.getSignedVersion());
+                assertNull(statusListCredential.getDirtySince());
+                Mockito.verify(httpClientService)
+                        .signStatusListVC(any(VerifiableCredential.class), eq("token"));
+            } finally {
+                ReflectionTestUtils.setField(revocationService, "statusListSettings", STATUS_LIST_SETTINGS);
+            }
+        }
+
+        @Test
+        void shouldThrowCredentialAlreadyRevokedException() {
+            ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+            final var issuer = DID;
+            BitSet bitSet = new BitSet();
+            bitSet.set(0);
+            var statusListCredential = statusListCredential(issuer, bitSet, 1);
+            when(statusListCredentialRepository.findForUpdateById(any(String.class)))
+                    .thenReturn(Optional.of(statusListCredential));
+            CredentialStatusDto credentialStatusDto = mockCredentialStatusDto(issuer, "0");
+
+            assertThrows(
+                    CredentialAlreadyRevokedException.class,
+                    () -> revocationService.revoke(credentialStatusDto, "token"));
+            Mockito.verify(statusListCredentialRepository, Mockito.never()).saveAndFlush(any());
+            Mockito.verifyNoInteractions(httpClientService);
+        }
+
         @Test
         void shouldThrowRevocationServiceException() {
             final var issuer = DID;
@@ -254,9 +611,9 @@ class RevocationServiceTest {
             var credentialBuilder = mockStatusListVC(issuer, "1", encodedList);
             var statusListCredential = mockStatusListCredential(issuer, credentialBuilder);
             // 1. create status list with the credential
-            var statusListIndex = mockStatusListIndex(issuer, statusListCredential, "0");
+            var statusListIndex = mockStatusListIndex(issuer, statusListCredential);
             when(statusListIndex.getStatusListCredential()).thenReturn(statusListCredential);
-            when(statusListCredentialRepository.findById(any(String.class)))
+            when(statusListCredentialRepository.findForUpdateById(any(String.class)))
                     .thenReturn(Optional.of(statusListCredential));
             CredentialStatusDto credentialStatusDto = Mockito.mock(CredentialStatusDto.class);
             when(credentialStatusDto.id())
@@ -272,15 +629,203 @@ class RevocationServiceTest {
                                     + TestUtil.extractBpnFromDid(issuer)
                                     + "/revocation/1");
             when(credentialStatusDto.type()).thenReturn("StatusList2021Entry");
-            try (MockedStatic<BitSetManager> utilities = Mockito.mockStatic(BitSetManager.class)) {
+            try (MockedStatic<StatusListCodec> utilities = Mockito.mockStatic(StatusListCodec.class)) {
                 utilities
-                        .when(() -> BitSetManager.revokeCredential(any(String.class), any(Integer.class)))
+                        .when(() -> StatusListCodec.decode(any()))
                         .thenThrow(new BitSetManagerException());
                 assertThrows(
                         RevocationServiceException.class,
                         () -> revocationService.revoke(credentialStatusDto, "token"));
             }
         }
+
+        @Test
+        void shouldThrowWhenIndexExceedsStatusListSize() {
+            ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+            var statusListCredential = statusListCredential(DID, new BitSet(), 0);
+            statusListCredential.setStatusBits(new byte[1024 / Byte.SIZE]);
+            when(statusListCredentialRepository.findForUpdateById(any(String.class)))
+                    .thenReturn(Optional.of(statusListCredential));
+            CredentialStatusDto credentialStatusDto = mockCredentialStatusDto(DID, "1024");
+
+            assertThrows(
+                    RevocationServiceException.class,
+                    () -> revocationService.revoke(credentialStatusDto, "token"));
+            Mockito.verify(statusListCredentialRepository, Mockito.never()).saveAndFlush(any());
+        }
+
+        @Test
+        void shouldThrowWhenStatusListDoesNotExist() {
+            ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+            when(statusListCredentialRepository.findForUpdateById(any(String.class))).thenReturn(Optional.empty());
+            CredentialStatusDto credentialStatusDto = mockCredentialStatusDto(DID, "0");
+
+            assertThrows(
+                    RevocationServiceException.class,
+                    () -> revocationService.revoke(credentialStatusDto, "token"));
+            Mockito.verifyNoInteractions(httpClientService);
+        }
+    }
+
+    @Nested
+    class RevokeBatchTest {
+
+        @Test
+        void shouldSignEachStatusListOnce() {
+            ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+            final var issuer = DID;
+            var statusListCredential = statusListCredential(issuer, null, 0);
+            when(statusListCredentialRepository.findById(any(String.class)))
+                    .thenReturn(Optional.of(statusListCredential));
+            when(statusListCredentialRepository.findForUpdateById(any(String.class)))
+                    .thenReturn(Optional.of(statusListCredential));
+            when(httpClientService.signStatusListVC(any(VerifiableCredential.class), any(String.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+            List<CredentialStatusDto> dtos = List.of(
+                    mockCredentialStatusDto(issuer, "1"),
+                    mockCredentialStatusDto(issuer, "2"),
+                    mockCredentialStatusDto(issuer, "1"));
+
+            List<RevocationResultDto> results = revocationService.revokeBatch(dtos, "token");
+
+            assertEquals(List.of(RevocationResultDto.Status.REVOKED, RevocationResultDto.Status.REVOKED,
+                            RevocationResultDto.Status.ALREADY_REVOKED),
+                    results.stream().map(RevocationResultDto::status).toList());
+            assertEquals(1, statusListCredential.getStatusBitsVersion());
+            assertEquals(1, statusListCredential.getSignedVersion());
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<StatusListChange>> changes = ArgumentCaptor.forClass(List.class);
+            Mockito.verify(statusListChangeRepository).saveAll(changes.capture());
+            assertEquals(List.of(1, 2), changes.getValue().stream().map(StatusListChange::getStatusIndex).toList());
+            assertTrue(changes.getValue().stream().allMatch(change -> change.getStatusBitsVersion() == 1));
+            ArgumentCaptor<VerifiableCredential> captor =
+                    ArgumentCaptor.forClass(VerifiableCredential.class);
+            Mockito.verify(httpClientService, times(1))
+                    .signStatusListVC(captor.capture(), Mockito.any(String.class));
+            String encodedNewList = (String) captor.getValue().getCredentialSubject().get(0).get("encodedList");
+            BitSet decompressedNewList = decompressGzip(Base64.getDecoder().decode(encodedNewList));
+            assertFalse(decompressedNewList.get(0));
+            assertTrue(decompressedNewList.get(1));
+            assertTrue(decompressedNewList.get(2));
+        }
+
+        @Test
+        void shouldReportMissingStatusList() {
+            ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+            when(statusListCredentialRepository.findForUpdateById(any(String.class))).thenReturn(Optional.empty());
+            CredentialStatusDto credentialStatusDto = mockCredentialStatusDto(DID, "1");
+
+            List<RevocationResultDto> results = revocationService.revokeBatch(List.of(credentialStatusDto), "token");
+
+            assertEquals(1, results.size());
+            assertEquals(credentialStatusDto.id(), results.get(0).id());
+            assertEquals(RevocationResultDto.Status.NOT_FOUND, results.get(0).status());
+            Mockito.verifyNoInteractions(httpClientService);
+            Mockito.verify(statusListCredentialRepository, Mockito.never()).saveAndFlush(any());
+        }
+    }
+
+    @Nested
+    class EventLogTest {
+
+        @BeforeEach
+        void enableEventLog() {
+            ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+            ReflectionTestUtils.setField(revocationService, "statusListSettings", statusListSettings(false, false, true, 0));
+        }
+
+        @AfterEach
+        void disableEventLog() {
+            ReflectionTestUtils.setField(revocationService, "statusListSettings", STATUS_LIST_SETTINGS);
+        }
+
+        @Test
+        void shouldOnlyAppendRevocationEvent() {
+            when(revocationEventRepository.append(Mockito.eq(BPN + "-revocation#1"), Mockito.eq(3), any()))
+                    .thenReturn(1);
+            CredentialStatusDto credentialStatusDto = mockCredentialStatusDto(DID, "3");
+
+            assertDoesNotThrow(() -> revocationService.revoke(credentialStatusDto, "token"));
+
+            Mockito.verify(statusListCredentialRepository, Mockito.never()).setStatusBit(any(), Mockito.anyInt(), any());
+            Mockito.verify(statusListCredentialRepository, Mockito.never()).saveAndFlush(any());
+            Mockito.verifyNoInteractions(applicationEventPublisher);
+            Mockito.verify(httpClientService, Mockito.never())
+                    .signStatusListVC(any(VerifiableCredential.class), any(String.class));
+        }
+
+        @Test
+        void shouldPublishOverdueCompactedStatusListWithAppendedRevocation() {
+            BitSet bitSet = new BitSet();
+            bitSet.set(4);
+            var statusListCredential = statusListCredential(DID, bitSet, 1);
+            when(revocationEventRepository.append(Mockito.eq(BPN + "-revocation#1"), Mockito.eq(3), any()))
+                    .thenReturn(1);
+            when(statusListCredentialRepository.findById(any(String.class)))
+                    .thenReturn(Optional.of(statusListCredential));
+            when(statusListCredentialRepository.findForUpdateById(any(String.class)))
+                    .thenReturn(Optional.of(statusListCredential));
+            when(statusListCredentialRepository.findDirtySinceById(any(String.class)))
+                    .thenReturn(Optional.of(LocalDateTime.now().minusMinutes(5)));
+            when(httpClientService.signStatusListVC(any(VerifiableCredential.class), any(String.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+            CredentialStatusDto credentialStatusDto = mockCredentialStatusDto(DID, "3");
+
+            assertDoesNotThrow(() -> revocationService.revoke(credentialStatusDto, "token"));
+
+            assertEquals(1, statusListCredential.getSignedVersion());
+            Mockito.verify(statusListCredentialRepository, Mockito.never()).setStatusBit(any(), Mockito.anyInt(), any());
+            Mockito.verify(httpClientService)
+                    .signStatusListVC(any(VerifiableCredential.class), eq("token"));
+        }
+
+        @Test
+        void shouldThrowCredentialAlreadyRevokedExceptionWhenNothingAppended() {
+            when(statusListCredentialRepository.findById(any(String.class)))
+                    .thenReturn(Optional.of(statusListCredential(DID, new BitSet(), 1)));
+            CredentialStatusDto credentialStatusDto = mockCredentialStatusDto(DID, "3");
+
+            assertThrows(
+                    CredentialAlreadyRevokedException.class,
+                    () -> revocationService.revoke(credentialStatusDto, "token"));
+        }
+
+        @Test
+        void shouldVerifyPendingRevocation() {
+            when(revocationEventRepository.findPendingIndices(BPN + "-revocation#1")).thenReturn(List.of(3));
+            when(statusListCredentialRepository.findById(any(String.class)))
+                    .thenReturn(Optional.of(statusListCredential(DID, new BitSet(), 1)));
+
+            assertEquals(CredentialStatus.REVOKED.getName(),
+                    revocationService.verifyStatus(mockCredentialStatusDto(DID, "3")).get(StringPool.STATUS));
+            assertEquals(CredentialStatus.ACTIVE.getName(),
+                    revocationService.verifyStatus(mockCredentialStatusDto(DID, "4")).get(StringPool.STATUS));
+        }
+
+        @Test
+        void shouldCompactRevocationEventsIntoOneVersion() {
+            BitSet bitSet = new BitSet();
+            bitSet.set(3);
+            var statusListCredential = statusListCredential(DID, bitSet, 1);
+            when(statusListCredentialRepository.findForUpdateById(BPN + "-revocation#1"))
+                    .thenReturn(Optional.of(statusListCredential));
+            List<RevocationEvent> events = List.of(
+                    RevocationEvent.builder().id(1L).statusListId(BPN + "-revocation#1").statusIndex(4).build(),
+                    RevocationEvent.builder().id(2L).statusListId(BPN + "-revocation#1").statusIndex(5).build());
+            when(revocationEventRepository.findByStatusListId(BPN + "-revocation#1")).thenReturn(events);
+
+            assertTrue(revocationService.compactRevocationEvents(BPN + "-revocation#1"));
+
+            BitSet compacted = BitSet.valueOf(statusListCredential.getStatusBits());
+            assertTrue(compacted.get(3) && compacted.get(4) && compacted.get(5));
+            assertEquals(2, statusListCredential.getStatusBitsVersion());
+            Mockito.verify(revocationEventRepository).deleteAllInBatch(events);
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<StatusListChange>> changes = ArgumentCaptor.forClass(List.class);
+            Mockito.verify(statusListChangeRepository).saveAll(changes.capture());
+            assertEquals(List.of(4, 5), changes.getValue().stream().map(StatusListChange::getStatusIndex).toList());
+            Mockito.verify(applicationEventPublisher).publishEvent(new StatusListChangedEvent(BPN + "-revocation#1"));
+        }
     }
 
     @Nested
@@ -303,7 +848,9 @@ class RevocationServiceTest {
                     "http://this-is-my-domain/api/v1/revocations/credentials/" + BPN + "/revocation/1",
                     credentialStatusDto.statusListCredential());
             assertEquals(StatusListCredentialSubject.TYPE_ENTRY, credentialStatusDto.type());
-            Mockito.verify(statusListIndexRepository, times(1)).save(any(StatusListIndex.class));
+            ArgumentCaptor<StatusListIndex> captor = ArgumentCaptor.forClass(StatusListIndex.class);
+            Mockito.verify(statusListIndexRepository, times(1)).saveAndFlush(captor.capture());
+            assertEquals(1, captor.getValue().getNextIndex());
         }
 
         @Test
@@ -311,12 +858,14 @@ class RevocationServiceTest {
             ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
             StatusListIndex statusListIndex =
                     StatusListIndex.builder()
-                            .currentIndex("0")
+                            .nextIndex(1)
                             .id(BPN + "-revocation#1")
                             .issuerBpnStatus(BPN + "-revocation")
                             .build();
             when(statusListIndexRepository.findByIssuerBpnStatus(BPN + "-revocation"))
                     .thenReturn(List.of(statusListIndex));
+            when(statusListIndexRepository.reserveIndices(BPN + "-revocation#1", 1, BITSET_SIZE)).thenReturn(1);
+            when(statusListIndexRepository.findNextIndexById(BPN + "-revocation#1")).thenReturn(2);
             StatusEntryDto mockStatus = Mockito.mock(StatusEntryDto.class);
             when(mockStatus.issuerId()).thenReturn(DID);
             when(mockStatus.purpose()).thenReturn("revocation");
@@ -331,7 +880,38 @@ class RevocationServiceTest {
                     "http://this-is-my-domain/api/v1/revocations/credentials/" + BPN + "/revocation/1",
                     credentialStatusDto.statusListCredential());
             assertEquals(StatusListCredentialSubject.TYPE_ENTRY, credentialStatusDto.type());
-            Mockito.verify(statusListIndexRepository, times(1)).save(any(StatusListIndex.class));
+            Mockito.verify(statusListIndexRepository, times(1)).reserveIndices(BPN + "-revocation#1", 1, BITSET_SIZE);
+            Mockito.verify(statusListIndexRepository, Mockito.never()).saveAndFlush(any(StatusListIndex.class));
+        }
+
+        @Test
+        void shouldRetryWhenIndicesWereTakenConcurrently() {
+            ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+            StatusListIndex staleStatusListIndex =
+                    StatusListIndex.builder()
+                            .nextIndex(1)
+                            .id(BPN + "-revocation#1")
+                            .issuerBpnStatus(BPN + "-revocation")
+                            .build();
+            StatusListIndex freshStatusListIndex =
+                    StatusListIndex.builder()
+                            .nextIndex(4)
+                            .id(BPN + "-revocation#1")
+                            .issuerBpnStatus(BPN + "-revocation")
+                            .build();
+            when(statusListIndexRepository.findByIssuerBpnStatus(BPN + "-revocation"))
+                    .thenReturn(List.of(staleStatusListIndex), List.of(freshStatusListIndex));
+            when(statusListIndexRepository.reserveIndices(BPN + "-revocation#1", 1, BITSET_SIZE))
+                    .thenReturn(0, 1);
+            when(statusListIndexRepository.findNextIndexById(BPN + "-revocation#1")).thenReturn(5);
+            StatusEntryDto mockStatus = Mockito.mock(StatusEntryDto.class);
+            when(mockStatus.issuerId()).thenReturn(DID);
+            when(mockStatus.purpose()).thenReturn("revocation");
+
+            CredentialStatusDto credentialStatusDto = revocationService.createStatusList(mockStatus, "token");
+
+            assertEquals("4", credentialStatusDto.statusListIndex());
+            Mockito.verify(statusListIndexRepository, times(2)).reserveIndices(BPN + "-revocation#1", 1, BITSET_SIZE);
         }
 
         @Test
@@ -339,7 +919,7 @@ class RevocationServiceTest {
             ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
             StatusListIndex statusListIndex =
                     StatusListIndex.builder()
-                            .currentIndex(String.valueOf(BITSET_SIZE - 1))
+                            .nextIndex(BITSET_SIZE)
                             .id(BPN + "-revocation#1")
                             .issuerBpnStatus(BPN + "-revocation")
                             .build();
@@ -359,7 +939,260 @@ class RevocationServiceTest {
                     "http://this-is-my-domain/api/v1/revocations/credentials/" + BPN + "/revocation/2",
                     credentialStatusDto.statusListCredential());
             assertEquals(StatusListCredentialSubject.TYPE_ENTRY, credentialStatusDto.type());
-            Mockito.verify(statusListIndexRepository, times(1)).save(any(StatusListIndex.class));
+            Mockito.verify(statusListIndexRepository, times(1)).saveAndFlush(any(StatusListIndex.class));
+        }
+    }
+
+    @Nested
+    class CreateStatusListsTest {
+
+        @Test
+        void shouldReserveContiguousIndices() {
+            ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+            StatusListIndex statusListIndex =
+                    StatusListIndex.builder()
+                            .nextIndex(5)
+                            .id(BPN + "-revocation#1")
+                            .issuerBpnStatus(BPN + "-revocation")
+                            .build();
+            when(statusListIndexRepository.findByIssuerBpnStatus(BPN + "-revocation"))
+                    .thenReturn(List.of(statusListIndex));
+            when(statusListIndexRepository.reserveIndices(BPN + "-revocation#1", 3, BITSET_SIZE)).thenReturn(1);
+            when(statusListIndexRepository.findNextIndexById(BPN + "-revocation#1")).thenReturn(8);
+            StatusEntryDto mockStatus = Mockito.mock(StatusEntryDto.class);
+            when(mockStatus.issuerId()).thenReturn(DID);
+            when(mockStatus.purpose()).thenReturn("revocation");
+
+            List<CredentialStatusDto> credentialStatuses = revocationService.createStatusLists(mockStatus, 3, "token");
+
+            assertEquals(List.of("5", "6", "7"),
+                    credentialStatuses.stream().map(CredentialStatusDto::statusListIndex).toList());
+            assertEquals(
+                    "http://this-is-my-domain/api/v1/revocations/credentials/" + BPN + "/revocation/1#5",
+                    credentialStatuses.get(0).id());
+            Mockito.verify(statusListIndexRepository, times(1)).reserveIndices(BPN + "-revocation#1", 3, BITSET_SIZE);
+            Mockito.verifyNoInteractions(httpClientService);
+        }
+
+        @Test
+        void shouldContinueInNewStatusListWhenFirstRunsFull() {
+            ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+            StatusListIndex statusListIndex =
+                    StatusListIndex.builder()
+                            .nextIndex(BITSET_SIZE - 2)
+                            .id(BPN + "-revocation#1")
+                            .issuerBpnStatus(BPN + "-revocation")
+                            .build();
+            StatusListIndex fullStatusListIndex =
+                    StatusListIndex.builder()
+                            .nextIndex(BITSET_SIZE)
+                            .id(BPN + "-revocation#1")
+                            .issuerBpnStatus(BPN + "-revocation")
+                            .build();
+            when(statusListIndexRepository.findByIssuerBpnStatus(BPN + "-revocation"))
+                    .thenReturn(List.of(statusListIndex), List.of(fullStatusListIndex));
+            when(statusListIndexRepository.reserveIndices(BPN + "-revocation#1", 2, BITSET_SIZE)).thenReturn(1);
+            when(statusListIndexRepository.findNextIndexById(BPN + "-revocation#1")).thenReturn(BITSET_SIZE);
+            StatusEntryDto mockStatus = Mockito.mock(StatusEntryDto.class);
+            when(mockStatus.issuerId()).thenReturn(DID);
+            when(mockStatus.purpose()).thenReturn("revocation");
+
+            List<CredentialStatusDto> credentialStatuses = revocationService.createStatusLists(mockStatus, 5, "token");
+
+            assertEquals(List.of(String.valueOf(BITSET_SIZE - 2), String.valueOf(BITSET_SIZE - 1), "0", "1", "2"),
+                    credentialStatuses.stream().map(CredentialStatusDto::statusListIndex).toList());
+            assertEquals(
+                    "http://this-is-my-domain/api/v1/revocations/credentials/" + BPN + "/revocation/1",
+                    credentialStatuses.get(1).statusListCredential());
+            assertEquals(
+                    "http://this-is-my-domain/api/v1/revocations/credentials/" + BPN + "/revocation/2",
+                    credentialStatuses.get(2).statusListCredential());
+            Mockito.verify(httpClientService, times(1))
+                    .signStatusListVC(any(VerifiableCredential.class), any(String.class));
+            ArgumentCaptor<StatusListIndex> captor = ArgumentCaptor.forClass(StatusListIndex.class);
+            Mockito.verify(statusListIndexRepository, times(1)).saveAndFlush(captor.capture());
+            assertEquals(BPN + "-revocation#2", captor.getValue().getId());
+            assertEquals(3, captor.getValue().getNextIndex());
+        }
+
+        @Test
+        void shouldCreateStatusListWithConfiguredSizeWhenSmallerListIsFull() {
+            ReflectionTestUtils.setField(revocationService, "statusListAllocationSettings",
+                    new StatusListAllocationSettings(BITSET_SIZE, 1,
+                            Map.of("revocation", new StatusListAllocationSettings.Allocation(2048, null))));
+            try {
+                ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+                StatusListIndex statusListIndex =
+                        StatusListIndex.builder()
+                                .nextIndex(1024)
+                                .capacity(1024)
+                                .id(BPN + "-revocation#1")
+                                .issuerBpnStatus(BPN + "-revocation")
+                                .build();
+                when(statusListIndexRepository.findByIssuerBpnStatus(BPN + "-revocation"))
+                        .thenReturn(List.of(statusListIndex));
+
+                List<CredentialStatusDto> credentialStatuses =
+                        revocationService.createStatusLists(new StatusEntryDto("revocation", DID), 1, "token");
+
+                assertEquals(
+                        "http://this-is-my-domain/api/v1/revocations/credentials/" + BPN + "/revocation/2",
+                        credentialStatuses.get(0).statusListCredential());
+                Mockito.verify(statusListIndexRepository, Mockito.never())
+                        .reserveIndices(any(String.class), Mockito.anyInt(), Mockito.anyInt());
+                ArgumentCaptor<StatusListIndex> captor = ArgumentCaptor.forClass(StatusListIndex.class);
+                Mockito.verify(statusListIndexRepository, times(1)).saveAndFlush(captor.capture());
+                assertEquals(2048, captor.getValue().getCapacity());
+                assertEquals(2048 / Byte.SIZE, captor.getValue().getStatusListCredential().getStatusBits().length);
+            } finally {
+                ReflectionTestUtils.setField(revocationService, "statusListAllocationSettings", ALLOCATION_SETTINGS);
+            }
+        }
+
+        @Test
+        void shouldAnnounceStatusListCrossingProvisioningThreshold() {
+            ReflectionTestUtils.setField(revocationService, "statusListSettings", statusListSettings(false, false, false, 0.5));
+            try {
+                ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+                StatusListIndex statusListIndex =
+                        StatusListIndex.builder()
+                                .nextIndex(BITSET_SIZE / 2 - 1)
+                                .id(BPN + "-revocation#1")
+                                .issuerBpnStatus(BPN + "-revocation")
+                                .build();
+                when(statusListIndexRepository.findByIssuerBpnStatus(BPN + "-revocation"))
+                        .thenReturn(List.of(statusListIndex));
+                when(statusListIndexRepository.reserveIndices(BPN + "-revocation#1", 2, BITSET_SIZE)).thenReturn(1);
+                when(statusListIndexRepository.findNextIndexById(BPN + "-revocation#1")).thenReturn(BITSET_SIZE / 2 + 1);
+                StatusEntryDto statusEntry = new StatusEntryDto("revocation", DID);
+
+                revocationService.createStatusLists(statusEntry, 2, "token");
+
+                Mockito.verify(applicationEventPublisher, times(1)).publishEvent(
+                        new StatusListThresholdReachedEvent(statusEntry, BPN + "-revocation#1", "token"));
+                Mockito.verifyNoInteractions(httpClientService);
+            } finally {
+                ReflectionTestUtils.setField(revocationService, "statusListSettings", STATUS_LIST_SETTINGS);
+            }
+        }
+
+        @Test
+        void shouldNotAnnounceStatusListAlreadyPastProvisioningThreshold() {
+            ReflectionTestUtils.setField(revocationService, "statusListSettings", statusListSettings(false, false, false, 0.5));
+            try {
+                ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+                StatusListIndex statusListIndex =
+                        StatusListIndex.builder()
+                                .nextIndex(BITSET_SIZE / 2 + 1)
+                                .id(BPN + "-revocation#1")
+                                .issuerBpnStatus(BPN + "-revocation")
+                                .build();
+                when(statusListIndexRepository.findByIssuerBpnStatus(BPN + "-revocation"))
+                        .thenReturn(List.of(statusListIndex));
+                when(statusListIndexRepository.reserveIndices(BPN + "-revocation#1", 1, BITSET_SIZE)).thenReturn(1);
+                when(statusListIndexRepository.findNextIndexById(BPN + "-revocation#1")).thenReturn(BITSET_SIZE / 2 + 2);
+
+                revocationService.createStatusLists(new StatusEntryDto("revocation", DID), 1, "token");
+
+                Mockito.verifyNoInteractions(applicationEventPublisher);
+            } finally {
+                ReflectionTestUtils.setField(revocationService, "statusListSettings", STATUS_LIST_SETTINGS);
+            }
+        }
+    }
+
+    @Nested
+    class ProvisionStatusListTest {
+
+        @Test
+        void shouldProvisionNextStatusList() {
+            ReflectionTestUtils.setField(revocationService, "statusListSettings", statusListSettings(false, false, false, 0.9));
+            try {
+                ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+                StatusListIndex statusListIndex =
+                        StatusListIndex.builder()
+                                .nextIndex(BITSET_SIZE - 10)
+                                .id(BPN + "-revocation#1")
+                                .issuerBpnStatus(BPN + "-revocation")
+                                .build();
+                when(statusListIndexRepository.findByIssuerBpnStatus(BPN + "-revocation"))
+                        .thenReturn(List.of(statusListIndex));
+
+                List<String> statusListIds =
+                        revocationService.provisionStatusLists(new StatusEntryDto("revocation", DID), "token");
+
+                assertEquals(List.of(BPN + "-revocation#2"), statusListIds);
+                Mockito.verify(httpClientService, times(1))
+                        .signStatusListVC(any(VerifiableCredential.class), any(String.class));
+                ArgumentCaptor<StatusListIndex> captor = ArgumentCaptor.forClass(StatusListIndex.class);
+                Mockito.verify(statusListIndexRepository, times(1)).saveAndFlush(captor.capture());
+                assertEquals(BPN + "-revocation#2", captor.getValue().getId());
+                assertEquals(0, captor.getValue().getNextIndex());
+            } finally {
+                ReflectionTestUtils.setField(revocationService, "statusListSettings", STATUS_LIST_SETTINGS);
+            }
+        }
+
+        @Test
+        void shouldNotProvisionWhenOpenStatusListsHaveRoom() {
+            ReflectionTestUtils.setField(revocationService, "statusListSettings", statusListSettings(false, false, false, 0.9));
+            try {
+                StatusListIndex fullStatusListIndex =
+                        StatusListIndex.builder()
+                                .nextIndex(BITSET_SIZE)
+                                .id(BPN + "-revocation#1")
+                                .issuerBpnStatus(BPN + "-revocation")
+                                .build();
+                StatusListIndex provisionedStatusListIndex =
+                        StatusListIndex.builder()
+                                .nextIndex(0)
+                                .id(BPN + "-revocation#2")
+                                .issuerBpnStatus(BPN + "-revocation")
+                                .build();
+                when(statusListIndexRepository.findByIssuerBpnStatus(BPN + "-revocation"))
+                        .thenReturn(List.of(fullStatusListIndex, provisionedStatusListIndex));
+
+                assertTrue(revocationService.provisionStatusLists(new StatusEntryDto("revocation", DID), "token").isEmpty());
+
+                Mockito.verifyNoInteractions(httpClientService);
+                Mockito.verify(statusListIndexRepository, Mockito.never()).saveAndFlush(any(StatusListIndex.class));
+            } finally {
+                ReflectionTestUtils.setField(revocationService, "statusListSettings", STATUS_LIST_SETTINGS);
+            }
+        }
+
+        @Test
+        void shouldProvisionMissingShardsWithConfiguredSize() {
+            ReflectionTestUtils.setField(revocationService, "statusListSettings", statusListSettings(false, false, false, 0.9));
+            ReflectionTestUtils.setField(revocationService, "statusListAllocationSettings",
+                    new StatusListAllocationSettings(BITSET_SIZE, 1,
+                            Map.of(BPN, new StatusListAllocationSettings.Allocation(1024, 3))));
+            try {
+                ReflectionTestUtils.setField(httpClientService, "domainUrl", "http://this-is-my-domain");
+                StatusListIndex statusListIndex =
+                        StatusListIndex.builder()
+                                .nextIndex(1)
+                                .capacity(1024)
+                                .id(BPN + "-revocation#1")
+                                .issuerBpnStatus(BPN + "-revocation")
+                                .build();
+                when(statusListIndexRepository.findByIssuerBpnStatus(BPN + "-revocation"))
+                        .thenReturn(List.of(statusListIndex));
+
+                List<String> statusListIds =
+                        revocationService.provisionStatusLists(new StatusEntryDto("revocation", DID), "token");
+
+                assertEquals(List.of(BPN + "-revocation#2", BPN + "-revocation#3"), statusListIds);
+                ArgumentCaptor<StatusListIndex> captor = ArgumentCaptor.forClass(StatusListIndex.class);
+                Mockito.verify(statusListIndexRepository, times(2)).saveAndFlush(captor.capture());
+                for (StatusListIndex provisioned : captor.getAllValues()) {
+                    assertEquals(1024, provisioned.getCapacity());
+                    assertEquals(1024 / Byte.SIZE, provisioned.getStatusListCredential().getStatusBits().length);
+                }
+            } finally {
+                ReflectionTestUtils.setField(revocationService, "statusListSettings", STATUS_LIST_SETTINGS);
+                ReflectionTestUtils.setField(revocationService, "statusListAllocationSettings", ALLOCATION_SETTINGS);
+            }
         }
     }
 
@@ -377,7 +1210,7 @@ class RevocationServiceTest {
                     .thenReturn(Optional.of(statusListCredential));
             VerifiableCredential verifiableCredential =
                     assertDoesNotThrow(
-                            () -> revocationService.getStatusListCredential(BPN, "revocation", "1"));
+                            () -> revocationService.getStatusListCredential(BPN, "revocation", "1")).credential();
             assertNotNull(verifiableCredential);
             assertEquals(
                     URI.create(TestUtil.STATUS_LIST_CREDENTIAL_SUBJECT_ID),
@@ -387,12 +1220,185 @@ class RevocationServiceTest {
             assertEquals(verifiableCredential.getContext(), miwSettings.vcContexts());
         }
 
+        @Test
+        void shouldForgetKnownVersionPublishedElsewhere() {
+            var statusListCredential = statusListCredential(DID, new BitSet(), 0);
+            when(statusListCredentialRepository.findById(BPN + "-revocation#1"))
+                    .thenReturn(Optional.of(statusListCredential));
+            PublishedStatusListCredential published = revocationService.getStatusListCredential(BPN, "revocation", "1");
+            when(statusListCredentialRepository.findSignedVersionById(BPN + "-revocation#1"))
+                    .thenReturn(Optional.of(0L));
+
+            assertEquals(published.version(), revocationService.getKnownStatusListVersion(BPN, "revocation", "1"));
+
+            // another instance published a newer version
+            when(statusListCredentialRepository.findSignedVersionById(BPN + "-revocation#1"))
+                    .thenReturn(Optional.of(1L));
+
+            assertNull(revocationService.getKnownStatusListVersion(BPN, "revocation", "1"));
+            Mockito.reset(statusListCredentialRepository);
+            assertNull(revocationService.getKnownStatusListVersion(BPN, "revocation", "1"));
+            Mockito.verifyNoInteractions(statusListCredentialRepository);
+        }
+
+        @Test
+        void shouldServeLastSignedVersionWhenIssuerTokenIsRequired() {
+            BitSet bitSet = new BitSet();
+            bitSet.set(3);
+            var statusListCredential = statusListCredential(DID, bitSet, 2);
+            VerifiableCredential signedStatusListVC = statusListCredential.getCredential();
+            when(statusListCredentialRepository.findById(BPN + "-revocation#1"))
+                    .thenReturn(Optional.of(statusListCredential));
+
+            PublishedStatusListCredential published =
+                    assertDoesNotThrow(() -> revocationService.getStatusListCredential(BPN, "revocation", "1"));
+
+            assertEquals(signedStatusListVC, published.credential());
+            assertEquals(0, published.version().version());
+            Mockito.verifyNoInteractions(httpClientService);
+        }
+
+        @Nested
+        class WithoutIssuerToken {
+
+            private final StatusListSigner statusListSigner = Mockito.mock(StatusListSigner.class);
+
+            @BeforeEach
+            void useSignerWithoutIssuerToken() {
+                ReflectionTestUtils.setField(revocationService, "statusListSigner", statusListSigner);
+            }
+
+            @AfterEach
+            void restoreSigner() {
+                ReflectionTestUtils.setField(revocationService, "statusListSigner",
+                        new HttpStatusListSigner(httpClientService));
+            }
+
+            @Test
+            void shouldPublishStaleStatusList() {
+                BitSet bitSet = new BitSet();
+                bitSet.set(3);
+                var statusListCredential = statusListCredential(DID, bitSet, 2);
+                when(statusListCredentialRepository.findById(BPN + "-revocation#1"))
+                        .thenReturn(Optional.of(statusListCredential));
+                when(statusListCredentialRepository.findForUpdateById(BPN + "-revocation#1"))
+                        .thenReturn(Optional.of(statusListCredential));
+                when(statusListSigner.sign(any(VerifiableCredential.class), Mockito.isNull()))
+                        .thenAnswer(invocation -> invocation.getArgument(0));
+
+                PublishedStatusListCredential published =
+                        revocationService.getStatusListCredential(BPN, "revocation", "1");
+
+                Mockito.verify(statusListSigner).sign(any(VerifiableCredential.class), Mockito.isNull());
+                Mockito.verifyNoInteractions(httpClientService);
+                String encodedList = (String) published.credential().getCredentialSubject().get(0).get("encodedList");
+                assertTrue(decompressGzip(Base64.getDecoder().decode(encodedList)).get(3));
+                assertEquals(2, statusListCredential.getSignedVersion());
+                assertEquals(2, published.version().version());
+                when(statusListCredentialRepository.findSignedVersionById(BPN + "-revocation#1"))
+                        .thenReturn(Optional.of(2L));
+                assertEquals(published.version(), revocationService.getKnownStatusListVersion(BPN, "revocation", "1"));
+                Mockito.verify(applicationEventPublisher)
+                        .publishEvent(new StatusListPublishedEvent(BPN + "-revocation#1", published));
+            }
+
+            @Test
+            void shouldServeLastSignedVersionWhenPublishingFails() {
+                BitSet bitSet = new BitSet();
+                bitSet.set(3);
+                var statusListCredential = statusListCredential(DID, bitSet, 2);
+                VerifiableCredential signedStatusListVC = new VerifiableCredential(statusListCredential.getCredential());
+                when(statusListCredentialRepository.findById(BPN + "-revocation#1"))
+                        .thenReturn(Optional.of(statusListCredential));
+                when(statusListSigner.sign(any(VerifiableCredential.class), Mockito.isNull()))
+                        .thenThrow(new IllegalStateException("No signing key configured"));
+
+                PublishedStatusListCredential published =
+                        assertDoesNotThrow(() -> revocationService.getStatusListCredential(BPN, "revocation", "1"));
+
+                assertEquals(signedStatusListVC, published.credential());
+                assertEquals(0, published.version().version());
+                assertEquals(0, statusListCredential.getSignedVersion());
+            }
+        }
+
         @Test
         void shouldReturnNull() {
             when(statusListCredentialRepository.findById(any(String.class))).thenReturn(Optional.empty());
-            VerifiableCredential verifiableCredential =
+            PublishedStatusListCredential published =
                     assertDoesNotThrow(() -> revocationService.getStatusListCredential("", "", ""));
-            assertNull(verifiableCredential);
+            assertNull(published);
+        }
+    }
+
+    @Nested
+    class GetStatusListChangesTest {
+
+        @Test
+        void shouldReturnIndicesSetSinceVersion() {
+            BitSet bitSet = new BitSet();
+            bitSet.set(3);
+            bitSet.set(5);
+            var statusListCredential = statusListCredential(DID, bitSet, 3);
+            statusListCredential.setSignedVersion(3);
+            when(statusListCredentialRepository.findById(BPN + "-revocation#1"))
+                    .thenReturn(Optional.of(statusListCredential));
+            when(statusListChangeRepository.countVersions(BPN + "-revocation#1", 1, 3)).thenReturn(2L);
+            when(statusListChangeRepository.findChangedIndices(BPN + "-revocation#1", 1, 3)).thenReturn(List.of(3, 5));
+
+            StatusListChangesDto changes = revocationService.getStatusListChanges(BPN, "revocation", "1", 1);
+
+            assertEquals(1, changes.since());
+            assertEquals(3, changes.version());
+            assertEquals(List.of(3, 5), changes.indices());
+            assertEquals(
+                    httpClientService.domainUrl + "/api/v1/revocations/credentials/" + BPN + "/revocation/1",
+                    changes.statusListCredential());
+            // the checkpoint is the signed credential as published, its proof can be verified
+            assertEquals(statusListCredential.getCredential(), changes.checkpoint());
+        }
+
+        @Test
+        void shouldReturnNoIndicesForCurrentVersion() {
+            var statusListCredential = statusListCredential(DID, new BitSet(), 2);
+            statusListCredential.setSignedVersion(2);
+            when(statusListCredentialRepository.findById(BPN + "-revocation#1"))
+                    .thenReturn(Optional.of(statusListCredential));
+
+            StatusListChangesDto changes = revocationService.getStatusListChanges(BPN, "revocation", "1", 2);
+
+            assertTrue(changes.indices().isEmpty());
+            Mockito.verifyNoInteractions(statusListChangeRepository);
+        }
+
+        @Test
+        void shouldThrowWhenChangesAreNotRecordedCompletely() {
+            var statusListCredential = statusListCredential(DID, new BitSet(), 3);
+            statusListCredential.setSignedVersion(3);
+            when(statusListCredentialRepository.findById(BPN + "-revocation#1"))
+                    .thenReturn(Optional.of(statusListCredential));
+            when(statusListChangeRepository.countVersions(BPN + "-revocation#1", 0, 3)).thenReturn(1L);
+
+            assertThrows(StatusListChangesGoneException.class,
+                    () -> revocationService.getStatusListChanges(BPN, "revocation", "1", 0));
+        }
+
+        @Test
+        void shouldThrowWhenVersionIsNewerThanStatusList() {
+            var statusListCredential = statusListCredential(DID, new BitSet(), 1);
+            statusListCredential.setSignedVersion(1);
+            when(statusListCredentialRepository.findById(BPN + "-revocation#1"))
+                    .thenReturn(Optional.of(statusListCredential));
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> revocationService.getStatusListChanges(BPN, "revocation", "1", 2));
+        }
+
+        @Test
+        void shouldReturnNullForUnknownStatusList() {
+            when(statusListCredentialRepository.findById(any(String.class))).thenReturn(Optional.empty());
+
+            assertNull(revocationService.getStatusListChanges(BPN, "revocation", "1", 0));
         }
     }
 
@@ -500,4 +1506,38 @@ class RevocationServiceTest {
                     IllegalArgumentException.class, () -> revocationService.validateCredentialStatus(dto));
         }
     }
+
+    /**
+     * Creates a status list whose credential holds an empty encoded list, as signed before the given
+     * bits have been set.
+     */
+    private static StatusListCredential statusListCredential(String issuer, BitSet statusBits, long statusBitsVersion) {
+        var credentialBuilder = mockStatusListVC(issuer, "1", mockEmptyEncodedList());
+        return StatusListCredential.builder()
+                .id(BPN + "-revocation#1")
+                .issuerBpn(BPN)
+                .credential(mockStatusListCredential(issuer, credentialBuilder).getCredential())
+                .statusBits(statusBits == null ? null : BitSetManager.toStatusBits(statusBits))
+                .statusBitsVersion(statusBitsVersion)
+                .publishedAt(LocalDateTime.now().minusMinutes(5))
+                .build();
+    }
+
+    private static CredentialStatusDto mockCredentialStatusDto(String issuer, String index) {
+        CredentialStatusDto credentialStatusDto = Mockito.mock(CredentialStatusDto.class);
+        when(credentialStatusDto.id())
+                .thenReturn(
+                        "http://this-is-my-domain/api/v1/revocations/credentials/"
+                                + TestUtil.extractBpnFromDid(issuer)
+                                + "/revocation/1#" + index);
+        when(credentialStatusDto.statusPurpose()).thenReturn("revocation");
+        when(credentialStatusDto.statusListIndex()).thenReturn(index);
+        when(credentialStatusDto.statusListCredential())
+                .thenReturn(
+                        "http://this-is-my-domain/api/v1/revocations/credentials/"
+                                + TestUtil.extractBpnFromDid(issuer)
+                                + "/revocation/1");
+        when(credentialStatusDto.type()).thenReturn("StatusList2021Entry");
+        return credentialStatusDto;
+    }
 }
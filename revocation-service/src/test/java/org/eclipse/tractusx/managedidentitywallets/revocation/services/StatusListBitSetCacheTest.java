@@ -0,0 +1,164 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListCacheSettings;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatusListBitSetCacheTest {
+
+    private static final String LIST_ID = "BPNL123456789000-revocation#1";
+
+    @Test
+    void shouldReturnCachedBitSet() {
+        StatusListBitSetCache cache = new StatusListBitSetCache(new StatusListCacheSettings(10, Duration.ofMinutes(1)));
+        BitSet bitSet = new BitSet();
+        cache.put(LIST_ID, bitSet, 1, cache.generation());
+        assertSame(bitSet, cache.get(LIST_ID));
+    }
+
+    @Test
+    void shouldReadBitOfStoredStatusBits() {
+        StatusListBitSetCache cache = new StatusListBitSetCache(new StatusListCacheSettings(10, Duration.ofMinutes(1)));
+        assertEquals(BitSetStore.NOT_STORED, cache.getBit(LIST_ID, 9));
+        cache.putStatusBits(LIST_ID, new byte[]{ 0, 2 }, 1, cache.generation());
+        assertEquals(1, cache.getBit(LIST_ID, 9));
+        assertEquals(0, cache.getBit(LIST_ID, 8));
+    }
+
+    @Test
+    void shouldInvalidateBitSet() {
+        StatusListBitSetCache cache = new StatusListBitSetCache(new StatusListCacheSettings(10, Duration.ofMinutes(1)));
+        cache.put(LIST_ID, new BitSet(), 1, cache.generation());
+        cache.invalidate(LIST_ID);
+        assertNull(cache.get(LIST_ID));
+    }
+
+    @Test
+    void shouldNotCacheBitSetLoadedBeforeInvalidation() {
+        StatusListBitSetCache cache = new StatusListBitSetCache(new StatusListCacheSettings(10, Duration.ofMinutes(1)));
+        long generation = cache.generation();
+        cache.invalidate(LIST_ID);
+        cache.put(LIST_ID, new BitSet(), 1, generation);
+        assertNull(cache.get(LIST_ID));
+    }
+
+    @Test
+    void shouldSetBitOfCachedBitSetWithoutChangingIt() {
+        StatusListBitSetCache cache = new StatusListBitSetCache(new StatusListCacheSettings(10, Duration.ofMinutes(1)));
+        BitSet bitSet = new BitSet();
+        cache.put(LIST_ID, bitSet, 1, cache.generation());
+
+        cache.setBit(LIST_ID, 5, 2);
+
+        assertEquals(1, cache.getBit(LIST_ID, 5));
+        assertTrue(bitSet.isEmpty());
+    }
+
+    @Test
+    void shouldDropBitSetWhenRevocationDoesNotFollowCachedVersion() {
+        StatusListBitSetCache cache = new StatusListBitSetCache(new StatusListCacheSettings(10, Duration.ofMinutes(1)));
+        cache.put(LIST_ID, new BitSet(), 1, cache.generation());
+
+        // version 2 has been produced by another replica
+        cache.setBit(LIST_ID, 5, 3);
+
+        assertNull(cache.get(LIST_ID));
+    }
+
+    @Test
+    void shouldDropBitSetChangedByOtherReplica() {
+        StatusListBitSetCache cache = new StatusListBitSetCache(new StatusListCacheSettings(10, Duration.ofMinutes(1)));
+        long generation = cache.generation();
+        cache.put(LIST_ID, new BitSet(), 1, generation);
+
+        cache.changed(LIST_ID, 2);
+
+        assertNull(cache.get(LIST_ID));
+        // a load started before the change must not be cached
+        cache.put(LIST_ID, new BitSet(), 1, generation);
+        assertNull(cache.get(LIST_ID));
+    }
+
+    @Test
+    void shouldKeepBitSetIncludingChange() {
+        StatusListBitSetCache cache = new StatusListBitSetCache(new StatusListCacheSettings(10, Duration.ofMinutes(1)));
+        cache.put(LIST_ID, new BitSet(), 1, cache.generation());
+        cache.setBit(LIST_ID, 5, 2);
+
+        // the change of this replica read back from the change log
+        cache.changed(LIST_ID, 2);
+
+        assertEquals(1, cache.getBit(LIST_ID, 5));
+    }
+
+    @Test
+    void shouldCacheBitSetLoadedBeforeChangeOfOtherStatusList() {
+        StatusListBitSetCache cache = new StatusListBitSetCache(new StatusListCacheSettings(10, Duration.ofMinutes(1)));
+        long generation = cache.generation();
+        cache.invalidate("list#2");
+        cache.put(LIST_ID, new BitSet(), 1, generation);
+        assertNotNull(cache.get(LIST_ID));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedBitSet() {
+        StatusListBitSetCache cache = new StatusListBitSetCache(new StatusListCacheSettings(2, Duration.ofMinutes(1)));
+        cache.put("list#1", new BitSet(), 1, cache.generation());
+        cache.put("list#2", new BitSet(), 1, cache.generation());
+        cache.get("list#1");
+        cache.put("list#3", new BitSet(), 1, cache.generation());
+        assertNotNull(cache.get("list#1"));
+        assertNull(cache.get("list#2"));
+        assertNotNull(cache.get("list#3"));
+    }
+
+    @Test
+    void shouldExpireBitSet() {
+        StatusListBitSetCache cache = new StatusListBitSetCache(new StatusListCacheSettings(10, Duration.ZERO));
+        cache.put(LIST_ID, new BitSet(), 1, cache.generation());
+        assertNull(cache.get(LIST_ID));
+    }
+
+    @Test
+    void shouldNotCacheWhenDisabled() {
+        StatusListBitSetCache cache = new StatusListBitSetCache(new StatusListCacheSettings(0, Duration.ofMinutes(1)));
+        cache.put(LIST_ID, new BitSet(), 1, cache.generation());
+        assertNull(cache.get(LIST_ID));
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new StatusListCacheSettings(-1, Duration.ofMinutes(1)));
+        assertThrows(NullPointerException.class, () -> new StatusListCacheSettings(1, null));
+    }
+}
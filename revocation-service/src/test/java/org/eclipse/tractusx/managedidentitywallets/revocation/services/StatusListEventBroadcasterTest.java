@@ -0,0 +1,277 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListEventSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.StatusListChangeLoggedEvent;
+import org.eclipse.tractusx.managedidentitywallets.revocation.dto.StatusListChangeEventDto;
+import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.StatusListChange;
+import org.eclipse.tractusx.managedidentitywallets.revocation.repository.StatusListChangeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.BPN;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class StatusListEventBroadcasterTest {
+
+    private static final String STATUS_LIST_ID = BPN + "-revocation#1";
+
+    private static final String CLIENT = "verifier";
+
+    private StatusListChangeRepository statusListChangeRepository;
+
+    private StatusListEventSettings settings;
+
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private StatusListEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        statusListChangeRepository = Mockito.mock(StatusListChangeRepository.class);
+        applicationEventPublisher = Mockito.mock(ApplicationEventPublisher.class);
+        settings = new StatusListEventSettings(Duration.ofSeconds(1), Duration.ofSeconds(15),
+                Duration.ofMinutes(30), 3, 2, 3, Duration.ofSeconds(10));
+        // registrations run right away, polls are triggered by the tests
+        ScheduledExecutorService executor = Mockito.mock(ScheduledExecutorService.class);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(executor).execute(any());
+        broadcaster = new StatusListEventBroadcaster(statusListChangeRepository, settings, applicationEventPublisher, executor);
+    }
+
+    @Test
+    void shouldStreamChangesGroupedByVersion() {
+        when(statusListChangeRepository.findMaxId()).thenReturn(10L);
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter, CLIENT, null, null);
+        when(statusListChangeRepository.findByIdGreaterThanOrderByIdAsc(10L, Limit.of(1000))).thenReturn(List.of(
+                change(11, STATUS_LIST_ID, 3, 5),
+                change(12, STATUS_LIST_ID, 3, 9),
+                change(13, "BPNL000000000001-revocation#1", 1, 4)));
+
+        broadcaster.poll();
+
+        assertEquals(List.of(
+                new StatusListChangeEventDto(STATUS_LIST_ID, 3, List.of(5, 9)),
+                new StatusListChangeEventDto("BPNL000000000001-revocation#1", 1, List.of(4))), emitter.changes());
+        assertTrue(emitter.text().contains("id:12\n"));
+        assertTrue(emitter.text().contains("id:13\n"));
+    }
+
+    @Test
+    void shouldOnlyStreamChangesOfSubscribedIssuer() {
+        when(statusListChangeRepository.findMaxId()).thenReturn(0L);
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter, CLIENT, BPN, null);
+        when(statusListChangeRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(1000))).thenReturn(List.of(
+                change(1, "BPNL000000000001-revocation#1", 1, 4),
+                change(2, STATUS_LIST_ID, 1, 7)));
+
+        broadcaster.poll();
+
+        assertEquals(List.of(new StatusListChangeEventDto(STATUS_LIST_ID, 1, List.of(7))), emitter.changes());
+    }
+
+    @Test
+    void shouldStreamChangeCommittedLate() {
+        when(statusListChangeRepository.findMaxId()).thenReturn(10L);
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter, CLIENT, null, null);
+        when(statusListChangeRepository.findByIdGreaterThanOrderByIdAsc(10L, Limit.of(1000)))
+                .thenReturn(List.of(change(12, STATUS_LIST_ID, 4, 9)));
+        broadcaster.poll();
+        // id 11 belongs to a transaction that committed after the one of id 12
+        when(statusListChangeRepository.findByIdInOrderByIdAsc(Set.of(11L)))
+                .thenReturn(List.of(change(11, "BPNL000000000001-revocation#1", 2, 3)));
+
+        broadcaster.poll();
+
+        assertEquals(List.of(
+                new StatusListChangeEventDto(STATUS_LIST_ID, 4, List.of(9)),
+                new StatusListChangeEventDto("BPNL000000000001-revocation#1", 2, List.of(3))), emitter.changes());
+    }
+
+    @Test
+    void shouldPublishChangesWithoutSubscribers() {
+        when(statusListChangeRepository.findMaxId()).thenReturn(10L);
+        broadcaster.poll();
+        when(statusListChangeRepository.findByIdGreaterThanOrderByIdAsc(10L, Limit.of(1000))).thenReturn(List.of(
+                change(11, STATUS_LIST_ID, 3, 5),
+                change(12, STATUS_LIST_ID, 3, 9)));
+
+        broadcaster.poll();
+
+        verify(applicationEventPublisher).publishEvent(new StatusListChangeLoggedEvent(STATUS_LIST_ID, 3));
+        verifyNoMoreInteractions(applicationEventPublisher);
+    }
+
+    @Test
+    void shouldReplayMissedChanges() {
+        when(statusListChangeRepository.findMaxId()).thenReturn(22L);
+        when(statusListChangeRepository.findByIdBetweenOrderByIdAsc(21L, 22L, Limit.of(4)))
+                .thenReturn(List.of(change(21, STATUS_LIST_ID, 6, 1), change(22, STATUS_LIST_ID, 7, 2)));
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        broadcaster.subscribe(emitter, CLIENT, null, 20L);
+
+        assertEquals(List.of(
+                new StatusListChangeEventDto(STATUS_LIST_ID, 6, List.of(1)),
+                new StatusListChangeEventDto(STATUS_LIST_ID, 7, List.of(2))), emitter.changes());
+    }
+
+    @Test
+    void shouldStreamChangesCommittedDuringReplay() {
+        when(statusListChangeRepository.findMaxId()).thenReturn(22L);
+        when(statusListChangeRepository.findByIdBetweenOrderByIdAsc(21L, 22L, Limit.of(4)))
+                .thenReturn(List.of(change(21, STATUS_LIST_ID, 6, 1), change(22, STATUS_LIST_ID, 7, 2)));
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter, CLIENT, null, 20L);
+        // committed after the replay read the change log
+        when(statusListChangeRepository.findByIdGreaterThanOrderByIdAsc(22L, Limit.of(1000)))
+                .thenReturn(List.of(change(23, STATUS_LIST_ID, 8, 3)));
+
+        broadcaster.poll();
+
+        assertEquals(List.of(
+                new StatusListChangeEventDto(STATUS_LIST_ID, 6, List.of(1)),
+                new StatusListChangeEventDto(STATUS_LIST_ID, 7, List.of(2)),
+                new StatusListChangeEventDto(STATUS_LIST_ID, 8, List.of(3))), emitter.changes());
+    }
+
+    @Test
+    void shouldRequestResyncWhenTooManyChangesWereMissed() {
+        when(statusListChangeRepository.findMaxId()).thenReturn(24L);
+        when(statusListChangeRepository.findByIdBetweenOrderByIdAsc(anyLong(), anyLong(), any())).thenReturn(List.of(
+                change(21, STATUS_LIST_ID, 6, 1), change(22, STATUS_LIST_ID, 7, 2),
+                change(23, STATUS_LIST_ID, 8, 3), change(24, STATUS_LIST_ID, 9, 4)));
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        broadcaster.subscribe(emitter, CLIENT, null, 20L);
+
+        assertTrue(emitter.changes().isEmpty());
+        assertTrue(emitter.text().contains("event:" + StatusListEventBroadcaster.RESYNC_EVENT + "\n"));
+    }
+
+    @Test
+    void shouldReplayOnPollingThread() {
+        ScheduledExecutorService executor = Mockito.mock(ScheduledExecutorService.class);
+        broadcaster = new StatusListEventBroadcaster(statusListChangeRepository, settings, applicationEventPublisher, executor);
+        when(statusListChangeRepository.findMaxId()).thenReturn(22L);
+        when(statusListChangeRepository.findByIdBetweenOrderByIdAsc(21L, 22L, Limit.of(4)))
+                .thenReturn(List.of(change(22, STATUS_LIST_ID, 7, 2)));
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        broadcaster.subscribe(emitter, CLIENT, null, 20L);
+
+        verifyNoInteractions(statusListChangeRepository);
+        ArgumentCaptor<Runnable> registration = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).execute(registration.capture());
+        registration.getValue().run();
+        assertEquals(List.of(new StatusListChangeEventDto(STATUS_LIST_ID, 7, List.of(2))), emitter.changes());
+    }
+
+    @Test
+    void shouldRejectSubscribersBeyondLimit() {
+        broadcaster.subscribe(new RecordingEmitter(), "verifier-1", null, null);
+        broadcaster.subscribe(new RecordingEmitter(), "verifier-2", null, null);
+        broadcaster.subscribe(new RecordingEmitter(), "verifier-3", null, null);
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> broadcaster.subscribe(new RecordingEmitter(), "verifier-4", null, null));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+    }
+
+    @Test
+    void shouldRejectSubscribersOfClientBeyondLimit() {
+        broadcaster.subscribe(new RecordingEmitter(), CLIENT, null, null);
+        broadcaster.subscribe(new RecordingEmitter(), CLIENT, null, null);
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> broadcaster.subscribe(new RecordingEmitter(), CLIENT, null, null));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getStatusCode());
+        broadcaster.subscribe(new RecordingEmitter(), "other-verifier", null, null);
+    }
+
+    private static StatusListChange change(long id, String statusListId, long version, int index) {
+        return StatusListChange.builder()
+                .id(id)
+                .statusListId(statusListId)
+                .statusBitsVersion(version)
+                .statusIndex(index)
+                .changedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<ResponseBodyEmitter.DataWithMediaType> sent = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.addAll(builder.build());
+        }
+
+        List<StatusListChangeEventDto> changes() {
+            return sent.stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .filter(StatusListChangeEventDto.class::isInstance)
+                    .map(StatusListChangeEventDto.class::cast)
+                    .toList();
+        }
+
+        String text() {
+            StringBuilder text = new StringBuilder();
+            sent.stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .filter(String.class::isInstance)
+                    .forEach(text::append);
+            return text.toString();
+        }
+    }
+}
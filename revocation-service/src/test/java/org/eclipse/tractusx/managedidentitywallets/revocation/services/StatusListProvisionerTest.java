@@ -0,0 +1,117 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.StatusListThresholdReachedEvent;
+import org.eclipse.tractusx.managedidentitywallets.revocation.dto.StatusEntryDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+class StatusListProvisionerTest {
+
+    private static final StatusEntryDto STATUS_ENTRY =
+            new StatusEntryDto("revocation", "did:web:localhost:BPNL000000000000");
+
+    private RevocationService revocationService;
+
+    private ExecutorService executor;
+
+    private StatusListProvisioner statusListProvisioner;
+
+    @BeforeEach
+    void beforeEach() {
+        revocationService = Mockito.mock(RevocationService.class);
+        executor = Executors.newSingleThreadExecutor();
+        statusListProvisioner = new StatusListProvisioner(revocationService, executor);
+    }
+
+    @AfterEach
+    void afterEach() {
+        statusListProvisioner.shutdown();
+    }
+
+    @Test
+    void shouldProvisionWithTokenOfCaller() throws Exception {
+        when(revocationService.provisionStatusLists(STATUS_ENTRY, "token"))
+                .thenReturn(List.of("BPNL000000000000-revocation#2"));
+
+        statusListProvisioner.onThresholdReached(event("token"));
+
+        awaitProvisioning();
+        Mockito.verify(revocationService, times(1)).provisionStatusLists(STATUS_ENTRY, "token");
+    }
+
+    @Test
+    void shouldProvisionOncePerIssuerWhilePending() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(revocationService.provisionStatusLists(STATUS_ENTRY, "token")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return List.of("BPNL000000000000-revocation#2");
+        });
+
+        statusListProvisioner.onThresholdReached(event("token"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        statusListProvisioner.onThresholdReached(event("token"));
+        release.countDown();
+
+        awaitProvisioning();
+        Mockito.verify(revocationService, times(1)).provisionStatusLists(STATUS_ENTRY, "token");
+    }
+
+    @Test
+    void shouldProvisionAgainAfterFailure() throws Exception {
+        when(revocationService.provisionStatusLists(STATUS_ENTRY, "token"))
+                .thenThrow(new IllegalStateException("MIW unavailable"))
+                .thenReturn(List.of("BPNL000000000000-revocation#2"));
+
+        statusListProvisioner.onThresholdReached(event("token"));
+        awaitProvisioning();
+        statusListProvisioner.onThresholdReached(event("token"));
+
+        awaitProvisioning();
+        Mockito.verify(revocationService, times(2)).provisionStatusLists(STATUS_ENTRY, "token");
+    }
+
+    private static StatusListThresholdReachedEvent event(String token) {
+        return new StatusListThresholdReachedEvent(STATUS_ENTRY, "BPNL000000000000-revocation#1", token);
+    }
+
+    private void awaitProvisioning() throws Exception {
+        // the executor has a single thread, an empty task completes after the pending ones
+        executor.submit(() -> {
+        }).get(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.LocalSignerSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.MIWSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.MetricsSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListAllocationSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListCacheSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.StatusListCredential;
+import org.eclipse.tractusx.managedidentitywallets.revocation.repository.RevocationEventRepository;
+import org.eclipse.tractusx.managedidentitywallets.revocation.repository.StatusListChangeRepository;
+import org.eclipse.tractusx.managedidentitywallets.revocation.repository.StatusListCredentialRepository;
+import org.eclipse.tractusx.managedidentitywallets.revocation.repository.StatusListIndexRepository;
+import org.eclipse.tractusx.managedidentitywallets.revocation.utils.BitSetManager;
+import org.eclipse.tractusx.ssi.lib.crypt.KeyPair;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.BITSET_SIZE;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.BPN;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.DID;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.VC_CONTEXTS;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.decompressGzip;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.generateKeys;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.mockEmptyEncodedList;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.mockStatusListVC;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.statusListSettings;
+
+/**
+ * Publishes the changed status lists of several issuers with the local signer.
+ */
+@DataJpaTest
+@AutoConfigureJson
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StatusListPublisherIntegrationTest {
+
+    private static final String SECOND_BPN = "BPNL000000000001";
+
+    private static final String SECOND_DID = "did:web:example:" + SECOND_BPN;
+
+    @Autowired
+    private StatusListCredentialRepository statusListCredentialRepository;
+
+    @Autowired
+    private StatusListIndexRepository statusListIndexRepository;
+
+    @Autowired
+    private StatusListChangeRepository statusListChangeRepository;
+
+    @Autowired
+    private RevocationEventRepository revocationEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private RevocationService revocationService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private StatusListPublisher statusListPublisher;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        LocalStatusListSigner statusListSigner = new LocalStatusListSigner(new LocalSignerSettings(Map.of(
+                DID, issuerKey(DID),
+                SECOND_DID, issuerKey(SECOND_DID))));
+        HttpClientService httpClientService = Mockito.mock(HttpClientService.class);
+        httpClientService.domainUrl = "http://this-is-my-domain";
+        meterRegistry = new SimpleMeterRegistry();
+        StatusListCacheSettings cacheSettings = new StatusListCacheSettings(10, Duration.ofMinutes(10));
+        revocationService = new RevocationService(
+                statusListCredentialRepository,
+                statusListIndexRepository,
+                httpClientService,
+                new MIWSettings(VC_CONTEXTS),
+                new StatusListBitSetCache(cacheSettings),
+                new TransactionTemplate(transactionManager),
+                new StatusListVersionCache(cacheSettings),
+                new StatusListAllocationSettings(BITSET_SIZE, 1, Map.of()),
+                statusListSettings(false, false, false, 0),
+                Mockito.mock(ApplicationEventPublisher.class),
+                statusListChangeRepository,
+                revocationEventRepository,
+                statusListSigner,
+                new RevocationMetrics(meterRegistry, new MetricsSettings(false, 0)));
+        statusListPublisher = new StatusListPublisher(
+                statusListCredentialRepository, revocationService, statusListSettings(false, true, false, 0), meterRegistry);
+    }
+
+    @AfterEach
+    void afterEach() {
+        statusListCredentialRepository.deleteAll();
+    }
+
+    @Test
+    void shouldPublishStatusListsOfEveryIssuer() {
+        saveChangedStatusList(BPN, DID, 3);
+        saveChangedStatusList(SECOND_BPN, SECOND_DID, 5);
+
+        statusListPublisher.publishStatusLists();
+
+        assertPublished(BPN, DID, 3);
+        assertPublished(SECOND_BPN, SECOND_DID, 5);
+        assertThat(statusListCredentialRepository.findUnpublishedIds()).isEmpty();
+        assertThat(statusListPublisher.staleness()).isZero();
+    }
+
+    @Test
+    void shouldOnlyRepublishOverdueStatusListsWithoutWriteBehind() {
+        StatusListPublisher republisher = new StatusListPublisher(
+                statusListCredentialRepository, revocationService, statusListSettings(false, false, false, 0), meterRegistry);
+        saveChangedStatusList(BPN, DID, 3, LocalDateTime.now().minusMinutes(5));
+        saveChangedStatusList(SECOND_BPN, SECOND_DID, 5, LocalDateTime.now());
+
+        republisher.publishStatusLists();
+
+        assertPublished(BPN, DID, 3);
+        assertThat(statusListCredentialRepository.findUnpublishedIds()).containsExactly(SECOND_BPN + "-revocation#1");
+    }
+
+    private void saveChangedStatusList(String bpn, String did, int revokedIndex) {
+        saveChangedStatusList(bpn, did, revokedIndex, LocalDateTime.now().minusMinutes(1));
+    }
+
+    private void saveChangedStatusList(String bpn, String did, int revokedIndex, LocalDateTime dirtySince) {
+        BitSet bitSet = new BitSet();
+        bitSet.set(revokedIndex);
+        statusListCredentialRepository.saveAndFlush(StatusListCredential.builder()
+                .id(bpn + "-revocation#1")
+                .issuerBpn(bpn)
+                .credential(mockStatusListVC(did, "1", mockEmptyEncodedList()).build())
+                .statusBits(BitSetManager.toStatusBits(bitSet))
+                .statusBitsVersion(1)
+                .dirtySince(dirtySince)
+                .publishedAt(LocalDateTime.now().minusMinutes(5))
+                .build());
+    }
+
+    private void assertPublished(String bpn, String did, int revokedIndex) {
+        StatusListCredential statusListCredential =
+                statusListCredentialRepository.findById(bpn + "-revocation#1").orElseThrow();
+        assertThat(statusListCredential.getSignedVersion()).isEqualTo(1);
+        assertThat(statusListCredential.getDirtySince()).isNull();
+        VerifiableCredential credential = statusListCredential.getCredential();
+        assertThat(credential.getIssuer()).isEqualTo(URI.create(did));
+        assertThat(((Map<?, ?>) credential.get("proof")).get("verificationMethod")).isEqualTo(did + "#key-1");
+        String encodedList = (String) credential.getCredentialSubject().get(0).get("encodedList");
+        BitSet published = decompressGzip(Base64.getDecoder().decode(encodedList));
+        assertThat(published.get(revokedIndex)).isTrue();
+        assertThat(published.cardinality()).isEqualTo(1);
+    }
+
+    private static LocalSignerSettings.IssuerKey issuerKey(String did) throws Exception {
+        KeyPair keyPair = generateKeys();
+        return new LocalSignerSettings.IssuerKey(URI.create(did + "#key-1"),
+                Base64.getEncoder().encodeToString(keyPair.getPrivateKey().asByte()));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.managedidentitywallets.revocation.repository.StatusListCredentialRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.statusListSettings;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+class StatusListPublisherTest {
+
+    private StatusListCredentialRepository statusListCredentialRepository;
+
+    private RevocationService revocationService;
+
+    private MeterRegistry meterRegistry;
+
+    private StatusListPublisher statusListPublisher;
+
+    @BeforeEach
+    void beforeEach() {
+        statusListCredentialRepository = Mockito.mock(StatusListCredentialRepository.class);
+        revocationService = Mockito.mock(RevocationService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        statusListPublisher = new StatusListPublisher(
+                statusListCredentialRepository, revocationService, statusListSettings(false, true, false, 0), meterRegistry);
+    }
+
+    @Test
+    void shouldPublishEveryChangedStatusListOnce() {
+        when(statusListCredentialRepository.findUnpublishedIds()).thenReturn(List.of("list#1", "list#2"));
+        when(statusListCredentialRepository.findOldestUnpublishedChange()).thenReturn(Optional.empty());
+
+        statusListPublisher.publishStatusLists();
+
+        Mockito.verify(revocationService, times(1)).publishStatusList("list#1", null);
+        Mockito.verify(revocationService, times(1)).publishStatusList("list#2", null);
+        assertEquals(0, meterRegistry.get(StatusListPublisher.STALENESS_METRIC).gauge().value());
+    }
+
+    @Test
+    void shouldContinueWhenPublishingAStatusListFails() {
+        when(statusListCredentialRepository.findUnpublishedIds()).thenReturn(List.of("list#1", "list#2"));
+        when(statusListCredentialRepository.findOldestUnpublishedChange())
+                .thenReturn(Optional.of(LocalDateTime.now().minusMinutes(1)));
+        when(revocationService.publishStatusList("list#1", null))
+                .thenThrow(new IllegalStateException("No signing key configured"));
+
+        statusListPublisher.publishStatusLists();
+
+        Mockito.verify(revocationService, times(1)).publishStatusList("list#2", null);
+        assertTrue(meterRegistry.get(StatusListPublisher.STALENESS_METRIC).gauge().value() >= 60);
+    }
+
+    @Test
+    void shouldOnlyRepublishOverdueStatusListsWithoutWriteBehind() {
+        StatusListPublisher republisher = new StatusListPublisher(
+                statusListCredentialRepository, revocationService, statusListSettings(false, false, false, 0), meterRegistry);
+        when(statusListCredentialRepository.findUnpublishedIdsChangedBefore(any())).thenReturn(List.of("list#1"));
+        when(statusListCredentialRepository.findOldestUnpublishedChange()).thenReturn(Optional.empty());
+
+        republisher.publishStatusLists();
+
+        ArgumentCaptor<LocalDateTime> changedBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        Mockito.verify(statusListCredentialRepository).findUnpublishedIdsChangedBefore(changedBefore.capture());
+        assertTrue(changedBefore.getValue().isBefore(LocalDateTime.now().minusSeconds(59)));
+        Mockito.verify(statusListCredentialRepository, Mockito.never()).findUnpublishedIds();
+        Mockito.verify(revocationService, times(1)).publishStatusList("list#1", null);
+    }
+
+    @Test
+    void shouldNotPublishWithoutChangedStatusLists() {
+        when(statusListCredentialRepository.findOldestUnpublishedChange()).thenReturn(Optional.empty());
+
+        statusListPublisher.publishStatusLists();
+
+        Mockito.verify(revocationService, Mockito.never()).publishStatusList(any(), any());
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListSnapshotSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.PublishedStatusListCredential;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.StatusListPublishedEvent;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.StatusListVersion;
+import org.eclipse.tractusx.managedidentitywallets.revocation.jpa.StatusListCredential;
+import org.eclipse.tractusx.managedidentitywallets.revocation.repository.StatusListCredentialRepository;
+import org.eclipse.tractusx.managedidentitywallets.revocation.utils.StatusListSnapshots;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Limit;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.BPN;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.DID;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.mockEmptyEncodedList;
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.mockStatusListVC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+class StatusListSnapshotPublisherTest {
+
+    private static final String STATUS_LIST_ID = BPN + "-revocation#1";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    private StatusListCredentialRepository statusListCredentialRepository;
+
+    private ScheduledExecutorService executor;
+
+    private StatusListSnapshotPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        statusListCredentialRepository = Mockito.mock(StatusListCredentialRepository.class);
+        executor = Mockito.mock(ScheduledExecutorService.class);
+        // runs background tasks right away, deletions are triggered by the tests
+        Mockito.doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(executor).execute(any());
+        publisher = new StatusListSnapshotPublisher(statusListCredentialRepository, OBJECT_MAPPER,
+                new StatusListSnapshotSettings(directory, Duration.ofMinutes(1), Duration.ofSeconds(30), true),
+                executor);
+    }
+
+    @Test
+    void shouldWriteSnapshotOfPublishedVersion() throws IOException {
+        VerifiableCredential credential = credential();
+
+        publisher.onStatusListPublished(new StatusListPublishedEvent(STATUS_LIST_ID,
+                new PublishedStatusListCredential(credential, new StatusListVersion(3, Instant.now()))));
+
+        Path link = StatusListSnapshots.link(directory, STATUS_LIST_ID, false);
+        assertEquals(3, StatusListSnapshots.read(link).version());
+        Map<?, ?> json = OBJECT_MAPPER.readValue(Files.readAllBytes(link), Map.class);
+        assertEquals(credential.getId().toString(), json.get("id"));
+        Mockito.verify(executor, Mockito.never()).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    @Test
+    void shouldDeleteSupersededSnapshotAfterRetention() throws IOException {
+        publisher.write(STATUS_LIST_ID, new PublishedStatusListCredential(credential(),
+                new StatusListVersion(3, Instant.now())));
+
+        publisher.write(STATUS_LIST_ID, new PublishedStatusListCredential(credential(),
+                new StatusListVersion(4, Instant.now())));
+
+        ArgumentCaptor<Runnable> deletion = ArgumentCaptor.forClass(Runnable.class);
+        Mockito.verify(executor).schedule(deletion.capture(), eq(60_000L), eq(TimeUnit.MILLISECONDS));
+        Path superseded = directory.resolve(BPN).resolve("revocation").resolve("1.3.json");
+        assertTrue(Files.exists(superseded));
+        deletion.getValue().run();
+        assertTrue(Files.notExists(superseded));
+        assertTrue(Files.notExists(superseded.resolveSibling("1.3.json.gz")));
+        assertEquals(4, StatusListSnapshots.read(StatusListSnapshots.link(directory, STATUS_LIST_ID, true)).version());
+    }
+
+    @Test
+    void shouldWriteOutdatedSnapshotsEveryRefreshInterval() throws IOException {
+        String upToDate = BPN + "-revocation#2";
+        publisher.write(upToDate, new PublishedStatusListCredential(credential(),
+                new StatusListVersion(5, Instant.now())));
+        when(statusListCredentialRepository.findSignedVersions("", Limit.of(500)))
+                .thenReturn(List.of(signedVersion(STATUS_LIST_ID, 3), signedVersion(upToDate, 5)));
+        when(statusListCredentialRepository.findById(STATUS_LIST_ID)).thenReturn(Optional.of(
+                StatusListCredential.builder()
+                        .id(STATUS_LIST_ID)
+                        .issuerBpn(BPN)
+                        .credential(credential())
+                        .signedVersion(3)
+                        .publishedAt(LocalDateTime.now())
+                        .build()));
+
+        publisher.onApplicationReady();
+
+        ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+        Mockito.verify(executor).scheduleWithFixedDelay(refresh.capture(), eq(0L), eq(30_000L),
+                eq(TimeUnit.MILLISECONDS));
+        refresh.getValue().run();
+        assertEquals(3, StatusListSnapshots.read(StatusListSnapshots.link(directory, STATUS_LIST_ID, false)).version());
+        Mockito.verify(statusListCredentialRepository, Mockito.never()).findById(upToDate);
+    }
+
+    private static VerifiableCredential credential() {
+        return mockStatusListVC(DID, "1", mockEmptyEncodedList()).build();
+    }
+
+    private static StatusListCredentialRepository.SignedVersion signedVersion(String id, long version) {
+        StatusListCredentialRepository.SignedVersion signedVersion =
+                Mockito.mock(StatusListCredentialRepository.SignedVersion.class);
+        when(signedVersion.getId()).thenReturn(id);
+        when(signedVersion.getSignedVersion()).thenReturn(version);
+        return signedVersion;
+    }
+}
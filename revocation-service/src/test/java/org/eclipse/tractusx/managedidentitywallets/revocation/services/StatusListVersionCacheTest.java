@@ -0,0 +1,69 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.services;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.config.StatusListCacheSettings;
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.StatusListVersion;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class StatusListVersionCacheTest {
+
+    private static final String LIST_ID = "BPNL123456789000-revocation#1";
+
+    @Test
+    void shouldReturnKnownVersion() {
+        StatusListVersionCache cache = new StatusListVersionCache(new StatusListCacheSettings(10, Duration.ofMinutes(1)));
+        StatusListVersion version = new StatusListVersion(3, Instant.now());
+        cache.put(LIST_ID, version);
+        assertEquals(version, cache.get(LIST_ID));
+    }
+
+    @Test
+    void shouldKeepNewerVersion() {
+        StatusListVersionCache cache = new StatusListVersionCache(new StatusListCacheSettings(10, Duration.ofMinutes(1)));
+        StatusListVersion newer = new StatusListVersion(4, Instant.now());
+        cache.put(LIST_ID, newer);
+        cache.put(LIST_ID, new StatusListVersion(3, Instant.now()));
+        assertEquals(newer, cache.get(LIST_ID));
+    }
+
+    @Test
+    void shouldInvalidateVersion() {
+        StatusListVersionCache cache = new StatusListVersionCache(new StatusListCacheSettings(10, Duration.ofMinutes(1)));
+        cache.put(LIST_ID, new StatusListVersion(3, Instant.now()));
+        cache.invalidate(LIST_ID);
+        assertNull(cache.get(LIST_ID));
+    }
+
+    @Test
+    void shouldExpireVersion() {
+        StatusListVersionCache cache = new StatusListVersionCache(new StatusListCacheSettings(10, Duration.ZERO));
+        cache.put(LIST_ID, new StatusListVersion(3, Instant.now()));
+        assertNull(cache.get(LIST_ID));
+    }
+}
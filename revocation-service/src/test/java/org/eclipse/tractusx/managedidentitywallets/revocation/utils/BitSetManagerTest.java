@@ -57,6 +57,17 @@ class BitSetManagerTest {
         assertEquals(originalBitSet, decompressedBitSet);
     }
 
+    @Test
+    void toStatusBits_PadsToFullSizeAndEncodesLikeTheBitSet() {
+        BitSet bitSet = new BitSet(BitSetManager.BITSET_SIZE);
+        bitSet.set(9);
+
+        byte[] statusBits = BitSetManager.toStatusBits(bitSet);
+        assertEquals(BitSetManager.BITSET_SIZE / Byte.SIZE, statusBits.length);
+        assertEquals(bitSet, BitSet.valueOf(statusBits));
+        assertArrayEquals(BitSetManager.compress(bitSet), BitSetManager.compress(BitSet.valueOf(statusBits)));
+    }
+
     @Test
     void revokeCredential_SetsBitAndReturnsUpdatedEncodedList() throws Exception {
         String encodedList = BitSetManager.initializeEncodedListString();
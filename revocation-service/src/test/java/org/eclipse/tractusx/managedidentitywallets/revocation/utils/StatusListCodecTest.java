@@ -0,0 +1,166 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.utils;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.exception.BitSetManagerException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StatusListCodecTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 100, 10000, BitSetManager.BITSET_SIZE })
+    void encode_MatchesBitSetManager(int revoked) {
+        BitSet bitSet = randomBitSet(revoked);
+
+        String encodedList = StatusListCodec.encode(BitSetManager.toStatusBits(bitSet));
+
+        assertEquals(BitSetManager.encodeToString(BitSetManager.compress(bitSet)), encodedList);
+        assertEquals(bitSet, BitSetManager.decompress(BitSetManager.decodeFromString(encodedList)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 100, 10000, BitSetManager.BITSET_SIZE })
+    void decode_ReadsBitSetManagerEncoding(int revoked) {
+        BitSet bitSet = randomBitSet(revoked);
+
+        assertEquals(bitSet, StatusListCodec.decode(BitSetManager.encodeToString(BitSetManager.compress(bitSet))));
+    }
+
+    @Test
+    void decode_ReadsInitialEncodedList() {
+        assertEquals(new BitSet(), StatusListCodec.decode(BitSetManager.initializeEncodedListString()));
+    }
+
+    @Test
+    void decode_AcceptsOptionalGzipHeaderFields() {
+        BitSet bitSet = randomBitSet(100);
+        byte[] compressed = BitSetManager.compress(bitSet);
+        byte[] withFileName = new byte[compressed.length + 5];
+        System.arraycopy(compressed, 0, withFileName, 0, 10);
+        withFileName[3] = 8; // FNAME
+        System.arraycopy(new byte[] { 'l', 'i', 's', 't', 0 }, 0, withFileName, 10, 5);
+        System.arraycopy(compressed, 10, withFileName, 15, compressed.length - 10);
+
+        assertEquals(bitSet, StatusListCodec.decode(Base64.getEncoder().encodeToString(withFileName)));
+    }
+
+    @Test
+    void decode_AcceptsMissingBase64Padding() throws IOException {
+        byte[] bits = { 1, 2, 3, 4 };
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(bits);
+        }
+
+        String encodedList = Base64.getEncoder().withoutPadding().encodeToString(outputStream.toByteArray());
+
+        assertEquals(BitSet.valueOf(bits), StatusListCodec.decode(encodedList));
+    }
+
+    @Test
+    void decode_ThrowsOnInvalidBase64() {
+        assertThrows(BitSetManagerException.class, () -> StatusListCodec.decode("H4sI$AAA"));
+        assertThrows(BitSetManagerException.class, () -> StatusListCodec.decode("H4sIA"));
+    }
+
+    @Test
+    void decode_ThrowsOnInvalidGzip() {
+        assertThrows(BitSetManagerException.class, () -> StatusListCodec.decode("AAAAAAAAAAAAAAAAAAAAAAAA"));
+    }
+
+    @Test
+    void decode_ThrowsOnCorruptChecksum() {
+        byte[] compressed = BitSetManager.compress(randomBitSet(100));
+        compressed[compressed.length - 8] ^= 1;
+
+        String encodedList = Base64.getEncoder().encodeToString(compressed);
+
+        assertThrows(BitSetManagerException.class, () -> StatusListCodec.decode(encodedList));
+    }
+
+    @Test
+    void decode_ThrowsOnTruncatedList() {
+        byte[] compressed = BitSetManager.compress(randomBitSet(1000));
+        byte[] truncated = new byte[compressed.length / 2];
+        System.arraycopy(compressed, 0, truncated, 0, truncated.length);
+
+        String encodedList = Base64.getEncoder().encodeToString(truncated);
+
+        assertThrows(BitSetManagerException.class, () -> StatusListCodec.decode(encodedList));
+    }
+
+    @Test
+    void decode_ReadsListOfLargestSize() throws IOException {
+        byte[] bits = new byte[BitSetManager.BITSET_SIZE / Byte.SIZE];
+        bits[bits.length - 1] = (byte) 0x80;
+
+        BitSet bitSet = StatusListCodec.decode(Base64.getEncoder().encodeToString(gzip(bits)));
+
+        assertEquals(BitSetManager.BITSET_SIZE - 1, bitSet.nextSetBit(0));
+    }
+
+    @Test
+    void decode_ThrowsWhenListExceedsStatusListSize() throws IOException {
+        // a few hundred bytes inflating to 16 MiB
+        String encodedList = Base64.getEncoder().encodeToString(gzip(new byte[16 * 1024 * 1024]));
+
+        assertThrows(BitSetManagerException.class, () -> StatusListCodec.decode(encodedList));
+        assertThrows(BitSetManagerException.class, () -> StatusListCodec.decode(
+                Base64.getEncoder().encodeToString(gzip(new byte[BitSetManager.BITSET_SIZE / Byte.SIZE + 1]))));
+    }
+
+    @Test
+    void decode_ThrowsOnOversizedEncodedList() {
+        String encodedList = "A".repeat(BitSetManager.BITSET_SIZE);
+
+        assertThrows(BitSetManagerException.class, () -> StatusListCodec.decode(encodedList));
+    }
+
+    private static byte[] gzip(byte[] bits) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(bits);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static BitSet randomBitSet(int revoked) {
+        Random random = new Random(revoked);
+        BitSet bitSet = new BitSet(BitSetManager.BITSET_SIZE);
+        for (int i = 0; i < revoked; i++) {
+            bitSet.set(random.nextInt(BitSetManager.BITSET_SIZE));
+        }
+        return bitSet;
+    }
+}
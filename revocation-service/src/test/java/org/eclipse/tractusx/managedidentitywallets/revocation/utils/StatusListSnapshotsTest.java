@@ -0,0 +1,135 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.revocation.utils;
+
+import org.eclipse.tractusx.managedidentitywallets.revocation.domain.StatusListVersion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.eclipse.tractusx.managedidentitywallets.revocation.TestUtil.BPN;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatusListSnapshotsTest {
+
+    private static final String STATUS_LIST_ID = BPN + "-revocation#1";
+
+    private static final Instant PUBLISHED_AT = Instant.parse("2024-05-01T10:15:30Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void link_FollowsStatusListUrl() {
+        assertEquals(directory.resolve(BPN).resolve("revocation").resolve("1"),
+                StatusListSnapshots.link(directory, STATUS_LIST_ID, false));
+        assertEquals(directory.resolve(BPN).resolve("revocation").resolve("1.gz"),
+                StatusListSnapshots.link(directory, STATUS_LIST_ID, true));
+        assertThrows(IllegalArgumentException.class, () -> StatusListSnapshots.link(directory, "invalid", false));
+    }
+
+    @Test
+    void write_LinksSnapshotOfVersion() throws IOException {
+        byte[] json = json(7);
+
+        List<Path> superseded = StatusListSnapshots.write(directory, STATUS_LIST_ID,
+                new StatusListVersion(7, PUBLISHED_AT), json);
+
+        assertEquals(List.of(), superseded);
+        Path link = StatusListSnapshots.link(directory, STATUS_LIST_ID, false);
+        assertEquals(Path.of("1.7.json"), Files.readSymbolicLink(link));
+        StatusListSnapshots.Snapshot snapshot = StatusListSnapshots.read(link);
+        assertEquals(7, snapshot.version());
+        assertEquals("\"7\"", snapshot.eTag());
+        assertEquals(json.length, snapshot.length());
+        assertEquals(PUBLISHED_AT, snapshot.lastModified());
+        assertArrayEquals(json, Files.readAllBytes(link));
+
+        StatusListSnapshots.Snapshot gzipSnapshot =
+                StatusListSnapshots.read(StatusListSnapshots.link(directory, STATUS_LIST_ID, true));
+        assertEquals(7, gzipSnapshot.version());
+        assertEquals(Files.size(gzipSnapshot.file()), gzipSnapshot.length());
+        assertArrayEquals(json, gunzip(gzipSnapshot.file()));
+    }
+
+    @Test
+    void write_ReturnsSupersededFiles() throws IOException {
+        StatusListSnapshots.write(directory, STATUS_LIST_ID, new StatusListVersion(7, PUBLISHED_AT), json(7));
+
+        List<Path> superseded = StatusListSnapshots.write(directory, STATUS_LIST_ID,
+                new StatusListVersion(8, PUBLISHED_AT.plusSeconds(1)), json(8));
+
+        Path listDirectory = directory.resolve(BPN).resolve("revocation");
+        assertEquals(List.of(listDirectory.resolve("1.7.json"), listDirectory.resolve("1.7.json.gz")), superseded);
+        assertTrue(superseded.stream().allMatch(Files::exists));
+        assertArrayEquals(json(8), Files.readAllBytes(listDirectory.resolve("1")));
+        assertArrayEquals(json(8), gunzip(listDirectory.resolve("1.gz")));
+        try (var files = Files.list(listDirectory)) {
+            assertTrue(files.noneMatch(file -> file.getFileName().toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    void write_KeepsNewerSnapshot() throws IOException {
+        StatusListSnapshots.write(directory, STATUS_LIST_ID, new StatusListVersion(8, PUBLISHED_AT), json(8));
+
+        assertEquals(List.of(), StatusListSnapshots.write(directory, STATUS_LIST_ID,
+                new StatusListVersion(7, PUBLISHED_AT), json(7)));
+        assertEquals(List.of(), StatusListSnapshots.write(directory, STATUS_LIST_ID,
+                new StatusListVersion(8, PUBLISHED_AT), json(8)));
+
+        assertEquals(8, StatusListSnapshots.read(StatusListSnapshots.link(directory, STATUS_LIST_ID, false)).version());
+        assertTrue(Files.notExists(directory.resolve(BPN).resolve("revocation").resolve("1.7.json")));
+    }
+
+    @Test
+    void read_ReturnsNullWithoutSnapshot() throws IOException {
+        assertNull(StatusListSnapshots.read(StatusListSnapshots.link(directory, STATUS_LIST_ID, false)));
+
+        StatusListSnapshots.write(directory, STATUS_LIST_ID, new StatusListVersion(7, PUBLISHED_AT), json(7));
+        Files.delete(directory.resolve(BPN).resolve("revocation").resolve("1.7.json"));
+
+        assertNull(StatusListSnapshots.read(StatusListSnapshots.link(directory, STATUS_LIST_ID, false)));
+    }
+
+    private static byte[] json(long version) {
+        return ("{\"id\":\"" + STATUS_LIST_ID + "\",\"version\":" + version + "}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gunzip(Path file) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return in.readAllBytes();
+        }
+    }
+}